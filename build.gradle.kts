@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("maven-publish")
     id("signing")
+    id("me.champeau.jmh") version "0.7.1"
 }
 
 group = "com.bloogefest"
@@ -25,6 +26,59 @@ dependencies {
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.9.2")
 }
 
+val primitives = mapOf("Byte" to "byte", "Short" to "short", "Char" to "char", "Int" to "int", "Long" to "long",
+                       "Float" to "float", "Double" to "double")
+
+val wrappers = mapOf("Byte" to "Byte", "Short" to "Short", "Char" to "Character", "Int" to "Integer", "Long" to "Long",
+                     "Float" to "Float", "Double" to "Double")
+
+val generatePrimitives by tasks.registering(Sync::class) {
+    description = "Генерирует специализации для примитивных типов по шаблонам."
+    group = "build"
+
+    inputs.property("primitives", primitives)
+    inputs.property("wrappers", wrappers)
+
+    filteringCharset = "UTF-8"
+
+    into(layout.buildDirectory.dir("generated/sources/primitives/java/main"))
+
+    primitives.forEach { (type, name) ->
+        from("src/main/template") {
+            include("**/*.java.template")
+            rename("Type(.+)\\.java\\.template", "$type\$1.java")
+            filter { line: String ->
+                line.replace("\${Type}", type).replace("\${type}", name).replace("\${Wrapper}", wrappers.getValue(type))
+            }
+        }
+    }
+}
+
+val java22 = findProperty("java22")?.toString()?.toBoolean() ?: false
+
+sourceSets {
+    main {
+        java.srcDir(generatePrimitives)
+    }
+
+    if (java22) create("java22") {
+        java.srcDir("src/main/java22")
+
+        compileClasspath += main.get().output + main.get().compileClasspath
+    }
+}
+
+jmh {
+    jmhVersion.set("1.36")
+
+    jvmArgs.set(listOf("-Xms4g", "-Xmx4g"))
+
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+
+    findProperty("jmh.includes")?.let { includes.set(listOf(it.toString())) }
+}
+
 java {
     withSourcesJar()
     withJavadocJar()
@@ -123,8 +177,34 @@ tasks.getByName<Javadoc>("javadoc") {
 
 tasks.getByName<JavaCompile>("compileJava") {
     options.encoding = "UTF-8"
+    options.release.set(17)
+}
+
+if (java22) {
+    tasks.getByName<JavaCompile>("compileJava22Java") {
+        description = "Компилирует версии классов для Java 22 и выше раздела многоверсионного архива."
+
+        javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(22)) })
+
+        options.encoding = "UTF-8"
+        options.release.set(22)
+    }
+
+    tasks.getByName<Jar>("jar") {
+        into("META-INF/versions/22") {
+            from(sourceSets["java22"].output)
+        }
+
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
+    }
 }
 
 tasks.getByName<JavaCompile>("compileTestJava") {
     options.encoding = "UTF-8"
 }
+
+tasks.getByName<JavaCompile>("compileJmhJava") {
+    options.encoding = "UTF-8"
+}
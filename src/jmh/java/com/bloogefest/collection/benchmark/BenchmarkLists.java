@@ -0,0 +1,115 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.benchmark;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.AbstractMutableCollection;
+import com.bloogefest.collection.list.MutableArrayList;
+import com.bloogefest.collection.list.MutableLinkedList;
+import com.bloogefest.collection.lock.NoOpLock;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Фабрика заполненных списков для бенчмарков.
+ *
+ * @since 1.0.0-RC1
+ */
+final class BenchmarkLists {
+
+    /**
+     * Вместимость пула узлов {@linkplain MutableLinkedList изменяемого двусвязного списка}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final int POOL_CAPACITY = 256;
+
+    /**
+     * Не создаёт фабрику.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> fail")
+    private BenchmarkLists() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Создаёт и возвращает список переданного вида на основе инструмента для управления доступом переданной стратегии,
+     * заполненный элементами от {@code 0} до переданного размера.
+     *
+     * @param kind вид списка ({@code ARRAY} или {@code LINKED}).
+     * @param strategy стратегия управления доступом ({@code REENTRANT}, {@code NO_OP}, {@code READ_WRITE} или
+     * {@code STAMPED}).
+     * @param size размер.
+     *
+     * @return Заполненный список.
+     *
+     * @throws IllegalArgumentException исключение недопустимого аргумента (вида списка или стратегии).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _, _ -> new")
+    static @NotNull AbstractMutableCollection<Integer> create(final @NotNull String kind, final @NotNull String strategy,
+                                                              final int size) throws IllegalArgumentException {
+        final @NotNull var list = switch (kind) {
+            case "ARRAY" -> array(strategy, size);
+            case "LINKED" -> linked(strategy);
+            default -> throw new IllegalArgumentException("Unknown list kind: " + kind);
+        };
+        for (var index = 0; index < size; index++) {
+            if (list instanceof MutableArrayList<Integer> array) array.add(index);
+            else ((MutableLinkedList<Integer>) list).add(index);
+        }
+        return list;
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain MutableArrayList изменяемый список на основе расширяемого массива} переданной
+     * вместимости.
+     *
+     * @param strategy стратегия управления доступом.
+     * @param capacity вместимость.
+     *
+     * @return {@linkplain MutableArrayList Изменяемый список на основе расширяемого массива}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    private static @NotNull MutableArrayList<Integer> array(final @NotNull String strategy, final int capacity) {
+        return switch (strategy) {
+            case "REENTRANT" -> new MutableArrayList<>(capacity, new ReentrantLock(), false);
+            case "NO_OP" -> new MutableArrayList<>(capacity, NoOpLock.INSTANCE, false);
+            case "READ_WRITE" -> new MutableArrayList<>(capacity, new ReentrantReadWriteLock(), false);
+            case "STAMPED" -> new MutableArrayList<>(capacity, new StampedLock(), false);
+            default -> throw new IllegalArgumentException("Unknown lock strategy: " + strategy);
+        };
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain MutableLinkedList изменяемый двусвязный список}.
+     *
+     * @param strategy стратегия управления доступом.
+     *
+     * @return {@linkplain MutableLinkedList Изменяемый двусвязный список}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    private static @NotNull MutableLinkedList<Integer> linked(final @NotNull String strategy) {
+        return switch (strategy) {
+            case "REENTRANT" -> new MutableLinkedList<>(new ReentrantLock(), false, POOL_CAPACITY);
+            case "NO_OP" -> new MutableLinkedList<>(NoOpLock.INSTANCE, false, POOL_CAPACITY);
+            case "READ_WRITE" -> new MutableLinkedList<>(new ReentrantReadWriteLock(), false, POOL_CAPACITY);
+            case "STAMPED" -> new MutableLinkedList<>(new StampedLock(), false, POOL_CAPACITY);
+            default -> throw new IllegalArgumentException("Unknown lock strategy: " + strategy);
+        };
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.benchmark;
+
+import com.bloogefest.collection.function.IntChunkHandler;
+import com.bloogefest.collection.function.IntHandler;
+import com.bloogefest.collection.list.IntMutableArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк суммирования элементов {@linkplain IntMutableArrayList изменяемого списка элементов типа {@code int}}
+ * поэлементной {@linkplain IntMutableArrayList#iterate(IntHandler) итерацией} в сравнении с
+ * {@linkplain IntMutableArrayList#iterateChunks(IntChunkHandler, int) итерацией блоками}.
+ *
+ * @since 1.0.0-RC1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkBenchmark {
+
+    /**
+     * Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    /**
+     * Максимальное количество элементов блока.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"256", "4096", "2147483647"})
+    public int chunk;
+
+    /**
+     * Суммируемый список.
+     *
+     * @since 1.0.0-RC1
+     */
+    private IntMutableArrayList list;
+
+    /**
+     * Создаёт суммируемый список.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        list = new IntMutableArrayList(size);
+        for (var index = 0; index < size; index++) list.add(index);
+    }
+
+    /**
+     * Суммирует элементы поэлементной итерацией.
+     *
+     * @return Сумма элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public long element() {
+        final var sum = new long[1];
+        list.iterate((IntHandler) element -> sum[0] += element);
+        return sum[0];
+    }
+
+    /**
+     * Суммирует элементы итерацией блоками.
+     *
+     * @return Сумма элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public long chunked() {
+        final var sum = new long[1];
+        list.iterateChunks((elements, offset, length) -> {
+            var total = 0L;
+            for (var index = offset; index < offset + length; index++) total += elements[index];
+            sum[0] += total;
+        }, chunk);
+        return sum[0];
+    }
+
+}
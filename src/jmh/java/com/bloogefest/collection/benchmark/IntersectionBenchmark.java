@@ -0,0 +1,135 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.benchmark;
+
+import com.bloogefest.collection.set.RoaringIntSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк пересечения {@linkplain RoaringIntSet изменяемых сжатых множеств элементов типа {@code int}} в сравнении с
+ * {@linkplain HashSet#retainAll(java.util.Collection) пересечением} {@linkplain HashSet стандартных множеств}.
+ * Множества заполняются случайными элементами переданного диапазона, поэтому его отношение к количеству элементов
+ * определяет плотность контейнеров.
+ *
+ * @since 1.0.0-RC1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntersectionBenchmark {
+
+    /**
+     * Количество элементов каждого множества.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"10000", "1000000"})
+    public int size;
+
+    /**
+     * Диапазон элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"2000000", "2000000000"})
+    public int range;
+
+    /**
+     * Левое {@linkplain RoaringIntSet сжатое множество}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private RoaringIntSet left;
+
+    /**
+     * Правое {@linkplain RoaringIntSet сжатое множество}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private RoaringIntSet right;
+
+    /**
+     * Левое {@linkplain HashSet стандартное множество}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private HashSet<Integer> hashLeft;
+
+    /**
+     * Правое {@linkplain HashSet стандартное множество}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private HashSet<Integer> hashRight;
+
+    /**
+     * Создаёт пересекаемые множества.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new Random(42);
+        left = new RoaringIntSet();
+        right = new RoaringIntSet();
+        hashLeft = new HashSet<>();
+        hashRight = new HashSet<>();
+        for (var index = 0; index < size; index++) {
+            final var first = random.nextInt(range);
+            final var second = random.nextInt(range);
+            left.add(first);
+            right.add(second);
+            hashLeft.add(first);
+            hashRight.add(second);
+        }
+    }
+
+    /**
+     * Пересекает копию левого сжатого множества с правым.
+     *
+     * @return Количество элементов пересечения.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public long roaring() {
+        return new RoaringIntSet(left).and(right).cardinality();
+    }
+
+    /**
+     * Пересекает копию левого стандартного множества с правым.
+     *
+     * @return Количество элементов пересечения.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public long hash() {
+        final var intersection = new HashSet<>(hashLeft);
+        intersection.retainAll(hashRight);
+        return intersection.size();
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.benchmark;
+
+import com.bloogefest.collection.AbstractMutableCollection;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.common.function.Handler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк внутренней и внешней итерации списков в обоих
+ * {@linkplain SequentialIterationDirection направлениях последовательной итерации}.
+ *
+ * @since 1.0.0-RC1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IterationBenchmark {
+
+    /**
+     * Вид списка.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"ARRAY", "LINKED"})
+    public String kind;
+
+    /**
+     * {@linkplain SequentialIterationDirection Направление последовательной итерации}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"FORWARD", "BACKWARD"})
+    public SequentialIterationDirection direction;
+
+    /**
+     * Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    /**
+     * Итерируемый список.
+     *
+     * @since 1.0.0-RC1
+     */
+    private AbstractMutableCollection<Integer> list;
+
+    /**
+     * Создаёт итерируемый список на основе {@linkplain java.util.concurrent.locks.ReentrantLock повторно входимого
+     * инструмента для управления доступом}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        list = BenchmarkLists.create(kind, "REENTRANT", size);
+    }
+
+    /**
+     * Итерирует обработчик через {@linkplain AbstractMutableCollection#iterate(Handler, SequentialIterationDirection)
+     * внутреннюю итерацию}.
+     *
+     * @param blackhole поглотитель значений.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public void internal(final Blackhole blackhole) {
+        list.iterate((Handler<Integer>) blackhole::consume, direction);
+    }
+
+    /**
+     * Итерирует элементы через {@linkplain com.bloogefest.collection.iteration.iterator.MutableIterator итератор}
+     * без захвата инструмента для управления доступом.
+     *
+     * @param blackhole поглотитель значений.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public void iterator(final Blackhole blackhole) {
+        final var iterator = list.iterator(direction);
+        while (iterator.hasNext()) blackhole.consume(iterator.next().current());
+    }
+
+    /**
+     * Итерирует элементы через
+     * {@linkplain com.bloogefest.collection.iteration.iterator.ExternalIterator внешний итератор}.
+     *
+     * @param blackhole поглотитель значений.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public void external(final Blackhole blackhole) {
+        final var iterator = list.iterator(direction).external();
+        while (iterator.hasNext()) blackhole.consume(iterator.next());
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.benchmark;
+
+import com.bloogefest.collection.AbstractMutableCollection;
+import com.bloogefest.collection.list.MutableArrayList;
+import com.bloogefest.common.function.Handler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк стратегий управления доступом: {@linkplain java.util.concurrent.locks.ReentrantLock повторно входимого},
+ * {@linkplain com.bloogefest.collection.lock.NoOpLock пустого},
+ * {@linkplain java.util.concurrent.locks.ReentrantReadWriteLock разделённого на чтение и запись} и
+ * {@linkplain java.util.concurrent.locks.StampedLock штампованного} инструментов. Однопоточные замеры показывают
+ * накладные расходы захвата — один захват на проход или на каждый элемент, а групповой замер — масштабирование
+ * читателей при редкой записи.
+ *
+ * @since 1.0.0-RC1
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LockBenchmark {
+
+    /**
+     * Вид списка.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"ARRAY", "LINKED"})
+    public String kind;
+
+    /**
+     * Стратегия управления доступом.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"REENTRANT", "NO_OP", "READ_WRITE", "STAMPED"})
+    public String strategy;
+
+    /**
+     * Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    /**
+     * Итерируемый список.
+     *
+     * @since 1.0.0-RC1
+     */
+    private AbstractMutableCollection<Integer> list;
+
+    /**
+     * Параметр потокобезопасности текущей стратегии.
+     *
+     * @since 1.0.0-RC1
+     */
+    private boolean shared;
+
+    /**
+     * Создаёт итерируемый список на основе инструмента для управления доступом текущей стратегии.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        list = BenchmarkLists.create(kind, strategy, size);
+        shared = !"NO_OP".equals(strategy);
+    }
+
+    /**
+     * Итерирует обработчик через внутреннюю итерацию в одном потоке.
+     *
+     * @param blackhole поглотитель значений.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public void iterate(final Blackhole blackhole) {
+        list.iterate((Handler<Integer>) blackhole::consume);
+    }
+
+    /**
+     * Итерирует элементы через {@linkplain com.bloogefest.collection.iteration.iterator.ExternalIterator внешний
+     * итератор} в одном потоке, захватывая инструмент для управления доступом на каждом переходе.
+     *
+     * @param blackhole поглотитель значений.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public void external(final Blackhole blackhole) {
+        final var iterator = list.iterator().external();
+        while (iterator.hasNext()) blackhole.consume(iterator.next());
+    }
+
+    /**
+     * Получает элемент из середины списка. {@linkplain MutableArrayList Изменяемый список на основе расширяемого
+     * массива} получает его по индексу, а другие виды списка — переходами итератора под инструментом для управления
+     * доступом на чтение.
+     *
+     * @param blackhole поглотитель значений.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public void get(final Blackhole blackhole) {
+        if (list instanceof MutableArrayList<Integer> array) {
+            blackhole.consume(array.get(size >> 1));
+            return;
+        }
+        final var lock = list.readLock();
+        lock.lock();
+        try {
+            final var iterator = list.iterator();
+            for (var index = 0; index <= size >> 1; index++) iterator.next();
+            blackhole.consume(iterator.current());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Итерирует обработчик через внутреннюю итерацию в одном из семи потоков-читателей группы.
+     *
+     * @param blackhole поглотитель значений.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(7)
+    public void reader(final Blackhole blackhole) {
+        list.iterate((Handler<Integer>) blackhole::consume);
+    }
+
+    /**
+     * Вырезает и возвращает на место первый элемент в потоке-писателе группы. Составные операции итератора сами
+     * захватывают инструмент для управления доступом. Для {@linkplain com.bloogefest.collection.lock.NoOpLock пустого
+     * инструмента} ничего не делает, поскольку тот не защищает список от одновременных изменений.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void writer() {
+        if (!shared) return;
+        final var iterator = list.iterator();
+        iterator.next();
+        iterator.cut();
+        iterator.next();
+        iterator.paste();
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.benchmark;
+
+import com.bloogefest.collection.lock.NoOpLock;
+import com.bloogefest.collection.map.MutableHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Бенчмарк задержки поиска по ключу в {@linkplain MutableHashMap изменяемом отображении на основе хеш-таблицы} в
+ * сравнении с {@linkplain HashMap стандартным отображением}. Таблица заполняется до переданного коэффициента
+ * заполнения, после чего ищутся присутствующие и отсутствующие ключи.
+ *
+ * @since 1.0.0-RC1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+
+    /**
+     * Вид отображения ({@code HASH} — стандартное).
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"REENTRANT", "NO_OP", "STAMPED", "HASH"})
+    public String kind;
+
+    /**
+     * Коэффициент заполнения.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"0.5", "0.75", "0.875"})
+    public float loadFactor;
+
+    /**
+     * Размер таблицы.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"1024", "1048576"})
+    public int table;
+
+    /**
+     * {@linkplain MutableHashMap Изменяемое отображение на основе хеш-таблицы}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private MutableHashMap<Integer, Integer> map;
+
+    /**
+     * {@linkplain HashMap Стандартное отображение}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private HashMap<Integer, Integer> hash;
+
+    /**
+     * Присутствующие ключи.
+     *
+     * @since 1.0.0-RC1
+     */
+    private Integer[] hits;
+
+    /**
+     * Отсутствующие ключи.
+     *
+     * @since 1.0.0-RC1
+     */
+    private Integer[] misses;
+
+    /**
+     * Позиция следующего ключа.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int position;
+
+    /**
+     * Создаёт отображение, заполненное до {@linkplain #loadFactor коэффициента заполнения}, и ключи для поиска.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        final var size = (int) (table * loadFactor) - 1;
+        final var capacity = (int) (table * 0.9f);
+        switch (kind) {
+            case "REENTRANT" -> map = new MutableHashMap<>(capacity, 0.9f, new ReentrantLock());
+            case "NO_OP" -> map = new MutableHashMap<>(capacity, 0.9f, NoOpLock.INSTANCE);
+            case "STAMPED" -> map = new MutableHashMap<>(capacity, 0.9f, new StampedLock());
+            case "HASH" -> hash = new HashMap<>(table, 0.9f);
+            default -> throw new IllegalArgumentException("Unknown map kind: " + kind);
+        }
+        hits = new Integer[size];
+        misses = new Integer[size];
+        for (var index = 0; index < size; index++) {
+            final var key = index * 0x61C88647;
+            hits[index] = key;
+            misses[index] = key + 1;
+            if (map != null) map.put(key, index);
+            else hash.put(key, index);
+        }
+    }
+
+    /**
+     * Ищет следующий присутствующий ключ.
+     *
+     * @return Найденное значение.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public Integer hit() {
+        return get(hits);
+    }
+
+    /**
+     * Ищет следующий отсутствующий ключ.
+     *
+     * @return Нулевой объект.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public Integer miss() {
+        return get(misses);
+    }
+
+    /**
+     * Ищет следующий ключ из переданного массива.
+     *
+     * @param keys ключи.
+     *
+     * @return Найденное значение или нулевой объект.
+     *
+     * @since 1.0.0-RC1
+     */
+    private Integer get(final Integer[] keys) {
+        final var key = keys[position];
+        if (++position == keys.length) position = 0;
+        return map != null ? map.get(key) : hash.get(key);
+    }
+
+}
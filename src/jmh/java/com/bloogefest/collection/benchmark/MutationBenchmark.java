@@ -0,0 +1,130 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.benchmark;
+
+import com.bloogefest.collection.AbstractMutableCollection;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.iterator.MutableIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк изменений через {@linkplain MutableIterator итератор изменяемого}. Каждая операция вырезает текущий
+ * элемент и вставляет его обратно, поэтому размер списка не меняется между вызовами.
+ *
+ * @since 1.0.0-RC1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutationBenchmark {
+
+    /**
+     * Вид списка.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"ARRAY", "LINKED"})
+    public String kind;
+
+    /**
+     * Стратегия управления доступом.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"REENTRANT", "NO_OP"})
+    public String strategy;
+
+    /**
+     * {@linkplain SequentialIterationDirection Направление последовательной итерации}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"FORWARD", "BACKWARD"})
+    public SequentialIterationDirection direction;
+
+    /**
+     * Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    /**
+     * Изменяемый список.
+     *
+     * @since 1.0.0-RC1
+     */
+    private AbstractMutableCollection<Integer> list;
+
+    /**
+     * {@linkplain MutableIterator Итератор} изменяемого списка.
+     *
+     * @since 1.0.0-RC1
+     */
+    private MutableIterator<Integer> iterator;
+
+    /**
+     * Создаёт изменяемый список и его {@linkplain MutableIterator итератор}, установленный на первый элемент.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        list = BenchmarkLists.create(kind, strategy, size);
+        iterator = list.iterator(direction).first();
+    }
+
+    /**
+     * Вырезает текущий элемент и вставляет его перед следующим, после чего следующий элемент становится текущим. Если
+     * текущий элемент последний, сначала возвращается к первому.
+     *
+     * @return {@linkplain MutableIterator Итератор} изменяемого списка.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public MutableIterator<Integer> cutPaste() {
+        if (!iterator.hasNext()) iterator.first();
+        iterator.cut();
+        iterator.next();
+        return iterator.paste();
+    }
+
+    /**
+     * Меняет местами текущий элемент с кэшированным и переходит к следующему. Если текущий элемент последний, сначала
+     * возвращается к первому.
+     *
+     * @return {@linkplain MutableIterator Итератор} изменяемого списка.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Benchmark
+    public MutableIterator<Integer> swap() {
+        if (!iterator.hasNext()) iterator.first();
+        if (!iterator.hasCached()) iterator.cache();
+        iterator.swap();
+        return iterator.next();
+    }
+
+}
@@ -0,0 +1,13 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+/**
+ * Содержит бенчмарки итерации, управления доступом и изменений коллекций. Запускаются задачей {@code jmh}, результаты
+ * сохраняются в {@code build/reports/jmh/results.json}.
+ *
+ * @since 1.0.0-RC1
+ */
+package com.bloogefest.collection.benchmark;
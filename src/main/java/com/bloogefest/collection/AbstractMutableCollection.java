@@ -0,0 +1,386 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.collection.function.ChunkHandler;
+import com.bloogefest.collection.iteration.AbstractMutableIterable;
+import com.bloogefest.collection.iteration.ExternalIterable;
+import com.bloogefest.collection.iteration.MutableIterable;
+import com.bloogefest.collection.iteration.ParallelIterationTask;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.SequentialIterationException;
+import com.bloogefest.collection.iteration.iterator.MutableIterator;
+import com.bloogefest.collection.lock.NoOpLock;
+import com.bloogefest.common.function.Handler;
+import com.bloogefest.common.function.Predicate;
+import com.bloogefest.common.validation.NullException;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Абстрактная изменяемая коллекция, объединяющая {@linkplain MutableCollection изменяемую коллекцию} и
+ * {@linkplain MutableIterable изменяемое итерируемое}.
+ *
+ * @param <T> тип элемента.
+ *
+ * @see MutableCollection
+ * @see AbstractMutableIterable
+ * @since 1.0.0-RC1
+ */
+public abstract class AbstractMutableCollection<T> extends AbstractMutableIterable<T> implements MutableCollection<T> {
+
+    /**
+     * Создаёт {@linkplain AbstractMutableCollection абстрактную изменяемую коллекцию} на основе переданного
+     * {@linkplain Lock инструмента для управления доступом} и параметра поддержки нулевых элементов.
+     *
+     * @param lock {@linkplain Lock инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain Lock инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public AbstractMutableCollection(final @NotNull Lock lock, final boolean nullable) throws NullException {
+        super(lock, nullable);
+    }
+
+    /**
+     * Создаёт {@linkplain AbstractMutableCollection абстрактную изменяемую коллекцию} на основе
+     * {@linkplain NoOpLock пустого инструмента для управления доступом} и переданного параметра поддержки нулевых
+     * элементов. Предназначен для коллекций, доступ к которым ограничен одним потоком.
+     *
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @see NoOpLock
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    public AbstractMutableCollection(final boolean nullable) {
+        super(nullable);
+    }
+
+    /**
+     * Создаёт {@linkplain AbstractMutableCollection абстрактную изменяемую коллекцию} на основе переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом} и параметра поддержки нулевых
+     * элементов.
+     *
+     * @param lock {@linkplain StampedLock штампованный инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}).
+     * @see AbstractMutableIterable#AbstractMutableIterable(StampedLock, boolean)
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public AbstractMutableCollection(final @NotNull StampedLock lock, final boolean nullable) throws NullException {
+        super(lock, nullable);
+    }
+
+    /**
+     * Создаёт {@linkplain AbstractMutableCollection абстрактную изменяемую коллекцию} на основе переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись} и параметра поддержки нулевых
+     * элементов.
+     *
+     * @param lock {@linkplain ReadWriteLock инструмент для управления доступом на чтение и запись}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}).
+     * @see AbstractMutableIterable#AbstractMutableIterable(ReadWriteLock, boolean)
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public AbstractMutableCollection(final @NotNull ReadWriteLock lock, final boolean nullable) throws NullException {
+        super(lock, nullable);
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain Handler обработчик} в
+     * {@linkplain SequentialIterationDirection#DEFAULT направлении последовательной
+     * итерации по умолчанию}.
+     *
+     * @param handler {@linkplain Handler обработчик}.
+     *
+     * @return Текущая {@linkplain AbstractMutableCollection абстрактная изменяемая коллекция}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Handler обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull AbstractMutableCollection<T> iterate(
+            final @NotNull Handler<T> handler) throws NullException, SequentialIterationException {
+        iterate(handler, SequentialIterationDirection.DEFAULT);
+        return this;
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain Predicate предикат} в
+     * {@linkplain SequentialIterationDirection#DEFAULT направлении последовательной
+     * итерации по умолчанию}, пока тот возвращает истину.
+     *
+     * @param predicate {@linkplain Predicate предикат}.
+     *
+     * @return Текущая {@linkplain AbstractMutableCollection абстрактная изменяемая коллекция}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Predicate предиката}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull AbstractMutableCollection<T> iterate(
+            final @NotNull Predicate<T> predicate) throws NullException, SequentialIterationException {
+        iterate(predicate, SequentialIterationDirection.DEFAULT);
+        return this;
+    }
+
+    /**
+     * Параллельно итерирует переданный {@linkplain Handler обработчик} по диапазонам
+     * {@linkplain #spliterator() разделителя} текущей {@linkplain AbstractMutableCollection абстрактной изменяемой
+     * коллекции} с переданным уровнем параллелизма.
+     *
+     * @param handler {@linkplain Handler обработчик}.
+     * @param parallelism уровень параллелизма.
+     *
+     * @return Текущая {@linkplain AbstractMutableCollection абстрактная изменяемая коллекция}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Handler обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @see ParallelIterationTask#iterate(Spliterator, Handler, int)
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, _ -> this; _, _ -> fail")
+    public @NotNull AbstractMutableCollection<T> parallelIterate(final @NotNull Handler<T> handler,
+                                                                 final int parallelism) throws NullException, SequentialIterationException {
+        ParallelIterationTask.iterate(spliterator(), handler, parallelism);
+        return this;
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain ChunkHandler обработчик блоков}, передавая ему блоки не более
+     * чем из переданного количества элементов.
+     *
+     * @param handler {@linkplain ChunkHandler обработчик блоков}.
+     * @param size максимальное количество элементов блока.
+     *
+     * @return Текущая {@linkplain AbstractMutableCollection абстрактная изменяемая коллекция}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain ChunkHandler обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @see MutableIterable#iterateChunks(ChunkHandler, int)
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, _ -> this; _, _ -> fail")
+    public @NotNull AbstractMutableCollection<T> iterateChunks(final @NotNull ChunkHandler<T> handler,
+                                                               final int size) throws NullException, SequentialIterationException {
+        super.iterateChunks(handler, size);
+        return this;
+    }
+
+    /**
+     * Последовательно удаляет элементы, для которых переданный {@linkplain Predicate предикат} возвращает истину, за
+     * один захват {@linkplain #lock() инструмента для управления доступом}.
+     *
+     * @param predicate {@linkplain Predicate предикат}.
+     *
+     * @return Текущая {@linkplain AbstractMutableCollection абстрактная изменяемая коллекция}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Predicate предиката}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @see MutableIterable#removeIf(Predicate)
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull AbstractMutableCollection<T> removeIf(
+            final @NotNull Predicate<T> predicate) throws NullException, SequentialIterationException {
+        super.removeIf(predicate);
+        return this;
+    }
+
+    /**
+     * Последовательно заменяет каждый элемент результатом переданного {@linkplain UnaryOperator оператора} за один
+     * захват {@linkplain #lock() инструмента для управления доступом}.
+     *
+     * @param operator {@linkplain UnaryOperator оператор}.
+     *
+     * @return Текущая {@linkplain AbstractMutableCollection абстрактная изменяемая коллекция}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain UnaryOperator оператора}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @see MutableIterable#replaceAll(UnaryOperator)
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull AbstractMutableCollection<T> replaceAll(
+            final @NotNull UnaryOperator<T> operator) throws NullException, SequentialIterationException {
+        super.replaceAll(operator);
+        return this;
+    }
+
+    /**
+     * Последовательно удаляет элементы, которые не {@linkplain ImmutableCollection#contains(Object) содержатся} в
+     * переданной {@linkplain ImmutableCollection неизменяемой коллекции}, через {@linkplain #removeIf(Predicate)}.
+     *
+     * @param collection {@linkplain ImmutableCollection неизменяемая коллекция}.
+     *
+     * @return Текущая {@linkplain AbstractMutableCollection абстрактная изменяемая коллекция}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданной
+     * {@linkplain ImmutableCollection неизменяемой коллекции}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @see MutableIterable#retainAll(ImmutableCollection)
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull AbstractMutableCollection<T> retainAll(
+            final @NotNull ImmutableCollection<? super T> collection) throws NullException, SequentialIterationException {
+        super.retainAll(collection);
+        return this;
+    }
+
+    /**
+     * Последовательно сравнивает переданный элемент с каждым элементом текущей
+     * {@linkplain AbstractMutableCollection абстрактной изменяемой коллекции} под
+     * {@linkplain #readLock() инструментом для управления доступом на чтение}.
+     *
+     * @param element элемент.
+     *
+     * @return Содержится ли переданный элемент.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public boolean contains(final @Nullable T element) throws CollectionException {
+        final @NotNull var lock = readLock();
+        final @NotNull var iterator = iterator();
+        try {
+            lock.lockInterruptibly();
+            while (iterator.hasNext()) if (Objects.equals(iterator.next().current(), element)) return true;
+            return false;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Устанавливает параметр генерации исключений итераторов без трассировки стека. Действует на итераторы, созданные
+     * после установки. Возвращает текущую {@linkplain AbstractMutableCollection абстрактную изменяемую коллекцию}.
+     *
+     * @param stackless параметр генерации исключений итераторов без трассировки стека.
+     *
+     * @return Текущая {@linkplain AbstractMutableCollection абстрактная изменяемая коллекция}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("_ -> this")
+    public @NotNull AbstractMutableCollection<T> stackless(final boolean stackless) {
+        super.stackless(stackless);
+        return this;
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain MutableIterator итератор} текущей
+     * {@linkplain AbstractMutableCollection абстрактной изменяемой коллекции} в
+     * {@linkplain SequentialIterationDirection#DEFAULT направлении последовательной
+     * итерации по умолчанию}.
+     *
+     * @return {@linkplain MutableIterator Итератор} текущей
+     * {@linkplain AbstractMutableCollection абстрактной изменяемой коллекции}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull MutableIterator<T> iterator() {
+        return iterator(SequentialIterationDirection.DEFAULT);
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain ExternalIterable внешнее итерируемое} на основе текущей
+     * {@linkplain AbstractMutableCollection абстрактной изменяемой коллекции}.
+     *
+     * @return {@linkplain ExternalIterable Внешнее итерируемое} на основе текущей
+     * {@linkplain AbstractMutableCollection абстрактной изменяемой коллекции}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull ExternalIterable<T> external() {
+        return ExternalIterable.of(() -> iterator().external(), this::spliterator);
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain Spliterator разделитель} снимка элементов текущей
+     * {@linkplain AbstractMutableCollection абстрактной изменяемой коллекции}. Элементы копируются
+     * {@linkplain #iterator() итератором} под {@linkplain #readLock() инструментом для управления доступом на чтение},
+     * после чего разделитель делится пополам без захвата инструмента, поэтому изменения коллекции во время его обхода
+     * не влияют на обходимые элементы.
+     *
+     * @return {@linkplain Spliterator Разделитель} снимка элементов текущей
+     * {@linkplain AbstractMutableCollection абстрактной изменяемой коллекции}.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> new")
+    @SuppressWarnings("unchecked")
+    public @NotNull Spliterator<T> spliterator() throws CollectionException {
+        final @NotNull var lock = readLock();
+        try {
+            lock.lockInterruptibly();
+            final var elements = new Object[size()];
+            final @NotNull var iterator = iterator();
+            var count = 0;
+            while (count < elements.length && iterator.hasNext()) elements[count++] = iterator.next().current();
+            final var nonnull = nullable() ? 0 : Spliterator.NONNULL;
+            final var characteristics = Spliterator.ORDERED | Spliterator.IMMUTABLE | nonnull;
+            return (Spliterator<T>) Spliterators.spliterator(elements, 0, count, characteristics);
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает параметр изменяемости.
+     *
+     * @return Параметр изменяемости.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> true")
+    public boolean mutable() {
+        return true;
+    }
+
+}
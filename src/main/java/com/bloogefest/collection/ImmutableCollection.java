@@ -8,13 +8,23 @@ package com.bloogefest.collection;
 
 import com.bloogefest.annotation.analysis.Contract;
 import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
 import com.bloogefest.annotation.analysis.Range;
+import com.bloogefest.collection.iteration.ExternalIterable;
+import com.bloogefest.collection.iteration.ParallelIterationTask;
+import com.bloogefest.collection.iteration.SequentialIterationException;
 import com.bloogefest.collection.iteration.iterator.ImmutableIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorSpliterator;
 import com.bloogefest.common.function.Handler;
 import com.bloogefest.common.function.Predicate;
 import com.bloogefest.common.validation.NullException;
 import com.bloogefest.common.validation.Validator;
 
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Неизменяемая коллекция.
  *
@@ -58,6 +68,41 @@ public interface ImmutableCollection<T> {
         return this;
     }
 
+    /**
+     * Параллельно итерирует переданный обработчик по диапазонам разделителя текущей коллекции с переданным уровнем
+     * параллелизма. Порядок вызовов обработчика не определён.
+     *
+     * @param handler обработчик.
+     * @param parallelism уровень параллелизма.
+     *
+     * @return Текущая коллекция.
+     *
+     * @throws NullException исключение проверки нулевого объекта (обработчика).
+     * @throws SequentialIterationException исключение последовательной итерации (первой ошибки, остальные подавлены).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> this; _, _ -> fail")
+    default @NotNull ImmutableCollection<T> parallelIterate(final @NotNull Handler<T> handler,
+                                                            final int parallelism) throws NullException, SequentialIterationException {
+        ParallelIterationTask.iterate(spliterator(), handler, parallelism);
+        return this;
+    }
+
+    /**
+     * Проверяет, содержится ли переданный элемент в текущей коллекции. По умолчанию последовательно сравнивает
+     * переданный элемент с каждым элементом коллекции.
+     *
+     * @param element элемент.
+     *
+     * @return Содержится ли переданный элемент.
+     *
+     * @since 1.0.0-RC1
+     */
+    default boolean contains(final @Nullable T element) {
+        for (final var candidate : external()) if (Objects.equals(candidate, element)) return true;
+        return false;
+    }
+
     /**
      * Создаёт неизменяемый итератор.
      *
@@ -77,7 +122,49 @@ public interface ImmutableCollection<T> {
      */
     @Contract("-> new")
     default @NotNull Iterable<T> external() {
-        return iterator()::external;
+        return ExternalIterable.of(() -> iterator().external(), this::spliterator);
+    }
+
+    /**
+     * Создаёт разделитель текущего размера на основе неизменяемого итератора. Характеристики {@link Spliterator#SIZED},
+     * {@link Spliterator#SUBSIZED}, {@link Spliterator#ORDERED}, {@link Spliterator#NONNULL} и
+     * {@link Spliterator#IMMUTABLE} выводятся из {@linkplain #size() размера},
+     * {@linkplain #nullable() параметра поддержки нулевых элементов} и {@linkplain #mutable() параметра изменяемости}.
+     *
+     * @return Разделитель.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    default @NotNull Spliterator<T> spliterator() {
+        final var characteristics = Spliterator.SIZED | Spliterator.SUBSIZED | (mutable() ? 0 : Spliterator.IMMUTABLE);
+        return new IteratorSpliterator<>(iterator(), size(), characteristics);
+    }
+
+    /**
+     * Создаёт последовательный поток на основе {@linkplain #spliterator() разделителя} текущей коллекции без
+     * копирования элементов.
+     *
+     * @return Последовательный поток.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    default @NotNull Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Создаёт параллельный поток на основе {@linkplain #spliterator() разделителя} текущей коллекции без копирования
+     * элементов.
+     *
+     * @return Параллельный поток.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    default @NotNull Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
     }
 
     /**
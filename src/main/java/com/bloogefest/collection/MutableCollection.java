@@ -9,12 +9,16 @@ package com.bloogefest.collection;
 import com.bloogefest.annotation.analysis.Contract;
 import com.bloogefest.annotation.analysis.NotNull;
 import com.bloogefest.annotation.analysis.Range;
+import com.bloogefest.collection.iteration.ExternalIterable;
+import com.bloogefest.collection.iteration.SequentialIterationException;
 import com.bloogefest.collection.iteration.iterator.MutableIterator;
 import com.bloogefest.common.function.Handler;
 import com.bloogefest.common.function.Predicate;
 import com.bloogefest.common.validation.NullException;
 import com.bloogefest.common.validation.Validator;
 
+import java.util.function.UnaryOperator;
+
 /**
  * Изменяемая коллекция.
  *
@@ -59,6 +63,103 @@ public interface MutableCollection<E> extends ImmutableCollection<E> {
         return this;
     }
 
+    /**
+     * Параллельно итерирует обработчик по всей коллекции с переданным уровнем параллелизма.
+     *
+     * @param handler обработчик.
+     * @param parallelism уровень параллелизма.
+     *
+     * @return Текущая коллекция.
+     *
+     * @throws NullException обработчик не должен быть нулевым.
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract(value = "_, _ -> this")
+    default @NotNull MutableCollection<E> parallelIterate(final @NotNull Handler<E> handler,
+                                                          final int parallelism) throws NullException, SequentialIterationException {
+        ImmutableCollection.super.parallelIterate(handler, parallelism);
+        return this;
+    }
+
+    /**
+     * Удаляет элементы, для которых переданный предикат возвращает истину, за один захват инструмента для управления
+     * доступом итератора.
+     *
+     * @param predicate предикат.
+     *
+     * @return Текущая коллекция.
+     *
+     * @throws NullException предикат не должен быть нулевым.
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Contract(value = "_ -> this")
+    default @NotNull MutableCollection<E> removeIf(
+            final @NotNull Predicate<E> predicate) throws NullException, SequentialIterationException {
+        Validator.notNull(predicate, "predicate");
+        final @NotNull var iterator = iterator();
+        final @NotNull var lock = iterator.lock();
+        try {
+            lock.lockInterruptibly();
+            while (iterator.hasNext()) if (predicate.evaluate(iterator.next().current())) iterator.delete();
+            return this;
+        } catch (final Throwable failure) {
+            throw new SequentialIterationException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Заменяет каждый элемент результатом переданного оператора за один захват инструмента для управления доступом
+     * итератора.
+     *
+     * @param operator оператор.
+     *
+     * @return Текущая коллекция.
+     *
+     * @throws NullException оператор не должен быть нулевым.
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Contract(value = "_ -> this")
+    default @NotNull MutableCollection<E> replaceAll(
+            final @NotNull UnaryOperator<E> operator) throws NullException, SequentialIterationException {
+        Validator.notNull(operator, "operator");
+        final @NotNull var iterator = iterator();
+        final @NotNull var lock = iterator.lock();
+        try {
+            lock.lockInterruptibly();
+            while (iterator.hasNext()) iterator.change(operator.apply(iterator.next().current()));
+            return this;
+        } catch (final Throwable failure) {
+            throw new SequentialIterationException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет элементы, которые не содержатся в переданной коллекции.
+     *
+     * @param collection коллекция.
+     *
+     * @return Текущая коллекция.
+     *
+     * @throws NullException коллекция не должна быть нулевой.
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Contract(value = "_ -> this")
+    default @NotNull MutableCollection<E> retainAll(
+            final @NotNull ImmutableCollection<? super E> collection) throws NullException, SequentialIterationException {
+        Validator.notNull(collection, "collection");
+        if (collection == this) return this;
+        return removeIf(element -> !collection.contains(element));
+    }
+
     /**
      * Создаёт изменяемый итератор.
      *
@@ -80,7 +181,7 @@ public interface MutableCollection<E> extends ImmutableCollection<E> {
     @Override
     @Contract(value = "-> new")
     default @NotNull Iterable<E> external() {
-        return iterator()::external;
+        return ExternalIterable.of(() -> iterator().external(), this::spliterator);
     }
 
     /**
@@ -0,0 +1,37 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.function;
+
+import com.bloogefest.annotation.analysis.NotNull;
+
+/**
+ * Обработчик непрерывных блоков элементов. Принимает массив и диапазон в нём, поэтому обработка блока выполняется
+ * одним плотным циклом без вызова интерфейса на каждый элемент.
+ * <p>
+ * Массив может быть как внутренним массивом коллекции, так и повторно используемым буфером, поэтому его не следует
+ * изменять и сохранять после возврата из {@linkplain #handle(Object[], int, int) обработки}. Элементы массива
+ * передаются без приведения к типу {@code T}, поскольку он может быть создан без сведений о типе элемента.
+ *
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+@FunctionalInterface
+public interface ChunkHandler<T> {
+
+    /**
+     * Обрабатывает блок из переданного количества элементов переданного массива, начиная с переданного смещения.
+     *
+     * @param elements массив элементов.
+     * @param offset смещение первого элемента блока.
+     * @param length количество элементов блока.
+     *
+     * @since 1.0.0-RC1
+     */
+    void handle(final @NotNull Object[] elements, final int offset, final int length);
+
+}
@@ -0,0 +1,458 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.io;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.CollectionException;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Вспомогательные операции {@linkplain ByteBuffer буферов} для двоичного представления коллекций: кодирование
+ * элементов с расширением буфера, сброс и заполнение буферов через каналы, а также пакетная запись и чтение массивов
+ * элементов примитивных типов без упаковки.
+ *
+ * @since 1.0.0-RC1
+ */
+final class Buffers {
+
+    /**
+     * Создание запрещено.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> fail")
+    private Buffers() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Кодирует переданный элемент переданным {@linkplain ElementCodec кодеком} в переданный
+     * {@linkplain ByteBuffer буфер элемента}, удваивая буфер при переполнении. Возвращает подготовленный для чтения
+     * буфер элемента, возможно новый.
+     *
+     * @param codec {@linkplain ElementCodec кодек элемента}.
+     * @param element элемент.
+     * @param record {@linkplain ByteBuffer буфер элемента}.
+     * @param <T> тип элемента.
+     *
+     * @return Подготовленный для чтения {@linkplain ByteBuffer буфер элемента}.
+     *
+     * @throws CollectionException исключение коллекции (превышения максимального размера элемента).
+     * @since 1.0.0-RC1
+     */
+    static <T> @NotNull ByteBuffer encode(final @NotNull ElementCodec<? super T> codec, final @NotNull T element,
+                                          final @NotNull ByteBuffer record) throws CollectionException {
+        var buffer = record;
+        while (true) {
+            try {
+                codec.encode(element, buffer.clear());
+                return buffer.flip();
+            } catch (final @NotNull BufferOverflowException failure) {
+                if (buffer.capacity() > Integer.MAX_VALUE >> 1)
+                    throw new CollectionException("Maximum element size exceeded");
+                buffer = ByteBuffer.allocate(buffer.capacity() << 1);
+            }
+        }
+    }
+
+    /**
+     * Сбрасывает записанные байты переданного {@linkplain ByteBuffer буфера записи} в переданный
+     * {@linkplain WritableByteChannel канал} и очищает буфер.
+     *
+     * @param channel {@linkplain WritableByteChannel канал}.
+     * @param output {@linkplain ByteBuffer буфер записи}.
+     *
+     * @throws IOException исключение ввода-вывода.
+     * @since 1.0.0-RC1
+     */
+    static void flush(final @NotNull WritableByteChannel channel, final @NotNull ByteBuffer output) throws IOException {
+        output.flip();
+        drain(channel, output);
+        output.clear();
+    }
+
+    /**
+     * Записывает все оставшиеся байты переданного {@linkplain ByteBuffer буфера} в переданный
+     * {@linkplain WritableByteChannel канал}.
+     *
+     * @param channel {@linkplain WritableByteChannel канал}.
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     *
+     * @throws IOException исключение ввода-вывода.
+     * @since 1.0.0-RC1
+     */
+    static void drain(final @NotNull WritableByteChannel channel, final @NotNull ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+
+    /**
+     * Переносит оставшиеся байты переданного {@linkplain ByteBuffer буфера элемента} в переданный
+     * {@linkplain ByteBuffer буфер записи}, сбрасывая его в переданный {@linkplain WritableByteChannel канал} по
+     * заполнении.
+     *
+     * @param channel {@linkplain WritableByteChannel канал}.
+     * @param output {@linkplain ByteBuffer буфер записи}.
+     * @param record {@linkplain ByteBuffer буфер элемента}.
+     *
+     * @throws IOException исключение ввода-вывода.
+     * @since 1.0.0-RC1
+     */
+    static void write(final @NotNull WritableByteChannel channel, final @NotNull ByteBuffer output,
+                      final @NotNull ByteBuffer record) throws IOException {
+        while (record.hasRemaining()) {
+            if (!output.hasRemaining()) flush(channel, output);
+            final var length = Math.min(output.remaining(), record.remaining());
+            output.put(output.position(), record, record.position(), length);
+            output.position(output.position() + length);
+            record.position(record.position() + length);
+        }
+    }
+
+    /**
+     * Дочитывает из переданного {@linkplain ReadableByteChannel канала} в переданный
+     * {@linkplain ByteBuffer буфер чтения}, пока в нём не останется не менее переданного количества байтов, расширяя
+     * буфер при необходимости. Возвращает буфер чтения, возможно новый.
+     *
+     * @param channel {@linkplain ReadableByteChannel канал}.
+     * @param input {@linkplain ByteBuffer буфер чтения}.
+     * @param length количество байтов.
+     *
+     * @return {@linkplain ByteBuffer Буфер чтения}, содержащий не менее переданного количества байтов.
+     *
+     * @throws IOException исключение ввода-вывода.
+     * @throws CollectionException исключение коллекции (неожиданного конца канала).
+     * @since 1.0.0-RC1
+     */
+    static @NotNull ByteBuffer require(final @NotNull ReadableByteChannel channel, final @NotNull ByteBuffer input,
+                                       final int length) throws IOException, CollectionException {
+        if (input.remaining() >= length) return input;
+        final var buffer = input.capacity() < length ? ByteBuffer.allocate(length).put(input) : input.compact();
+        while (buffer.position() < length)
+            if (channel.read(buffer) < 0) throw new CollectionException("Unexpected end of stream");
+        return buffer.flip();
+    }
+
+    /**
+     * Возвращает размер элемента типа {@code byte} в байтах.
+     *
+     * @param elements массив элементов.
+     *
+     * @return Размер элемента в байтах.
+     *
+     * @since 1.0.0-RC1
+     */
+    static int width(final byte @NotNull [] elements) {
+        return Byte.BYTES;
+    }
+
+    /**
+     * Возвращает размер элемента типа {@code short} в байтах.
+     *
+     * @param elements массив элементов.
+     *
+     * @return Размер элемента в байтах.
+     *
+     * @since 1.0.0-RC1
+     */
+    static int width(final short @NotNull [] elements) {
+        return Short.BYTES;
+    }
+
+    /**
+     * Возвращает размер элемента типа {@code char} в байтах.
+     *
+     * @param elements массив элементов.
+     *
+     * @return Размер элемента в байтах.
+     *
+     * @since 1.0.0-RC1
+     */
+    static int width(final char @NotNull [] elements) {
+        return Character.BYTES;
+    }
+
+    /**
+     * Возвращает размер элемента типа {@code int} в байтах.
+     *
+     * @param elements массив элементов.
+     *
+     * @return Размер элемента в байтах.
+     *
+     * @since 1.0.0-RC1
+     */
+    static int width(final int @NotNull [] elements) {
+        return Integer.BYTES;
+    }
+
+    /**
+     * Возвращает размер элемента типа {@code long} в байтах.
+     *
+     * @param elements массив элементов.
+     *
+     * @return Размер элемента в байтах.
+     *
+     * @since 1.0.0-RC1
+     */
+    static int width(final long @NotNull [] elements) {
+        return Long.BYTES;
+    }
+
+    /**
+     * Возвращает размер элемента типа {@code float} в байтах.
+     *
+     * @param elements массив элементов.
+     *
+     * @return Размер элемента в байтах.
+     *
+     * @since 1.0.0-RC1
+     */
+    static int width(final float @NotNull [] elements) {
+        return Float.BYTES;
+    }
+
+    /**
+     * Возвращает размер элемента типа {@code double} в байтах.
+     *
+     * @param elements массив элементов.
+     *
+     * @return Размер элемента в байтах.
+     *
+     * @since 1.0.0-RC1
+     */
+    static int width(final double @NotNull [] elements) {
+        return Double.BYTES;
+    }
+
+    /**
+     * Пакетно записывает диапазон переданного массива элементов типа {@code byte} в переданный
+     * {@linkplain ByteBuffer буфер}, продвигая его позицию.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param offset смещение.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void put(final @NotNull ByteBuffer buffer, final byte @NotNull [] elements, final int offset,
+                    final int length) {
+        buffer.put(elements, offset, length);
+    }
+
+    /**
+     * Пакетно записывает диапазон переданного массива элементов типа {@code short} в переданный
+     * {@linkplain ByteBuffer буфер}, продвигая его позицию.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param offset смещение.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void put(final @NotNull ByteBuffer buffer, final short @NotNull [] elements, final int offset,
+                    final int length) {
+        buffer.asShortBuffer().put(elements, offset, length);
+        buffer.position(buffer.position() + length * Short.BYTES);
+    }
+
+    /**
+     * Пакетно записывает диапазон переданного массива элементов типа {@code char} в переданный
+     * {@linkplain ByteBuffer буфер}, продвигая его позицию.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param offset смещение.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void put(final @NotNull ByteBuffer buffer, final char @NotNull [] elements, final int offset,
+                    final int length) {
+        buffer.asCharBuffer().put(elements, offset, length);
+        buffer.position(buffer.position() + length * Character.BYTES);
+    }
+
+    /**
+     * Пакетно записывает диапазон переданного массива элементов типа {@code int} в переданный
+     * {@linkplain ByteBuffer буфер}, продвигая его позицию.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param offset смещение.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void put(final @NotNull ByteBuffer buffer, final int @NotNull [] elements, final int offset,
+                    final int length) {
+        buffer.asIntBuffer().put(elements, offset, length);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+    }
+
+    /**
+     * Пакетно записывает диапазон переданного массива элементов типа {@code long} в переданный
+     * {@linkplain ByteBuffer буфер}, продвигая его позицию.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param offset смещение.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void put(final @NotNull ByteBuffer buffer, final long @NotNull [] elements, final int offset,
+                    final int length) {
+        buffer.asLongBuffer().put(elements, offset, length);
+        buffer.position(buffer.position() + length * Long.BYTES);
+    }
+
+    /**
+     * Пакетно записывает диапазон переданного массива элементов типа {@code float} в переданный
+     * {@linkplain ByteBuffer буфер}, продвигая его позицию.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param offset смещение.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void put(final @NotNull ByteBuffer buffer, final float @NotNull [] elements, final int offset,
+                    final int length) {
+        buffer.asFloatBuffer().put(elements, offset, length);
+        buffer.position(buffer.position() + length * Float.BYTES);
+    }
+
+    /**
+     * Пакетно записывает диапазон переданного массива элементов типа {@code double} в переданный
+     * {@linkplain ByteBuffer буфер}, продвигая его позицию.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param offset смещение.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void put(final @NotNull ByteBuffer buffer, final double @NotNull [] elements, final int offset,
+                    final int length) {
+        buffer.asDoubleBuffer().put(elements, offset, length);
+        buffer.position(buffer.position() + length * Double.BYTES);
+    }
+
+    /**
+     * Пакетно читает переданное количество элементов типа {@code byte} из переданного {@linkplain ByteBuffer буфера}
+     * в начало переданного массива, продвигая позицию буфера.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void get(final @NotNull ByteBuffer buffer, final byte @NotNull [] elements, final int length) {
+        buffer.get(elements, 0, length);
+    }
+
+    /**
+     * Пакетно читает переданное количество элементов типа {@code short} из переданного {@linkplain ByteBuffer буфера}
+     * в начало переданного массива, продвигая позицию буфера.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void get(final @NotNull ByteBuffer buffer, final short @NotNull [] elements, final int length) {
+        buffer.asShortBuffer().get(elements, 0, length);
+        buffer.position(buffer.position() + length * Short.BYTES);
+    }
+
+    /**
+     * Пакетно читает переданное количество элементов типа {@code char} из переданного {@linkplain ByteBuffer буфера}
+     * в начало переданного массива, продвигая позицию буфера.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void get(final @NotNull ByteBuffer buffer, final char @NotNull [] elements, final int length) {
+        buffer.asCharBuffer().get(elements, 0, length);
+        buffer.position(buffer.position() + length * Character.BYTES);
+    }
+
+    /**
+     * Пакетно читает переданное количество элементов типа {@code int} из переданного {@linkplain ByteBuffer буфера} в
+     * начало переданного массива, продвигая позицию буфера.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void get(final @NotNull ByteBuffer buffer, final int @NotNull [] elements, final int length) {
+        buffer.asIntBuffer().get(elements, 0, length);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+    }
+
+    /**
+     * Пакетно читает переданное количество элементов типа {@code long} из переданного {@linkplain ByteBuffer буфера}
+     * в начало переданного массива, продвигая позицию буфера.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void get(final @NotNull ByteBuffer buffer, final long @NotNull [] elements, final int length) {
+        buffer.asLongBuffer().get(elements, 0, length);
+        buffer.position(buffer.position() + length * Long.BYTES);
+    }
+
+    /**
+     * Пакетно читает переданное количество элементов типа {@code float} из переданного {@linkplain ByteBuffer буфера}
+     * в начало переданного массива, продвигая позицию буфера.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void get(final @NotNull ByteBuffer buffer, final float @NotNull [] elements, final int length) {
+        buffer.asFloatBuffer().get(elements, 0, length);
+        buffer.position(buffer.position() + length * Float.BYTES);
+    }
+
+    /**
+     * Пакетно читает переданное количество элементов типа {@code double} из переданного
+     * {@linkplain ByteBuffer буфера} в начало переданного массива, продвигая позицию буфера.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     * @param elements массив элементов.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    static void get(final @NotNull ByteBuffer buffer, final double @NotNull [] elements, final int length) {
+        buffer.asDoubleBuffer().get(elements, 0, length);
+        buffer.position(buffer.position() + length * Double.BYTES);
+    }
+
+}
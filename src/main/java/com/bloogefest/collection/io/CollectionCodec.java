@@ -0,0 +1,248 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.io;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.CollectionException;
+import com.bloogefest.collection.iteration.ImmutableIterable;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.list.MutableArrayList;
+import com.bloogefest.common.function.Handler;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Потоковый кодек коллекции — записывает элементы любого {@linkplain ImmutableIterable неизменяемого итерируемого} в
+ * {@linkplain WritableByteChannel канал} в компактном двоичном формате и читает их обратно, кодируя каждый элемент
+ * переданным {@linkplain ElementCodec кодеком элемента}.
+ * <p>
+ * Формат (целые числа в порядке от старшего байта к младшему): {@linkplain #MAGIC сигнатура} и
+ * {@linkplain #VERSION версия}, затем блоки из количества элементов и элементов, каждый из которых предваряется своей
+ * длиной, и пустой блок в конце. Блоки соответствуют заполнению {@linkplain ByteBuffer буфера записи}, поэтому
+ * запись не требует заранее известного размера и не удерживает все элементы в памяти. Нулевые элементы не
+ * поддерживаются.
+ *
+ * @param <T> тип элемента.
+ *
+ * @see ElementCodec
+ * @since 1.0.0-RC1
+ */
+public class CollectionCodec<T> {
+
+    /**
+     * Сигнатура потока ({@code BFSC}).
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int MAGIC = 0x42465343;
+
+    /**
+     * Версия формата потока.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Размер буфера по умолчанию.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /**
+     * Минимальный размер буфера.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int MIN_CAPACITY = 64;
+
+    /**
+     * {@linkplain ElementCodec Кодек элемента}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull ElementCodec<T> codec;
+
+    /**
+     * Размер буферов записи и чтения.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final int capacity;
+
+    /**
+     * Создаёт {@linkplain CollectionCodec потоковый кодек коллекции} на основе переданного
+     * {@linkplain ElementCodec кодека элемента} и {@linkplain #DEFAULT_CAPACITY размера буфера по умолчанию}.
+     *
+     * @param codec {@linkplain ElementCodec кодек элемента}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain ElementCodec кодека}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    public CollectionCodec(final @NotNull ElementCodec<T> codec) throws NullException {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создаёт {@linkplain CollectionCodec потоковый кодек коллекции} на основе переданных
+     * {@linkplain ElementCodec кодека элемента} и размера буферов записи и чтения.
+     *
+     * @param codec {@linkplain ElementCodec кодек элемента}.
+     * @param capacity размер буферов записи и чтения.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain ElementCodec кодека}).
+     * @throws CollectionException исключение коллекции (размера буфера меньше {@linkplain #MIN_CAPACITY минимального}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public CollectionCodec(final @NotNull ElementCodec<T> codec,
+                           final int capacity) throws NullException, CollectionException {
+        if (capacity < MIN_CAPACITY) throw new CollectionException("Illegal capacity: " + capacity);
+        this.codec = Validator.notNull(codec, "The codec");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Записывает элементы переданного {@linkplain ImmutableIterable неизменяемого итерируемого} в переданный
+     * {@linkplain WritableByteChannel канал}. Элементы итерируются в
+     * {@linkplain SequentialIterationDirection#DEFAULT направлении последовательной итерации по умолчанию} под
+     * {@linkplain ImmutableIterable#readLock() инструментом для управления доступом на чтение}. Канал не закрывается.
+     *
+     * @param iterable {@linkplain ImmutableIterable неизменяемое итерируемое}.
+     * @param channel {@linkplain WritableByteChannel канал}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ImmutableIterable итерируемого}, {@linkplain WritableByteChannel канала} или элемента).
+     * @throws CollectionException исключение коллекции (в том числе ошибки ввода-вывода).
+     * @since 1.0.0-RC1
+     */
+    public void write(final @NotNull ImmutableIterable<? extends T> iterable,
+                      final @NotNull WritableByteChannel channel) throws NullException, CollectionException {
+        Validator.notNull(iterable, "The iterable");
+        Validator.notNull(channel, "The channel");
+        final @NotNull var lock = iterable.readLock();
+        try {
+            final var output = ByteBuffer.allocateDirect(capacity);
+            Buffers.flush(channel, output.putInt(MAGIC).putInt(VERSION));
+            output.position(Integer.BYTES);
+            var record = ByteBuffer.allocate(MIN_CAPACITY);
+            var count = 0;
+            lock.lockInterruptibly();
+            try {
+                final @NotNull var iterator = iterable.iterator();
+                while (iterator.hasNext()) {
+                    final @NotNull T element = Validator.notNull(iterator.next().current(), "The element");
+                    record = Buffers.encode(codec, element, record);
+                    final var length = Integer.BYTES + record.remaining();
+                    if (length > output.remaining() && count > 0) {
+                        Buffers.flush(channel, output.putInt(0, count));
+                        output.position(Integer.BYTES);
+                        count = 0;
+                    }
+                    if (length > output.remaining()) {
+                        Buffers.drain(channel, ByteBuffer.allocate(2 * Integer.BYTES).putInt(1)
+                                                         .putInt(record.remaining()).flip());
+                        Buffers.drain(channel, record);
+                        continue;
+                    }
+                    output.putInt(record.remaining()).put(record);
+                    count++;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (count > 0) {
+                Buffers.flush(channel, output.putInt(0, count));
+                output.position(Integer.BYTES);
+            }
+            Buffers.flush(channel, output.clear().putInt(0));
+        } catch (final @NotNull CollectionException | NullException failure) {
+            throw failure;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        }
+    }
+
+    /**
+     * Читает элементы из переданного {@linkplain ReadableByteChannel канала}, передавая их по порядку переданному
+     * {@linkplain Handler обработчику}, например, методу добавления изменяемой коллекции. Возвращает количество
+     * прочитанных элементов. Канал не закрывается, а чтение выполняется блоками, поэтому из канала могут быть
+     * прочитаны байты после конца потока.
+     *
+     * @param channel {@linkplain ReadableByteChannel канал}.
+     * @param handler {@linkplain Handler обработчик}.
+     *
+     * @return Количество прочитанных элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ReadableByteChannel канала} или {@linkplain Handler обработчика}).
+     * @throws CollectionException исключение коллекции (в том числе ошибки ввода-вывода или неверного формата потока).
+     * @since 1.0.0-RC1
+     */
+    public long read(final @NotNull ReadableByteChannel channel,
+                     final @NotNull Handler<T> handler) throws NullException, CollectionException {
+        Validator.notNull(channel, "The channel");
+        Validator.notNull(handler, "The handler");
+        try {
+            var input = Buffers.require(channel, ByteBuffer.allocateDirect(capacity).flip(), 2 * Integer.BYTES);
+            if (input.getInt() != MAGIC) throw new CollectionException("Malformed stream");
+            final var version = input.getInt();
+            if (version != VERSION) throw new CollectionException("Unsupported stream version: " + version);
+            var total = 0L;
+            while (true) {
+                input = Buffers.require(channel, input, Integer.BYTES);
+                final var count = input.getInt();
+                if (count < 0) throw new CollectionException("Malformed stream");
+                if (count == 0) return total;
+                for (var index = 0; index < count; index++) {
+                    input = Buffers.require(channel, input, Integer.BYTES);
+                    final var length = input.getInt();
+                    if (length < 0) throw new CollectionException("Malformed stream");
+                    input = Buffers.require(channel, input, length);
+                    final var position = input.position();
+                    handler.handle(codec.decode(input.slice(position, length)));
+                    input.position(position + length);
+                }
+                total += count;
+            }
+        } catch (final @NotNull CollectionException | NullException failure) {
+            throw failure;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        }
+    }
+
+    /**
+     * Читает элементы из переданного {@linkplain ReadableByteChannel канала} в новый
+     * {@linkplain MutableArrayList изменяемый список на основе расширяемого массива} и возвращает его.
+     *
+     * @param channel {@linkplain ReadableByteChannel канал}.
+     *
+     * @return {@linkplain MutableArrayList Изменяемый список} прочитанных элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ReadableByteChannel канала}).
+     * @throws CollectionException исключение коллекции (в том числе ошибки ввода-вывода или неверного формата потока).
+     * @see #read(ReadableByteChannel, Handler)
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull MutableArrayList<T> read(
+            final @NotNull ReadableByteChannel channel) throws NullException, CollectionException {
+        final var list = new MutableArrayList<T>();
+        read(channel, list::add);
+        return list;
+    }
+
+}
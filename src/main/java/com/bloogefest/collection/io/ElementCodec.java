@@ -0,0 +1,132 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.io;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Кодек элемента — преобразует ненулевой элемент в байты {@linkplain ByteBuffer буфера} и обратно. Длину
+ * закодированного элемента хранит формат коллекции, поэтому кодеку не требуется её записывать.
+ *
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * {@linkplain ElementCodec Кодек} {@linkplain Integer целых чисел} — четыре байта в порядке буфера.
+     *
+     * @since 1.0.0-RC1
+     */
+    @NotNull ElementCodec<Integer> INTEGER = new ElementCodec<>() {
+
+        @Override
+        public void encode(final @NotNull Integer element, final @NotNull ByteBuffer buffer) {
+            buffer.putInt(element);
+        }
+
+        @Override
+        public @NotNull Integer decode(final @NotNull ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+
+    };
+
+    /**
+     * {@linkplain ElementCodec Кодек} {@linkplain Long длинных целых чисел} — восемь байтов в порядке буфера.
+     *
+     * @since 1.0.0-RC1
+     */
+    @NotNull ElementCodec<Long> LONG = new ElementCodec<>() {
+
+        @Override
+        public void encode(final @NotNull Long element, final @NotNull ByteBuffer buffer) {
+            buffer.putLong(element);
+        }
+
+        @Override
+        public @NotNull Long decode(final @NotNull ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+
+    };
+
+    /**
+     * {@linkplain ElementCodec Кодек} {@linkplain Double чисел с плавающей точкой двойной точности} — восемь байтов в
+     * порядке буфера.
+     *
+     * @since 1.0.0-RC1
+     */
+    @NotNull ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+
+        @Override
+        public void encode(final @NotNull Double element, final @NotNull ByteBuffer buffer) {
+            buffer.putDouble(element);
+        }
+
+        @Override
+        public @NotNull Double decode(final @NotNull ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+
+    };
+
+    /**
+     * {@linkplain ElementCodec Кодек} {@linkplain String строк} в кодировке {@linkplain StandardCharsets#UTF_8 UTF-8}.
+     * Декодирует все оставшиеся байты буфера.
+     *
+     * @since 1.0.0-RC1
+     */
+    @NotNull ElementCodec<String> STRING = new ElementCodec<>() {
+
+        @Override
+        public void encode(final @NotNull String element, final @NotNull ByteBuffer buffer) {
+            buffer.put(element.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public @NotNull String decode(final @NotNull ByteBuffer buffer) {
+            final var bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+    };
+
+    /**
+     * Записывает переданный элемент в переданный {@linkplain ByteBuffer буфер}, начиная с его позиции. Если места в
+     * буфере недостаточно, генерирует {@linkplain BufferOverflowException исключение переполнения буфера}, после чего
+     * запись повторяется в буфер большего размера.
+     *
+     * @param element элемент.
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     *
+     * @throws BufferOverflowException исключение переполнения буфера.
+     * @since 1.0.0-RC1
+     */
+    void encode(final @NotNull T element, final @NotNull ByteBuffer buffer) throws BufferOverflowException;
+
+    /**
+     * Читает элемент из переданного {@linkplain ByteBuffer буфера}, оставшиеся байты которого содержат ровно один
+     * закодированный элемент.
+     *
+     * @param buffer {@linkplain ByteBuffer буфер}.
+     *
+     * @return Прочитанный элемент.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    @NotNull T decode(final @NotNull ByteBuffer buffer);
+
+}
@@ -0,0 +1,601 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.io;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.annotation.analysis.Range;
+import com.bloogefest.collection.CollectionException;
+import com.bloogefest.collection.ImmutableCollection;
+import com.bloogefest.collection.iteration.AbstractImmutableIterable;
+import com.bloogefest.collection.iteration.ExternalIterable;
+import com.bloogefest.collection.iteration.ImmutableIterable;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.SequentialIterationException;
+import com.bloogefest.collection.iteration.iterator.AbstractImmutableIterator;
+import com.bloogefest.collection.iteration.iterator.ImmutableIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorElementGettingException;
+import com.bloogefest.collection.iteration.iterator.IteratorPositionChangingException;
+import com.bloogefest.common.function.Handler;
+import com.bloogefest.common.function.Predicate;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Spliterator;
+
+/**
+ * Неизменяемая коллекция, отображённая из файла через {@linkplain FileChannel#map(FileChannel.MapMode, long, long)
+ * отображение в память}. Создание коллекции читает только заголовок и окончание файла, поэтому занимает постоянное
+ * время, а страницы файла загружаются операционной системой по мере обращения к элементам. Элементы декодируются
+ * переданным {@linkplain ElementCodec кодеком} при каждом обращении и не хранятся в куче.
+ * <p>
+ * Файл создаётся {@linkplain #write(Path, ImmutableIterable, ElementCodec) записью} любого
+ * {@linkplain ImmutableIterable неизменяемого итерируемого} и имеет следующий формат (целые числа в порядке от старшего
+ * байта к младшему):
+ * <ul>
+ *     <li>заголовок — {@linkplain #MAGIC сигнатура} и {@linkplain #VERSION версия};</li>
+ *     <li>закодированные элементы подряд;</li>
+ *     <li>индекс — смещения начала каждого элемента;</li>
+ *     <li>окончание — смещение индекса, количество элементов и {@linkplain #MAGIC сигнатура}.</li>
+ * </ul>
+ * Размер файла ограничен {@linkplain Integer#MAX_VALUE максимальным размером} одного отображения. Коллекция не
+ * изменяется, поэтому доступ к ней не требует захвата {@linkplain #lock() инструмента для управления доступом}, а
+ * нулевые элементы не поддерживаются.
+ *
+ * @param <T> тип элемента.
+ *
+ * @see ElementCodec
+ * @since 1.0.0-RC1
+ */
+public class MappedCollection<T> extends AbstractImmutableIterable<T> implements ImmutableCollection<T> {
+
+    /**
+     * Сигнатура файла ({@code BFMC}).
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int MAGIC = 0x42464D43;
+
+    /**
+     * Версия формата файла.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Размер заголовка в байтах.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final int HEADER = 2 * Integer.BYTES;
+
+    /**
+     * Размер окончания в байтах.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final int TRAILER = 3 * Integer.BYTES;
+
+    /**
+     * Начальный размер буфера записи элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final int RECORD_CAPACITY = 256;
+
+    /**
+     * Размер буфера записи в файл.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final int OUTPUT_CAPACITY = 1 << 16;
+
+    /**
+     * {@linkplain ElementCodec Кодек элемента}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull ElementCodec<T> codec;
+
+    /**
+     * {@linkplain ByteBuffer Отображённый буфер} файла.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull ByteBuffer buffer;
+
+    /**
+     * Смещение индекса.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final int index;
+
+    /**
+     * Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final int size;
+
+    /**
+     * Создаёт {@linkplain MappedCollection неизменяемую коллекцию, отображённую из файла}, отображая файл по
+     * переданному {@linkplain Path пути} и декодируя элементы переданным {@linkplain ElementCodec кодеком}. Канал файла
+     * закрывается сразу после отображения.
+     *
+     * @param path {@linkplain Path путь} файла.
+     * @param codec {@linkplain ElementCodec кодек элемента}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Path пути} или
+     * {@linkplain ElementCodec кодека}).
+     * @throws CollectionException исключение коллекции (ошибки ввода-вывода, превышения максимального размера или
+     * неверного формата файла).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null -> new; _, _ -> fail")
+    public MappedCollection(final @NotNull Path path,
+                            final @NotNull ElementCodec<T> codec) throws NullException, CollectionException {
+        super(false);
+        Validator.notNull(path, "The path");
+        this.codec = Validator.notNull(codec, "The codec");
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var length = channel.size();
+            if (length > Integer.MAX_VALUE) throw new CollectionException("Maximum file size exceeded: " + path);
+            if (length < HEADER + TRAILER) throw new CollectionException("Malformed file: " + path);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        } catch (final @NotNull IOException failure) {
+            throw new CollectionException(failure);
+        }
+        final var trailer = buffer.limit() - TRAILER;
+        index = buffer.getInt(trailer);
+        size = buffer.getInt(trailer + Integer.BYTES);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(trailer + 2 * Integer.BYTES) != MAGIC || index < HEADER
+            || size < 0 || index != trailer - (long) size * Integer.BYTES)
+            throw new CollectionException("Malformed file: " + path);
+        if (buffer.getInt(Integer.BYTES) != VERSION)
+            throw new CollectionException("Unsupported file version: " + buffer.getInt(Integer.BYTES));
+    }
+
+    /**
+     * Записывает элементы переданного {@linkplain ImmutableIterable неизменяемого итерируемого} в файл по переданному
+     * {@linkplain Path пути} в формате {@linkplain MappedCollection неизменяемой коллекции, отображённой из файла},
+     * кодируя их переданным {@linkplain ElementCodec кодеком}. Элементы итерируются в
+     * {@linkplain SequentialIterationDirection#DEFAULT направлении последовательной итерации по умолчанию} под
+     * {@linkplain ImmutableIterable#readLock() инструментом для управления доступом на чтение}. Существующий файл
+     * перезаписывается.
+     *
+     * @param path {@linkplain Path путь} файла.
+     * @param iterable {@linkplain ImmutableIterable неизменяемое итерируемое}.
+     * @param codec {@linkplain ElementCodec кодек элемента}.
+     * @param <T> тип элемента.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Path пути},
+     * {@linkplain ImmutableIterable итерируемого}, {@linkplain ElementCodec кодека} или элемента).
+     * @throws CollectionException исключение коллекции (ошибки ввода-вывода или превышения максимального размера).
+     * @since 1.0.0-RC1
+     */
+    public static <T> void write(final @NotNull Path path, final @NotNull ImmutableIterable<? extends T> iterable,
+                                 final @NotNull ElementCodec<? super T> codec) throws NullException, CollectionException {
+        Validator.notNull(path, "The path");
+        Validator.notNull(iterable, "The iterable");
+        Validator.notNull(codec, "The codec");
+        final @NotNull var lock = iterable.readLock();
+        try (final var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                  StandardOpenOption.TRUNCATE_EXISTING)) {
+            final var output = ByteBuffer.allocateDirect(OUTPUT_CAPACITY);
+            output.putInt(MAGIC).putInt(VERSION);
+            var record = ByteBuffer.allocate(RECORD_CAPACITY);
+            var offsets = new int[RECORD_CAPACITY];
+            var size = 0;
+            long position = HEADER;
+            lock.lockInterruptibly();
+            try {
+                final @NotNull var iterator = iterable.iterator();
+                while (iterator.hasNext()) {
+                    final @NotNull T element = Validator.notNull(iterator.next().current(), "The element");
+                    record = Buffers.encode(codec, element, record);
+                    if (size == offsets.length) offsets = Arrays.copyOf(offsets, size + (size >> 1));
+                    offsets[size++] = (int) position;
+                    position += record.remaining();
+                    if (position > Integer.MAX_VALUE - TRAILER - (long) size * Integer.BYTES)
+                        throw new CollectionException("Maximum file size exceeded: " + path);
+                    Buffers.write(channel, output, record);
+                }
+            } finally {
+                lock.unlock();
+            }
+            for (var offset = 0; offset < size; offset++) {
+                if (output.remaining() < Integer.BYTES) Buffers.flush(channel, output);
+                output.putInt(offsets[offset]);
+            }
+            if (output.remaining() < TRAILER) Buffers.flush(channel, output);
+            output.putInt((int) position).putInt(size).putInt(MAGIC);
+            Buffers.flush(channel, output);
+        } catch (final @NotNull CollectionException | NullException failure) {
+            throw failure;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        }
+    }
+
+    /**
+     * Если переданный индекс допустимый, декодирует и возвращает элемент по переданному индексу за постоянное время,
+     * в противном случае генерирует {@linkplain CollectionException исключение коллекции} (недопустимого индекса).
+     *
+     * @param index индекс.
+     *
+     * @return Элемент по переданному индексу.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого индекса или ошибки декодирования).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    public @NotNull T get(final int index) throws CollectionException {
+        if (index < 0 || index >= size) throw new CollectionException("Illegal index: " + index);
+        try {
+            return decode(index);
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        }
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain Handler обработчик} в
+     * {@linkplain SequentialIterationDirection#DEFAULT направлении последовательной итерации по умолчанию}.
+     *
+     * @param handler {@linkplain Handler обработчик}.
+     *
+     * @return Текущая {@linkplain MappedCollection неизменяемая коллекция, отображённая из файла}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Handler обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull MappedCollection<T> iterate(
+            final @NotNull Handler<T> handler) throws NullException, SequentialIterationException {
+        iterate(handler, SequentialIterationDirection.DEFAULT);
+        return this;
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain Predicate предикат} в
+     * {@linkplain SequentialIterationDirection#DEFAULT направлении последовательной итерации по умолчанию}, пока тот
+     * возвращает истину.
+     *
+     * @param predicate {@linkplain Predicate предикат}.
+     *
+     * @return Текущая {@linkplain MappedCollection неизменяемая коллекция, отображённая из файла}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Predicate предиката}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull MappedCollection<T> iterate(
+            final @NotNull Predicate<T> predicate) throws NullException, SequentialIterationException {
+        iterate(predicate, SequentialIterationDirection.DEFAULT);
+        return this;
+    }
+
+    /**
+     * Параллельно итерирует переданный {@linkplain Handler обработчик} по диапазонам
+     * {@linkplain #spliterator() разделителя} с переданным уровнем параллелизма. Порядок вызовов обработчика не
+     * определён.
+     *
+     * @param handler {@linkplain Handler обработчик}.
+     * @param parallelism уровень параллелизма.
+     *
+     * @return Текущая {@linkplain MappedCollection неизменяемая коллекция, отображённая из файла}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Handler обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, _ -> this; _, _ -> fail")
+    public @NotNull MappedCollection<T> parallelIterate(final @NotNull Handler<T> handler,
+                                                        final int parallelism) throws NullException, SequentialIterationException {
+        ImmutableCollection.super.parallelIterate(handler, parallelism);
+        return this;
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain ImmutableIterator итератор} текущей
+     * {@linkplain MappedCollection неизменяемой коллекции, отображённой из файла} в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return {@linkplain ImmutableIterator Итератор} текущей
+     * {@linkplain MappedCollection неизменяемой коллекции, отображённой из файла}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull ImmutableIterator<T> iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException {
+        Validator.notNull(direction, "The direction");
+        return new MappedIterator(direction == SequentialIterationDirection.FORWARD);
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain ImmutableIterator итератор} текущей
+     * {@linkplain MappedCollection неизменяемой коллекции, отображённой из файла} в
+     * {@linkplain SequentialIterationDirection#DEFAULT направлении последовательной итерации по умолчанию}.
+     *
+     * @return {@linkplain ImmutableIterator Итератор} текущей
+     * {@linkplain MappedCollection неизменяемой коллекции, отображённой из файла}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull ImmutableIterator<T> iterator() {
+        return iterator(SequentialIterationDirection.DEFAULT);
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain ExternalIterable внешнее итерируемое} на основе текущей
+     * {@linkplain MappedCollection неизменяемой коллекции, отображённой из файла}.
+     *
+     * @return {@linkplain ExternalIterable Внешнее итерируемое}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull ExternalIterable<T> external() {
+        return ExternalIterable.of(() -> iterator().external(), this::spliterator);
+    }
+
+    /**
+     * Создаёт и возвращает разделитель текущего размера на основе {@linkplain #iterator() итератора}.
+     *
+     * @return Разделитель.
+     *
+     * @see ImmutableCollection#spliterator()
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull Spliterator<T> spliterator() {
+        return ImmutableCollection.super.spliterator();
+    }
+
+    /**
+     * Возвращает количество элементов.
+     *
+     * @return Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> const")
+    public @Range(from = 0, to = Integer.MAX_VALUE) int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает параметр изменяемости.
+     *
+     * @return Параметр изменяемости.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> false")
+    public boolean mutable() {
+        return false;
+    }
+
+    /**
+     * Декодирует элемент по переданному допустимому индексу из его диапазона байтов.
+     *
+     * @param index индекс.
+     *
+     * @return Элемент по переданному индексу.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    private @NotNull T decode(final int index) {
+        final var offset = this.index + index * Integer.BYTES;
+        final var start = buffer.getInt(offset);
+        final var end = index + 1 < size ? buffer.getInt(offset + Integer.BYTES) : this.index;
+        return codec.decode(buffer.slice(start, end - start));
+    }
+
+    /**
+     * Итератор {@linkplain MappedCollection неизменяемой коллекции, отображённой из файла}.
+     * <p>
+     * Хранит логический индекс в собственном направлении итерации: {@code -1} соответствует начальной позиции,
+     * {@linkplain #size количество элементов} — конечной. Поэтому {@linkplain #first()}, {@linkplain #last()},
+     * {@linkplain #start()} и {@linkplain #end()} изменяют позицию за постоянное время.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class MappedIterator extends AbstractImmutableIterator<T> {
+
+        /**
+         * Параметр прямого направления итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        private final boolean forward;
+
+        /**
+         * Логический индекс текущей позиции.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int index = -1;
+
+        /**
+         * Кэшированный элемент.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable T cached;
+
+        /**
+         * Параметр существования кэшированного элемента.
+         *
+         * @since 1.0.0-RC1
+         */
+        private boolean hasCached;
+
+        /**
+         * Создаёт итератор на основе переданного параметра прямого направления итерации.
+         *
+         * @param forward параметр прямого направления итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("_ -> new")
+        private MappedIterator(final boolean forward) {
+            super(MappedCollection.this.lock(), MappedCollection.this.readLock(), false,
+                  MappedCollection.this.stackless());
+            this.forward = forward;
+        }
+
+        @Override
+        public @NotNull T current() throws IteratorElementGettingException {
+            if (!hasCurrent()) throw IteratorElementGettingException.create(stackless());
+            try {
+                return decode(forward ? index : size - 1 - index);
+            } catch (final @NotNull Exception failure) {
+                throw IteratorElementGettingException.create(failure, stackless());
+            }
+        }
+
+        @Override
+        public @Nullable T cached() throws IteratorElementGettingException {
+            if (!hasCached) throw IteratorElementGettingException.create(stackless());
+            return cached;
+        }
+
+        @Override
+        @Contract("!null -> this; _ -> fail")
+        public @NotNull ImmutableIterator<T> cache(final @NotNull T element) throws NullException {
+            cached = Validator.notNull(element, "The element");
+            hasCached = true;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull ImmutableIterator<T> next() throws IteratorPositionChangingException {
+            if (!hasNext()) throw IteratorPositionChangingException.create(stackless());
+            index++;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull ImmutableIterator<T> previous() throws IteratorPositionChangingException {
+            if (!hasPrevious()) throw IteratorPositionChangingException.create(stackless());
+            index = Math.min(index, size) - 1;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull ImmutableIterator<T> first() throws IteratorPositionChangingException {
+            if (size == 0) throw IteratorPositionChangingException.create(stackless());
+            index = 0;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull ImmutableIterator<T> last() throws IteratorPositionChangingException {
+            if (size == 0) throw IteratorPositionChangingException.create(stackless());
+            index = size - 1;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull ImmutableIterator<T> start() {
+            index = -1;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull ImmutableIterator<T> end() {
+            index = size;
+            return this;
+        }
+
+        @Override
+        public boolean hasCurrent() {
+            return index >= 0 && index < size;
+        }
+
+        @Override
+        public boolean hasCached() {
+            return hasCached;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index + 1 < size;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return Math.min(index, size) > 0;
+        }
+
+        @Override
+        public boolean hasFirst() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean hasCentral() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean hasLast() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean starting() {
+            return index < 0;
+        }
+
+        @Override
+        public boolean iterating() {
+            return hasCurrent();
+        }
+
+        @Override
+        public boolean ending() {
+            return index >= size;
+        }
+
+    }
+
+}
@@ -8,10 +8,17 @@ package com.bloogefest.collection.iteration;
 
 import com.bloogefest.annotation.analysis.Contract;
 import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.collection.iteration.iterator.ImmutableIterator;
+import com.bloogefest.collection.lock.NoOpLock;
+import com.bloogefest.common.function.Handler;
+import com.bloogefest.common.function.Predicate;
 import com.bloogefest.common.validation.NullException;
 import com.bloogefest.common.validation.Validator;
 
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * Абстрактное неизменяемое итерируемое.
@@ -30,6 +37,24 @@ public abstract class AbstractImmutableIterable<T> implements ImmutableIterable<
      */
     private final @NotNull Lock lock;
 
+    /**
+     * {@linkplain Lock Инструмент для управления доступом на чтение} к текущему
+     * {@linkplain AbstractImmutableIterable абстрактному неизменяемому итерируемому}.
+     *
+     * @see #readLock()
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull Lock readLock;
+
+    /**
+     * {@linkplain StampedLock Штампованный инструмент для управления доступом}, если текущее
+     * {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое} создано на его основе.
+     *
+     * @see #stamped()
+     * @since 1.0.0-RC1
+     */
+    private final @Nullable StampedLock stamped;
+
     /**
      * Параметр поддержки нулевых элементов.
      *
@@ -38,6 +63,14 @@ public abstract class AbstractImmutableIterable<T> implements ImmutableIterable<
      */
     private final boolean nullable;
 
+    /**
+     * Параметр генерации исключений итераторов без трассировки стека.
+     *
+     * @see #stackless()
+     * @since 1.0.0-RC1
+     */
+    private volatile boolean stackless;
+
     /**
      * Создаёт {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое} на основе переданного
      * {@linkplain Lock инструмента для управления доступом} к текущему
@@ -55,10 +88,169 @@ public abstract class AbstractImmutableIterable<T> implements ImmutableIterable<
      */
     @Contract("-> new")
     public AbstractImmutableIterable(final @NotNull Lock lock, final boolean nullable) throws NullException {
-        this.lock = Validator.notNull(lock, "The lock");
+        this(Validator.notNull(lock, "The lock"), lock, null, nullable);
+    }
+
+    /**
+     * Создаёт {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое} на основе
+     * {@linkplain NoOpLock пустого инструмента для управления доступом} и переданного параметра поддержки нулевых
+     * элементов. Предназначен для итерируемых, доступ к которым ограничен одним потоком.
+     *
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @see NoOpLock
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    public AbstractImmutableIterable(final boolean nullable) {
+        this(NoOpLock.INSTANCE, nullable);
+    }
+
+    /**
+     * Создаёт {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое} на основе переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом} и параметра поддержки нулевых
+     * элементов.
+     * <p>
+     * {@linkplain #lock() Инструментом для управления доступом} становится
+     * {@linkplain StampedLock#asWriteLock() представление записи}, поэтому изменения через итераторы захватывают
+     * штамп записи, а {@linkplain #iterate(Handler, SequentialIterationDirection) итерация} читает элементы
+     * оптимистично и захватывает штамп чтения только после неудачной проверки. Штампованный инструмент не поддерживает
+     * повторный вход, поэтому элементарные изменения итераторов следует выполнять под
+     * {@linkplain #lock() инструментом для управления доступом}, но не внутри итерации.
+     *
+     * @param lock {@linkplain StampedLock штампованный инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение нулевого объекта (переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public AbstractImmutableIterable(final @NotNull StampedLock lock, final boolean nullable) throws NullException {
+        this(Validator.notNull(lock, "The lock").asWriteLock(), lock.asReadLock(), lock, nullable);
+    }
+
+    /**
+     * Создаёт {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое} на основе переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись} и параметра поддержки нулевых
+     * элементов.
+     * <p>
+     * {@linkplain #lock() Инструментом для управления доступом} становится
+     * {@linkplain ReadWriteLock#writeLock() инструмент записи}, а
+     * {@linkplain #readLock() инструментом для управления доступом на чтение} —
+     * {@linkplain ReadWriteLock#readLock() инструмент чтения}, поэтому итерации не блокируют друг друга. Инструмент
+     * чтения нельзя повысить до инструмента записи, поэтому изменять элементы внутри итерации нельзя.
+     *
+     * @param lock {@linkplain ReadWriteLock инструмент для управления доступом на чтение и запись}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение нулевого объекта (переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public AbstractImmutableIterable(final @NotNull ReadWriteLock lock, final boolean nullable) throws NullException {
+        this(Validator.notNull(lock, "The lock").writeLock(), lock.readLock(), null, nullable);
+    }
+
+    /**
+     * Создаёт {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое} на основе переданных
+     * {@linkplain Lock инструментов для управления доступом}, {@linkplain StampedLock штампованного инструмента для
+     * управления доступом} и параметра поддержки нулевых элементов.
+     *
+     * @param lock {@linkplain Lock инструмент для управления доступом}.
+     * @param readLock {@linkplain Lock инструмент для управления доступом на чтение}.
+     * @param stamped {@linkplain StampedLock штампованный инструмент для управления доступом} или нулевой объект.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _, _, _ -> new")
+    private AbstractImmutableIterable(final @NotNull Lock lock, final @NotNull Lock readLock,
+                                      final @Nullable StampedLock stamped, final boolean nullable) {
+        this.lock = lock;
+        this.readLock = readLock;
+        this.stamped = stamped;
         this.nullable = nullable;
     }
 
+    /**
+     * Последовательно итерирует переданный {@linkplain Handler обработчик} в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}. Если текущее
+     * {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое} создано на основе
+     * {@linkplain StampedLock штампованного инструмента для управления доступом} и поддерживает
+     * {@linkplain #optimistic() оптимистичную итерацию}, читает каждый элемент оптимистично.
+     *
+     * @param handler {@linkplain Handler обработчик}.
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return Текущее {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Handler обработчика} или
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, !null -> this; _, _ -> fail")
+    public @NotNull AbstractImmutableIterable<T> iterate(final @NotNull Handler<T> handler,
+                                                         final @NotNull SequentialIterationDirection direction) throws NullException, SequentialIterationException {
+        final var stamped = this.stamped;
+        if (stamped == null || !optimistic()) {
+            ImmutableIterable.super.iterate(handler, direction);
+            return this;
+        }
+        Validator.notNull(handler, "The handler");
+        Validator.notNull(direction, "The direction");
+        final @NotNull var iterator = Validator.notNull(iterator(direction), "The iterator");
+        try {
+            iterateOptimistically(stamped, iterator, element -> {
+                handler.handle(element);
+                return true;
+            });
+            return this;
+        } catch (final Throwable failure) {
+            throw new SequentialIterationException(failure);
+        }
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain Predicate предикат} в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}, пока тот возвращает истину.
+     * Если текущее {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое} создано на основе
+     * {@linkplain StampedLock штампованного инструмента для управления доступом} и поддерживает
+     * {@linkplain #optimistic() оптимистичную итерацию}, читает каждый элемент оптимистично.
+     *
+     * @param predicate {@linkplain Predicate предикат}.
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return Текущее {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Predicate предиката} или
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, !null -> this; _, _ -> fail")
+    public @NotNull AbstractImmutableIterable<T> iterate(final @NotNull Predicate<T> predicate,
+                                                         final @NotNull SequentialIterationDirection direction) throws NullException, SequentialIterationException {
+        final var stamped = this.stamped;
+        if (stamped == null || !optimistic()) {
+            ImmutableIterable.super.iterate(predicate, direction);
+            return this;
+        }
+        Validator.notNull(predicate, "The predicate");
+        Validator.notNull(direction, "The direction");
+        final @NotNull var iterator = Validator.notNull(iterator(direction), "The iterator");
+        try {
+            iterateOptimistically(stamped, iterator, predicate);
+            return this;
+        } catch (final Throwable failure) {
+            throw new SequentialIterationException(failure);
+        }
+    }
+
     /**
      * Возвращает {@linkplain Lock инструмент для управления доступом} к текущему
      * {@linkplain AbstractImmutableIterable абстрактному неизменяемому итерируемому}.
@@ -75,6 +267,22 @@ public abstract class AbstractImmutableIterable<T> implements ImmutableIterable<
         return lock;
     }
 
+    /**
+     * Возвращает {@linkplain Lock инструмент для управления доступом на чтение} к текущему
+     * {@linkplain AbstractImmutableIterable абстрактному неизменяемому итерируемому}.
+     *
+     * @return {@linkplain Lock Инструмент для управления доступом на чтение} к текущему
+     * {@linkplain AbstractImmutableIterable абстрактному неизменяемому итерируемому}.
+     *
+     * @see #readLock
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> const")
+    public @NotNull Lock readLock() {
+        return readLock;
+    }
+
     /**
      * Возвращает параметр поддержки нулевых элементов.
      *
@@ -89,4 +297,114 @@ public abstract class AbstractImmutableIterable<T> implements ImmutableIterable<
         return nullable;
     }
 
+    /**
+     * Возвращает параметр генерации исключений итераторов без трассировки стека.
+     *
+     * @return Параметр генерации исключений итераторов без трассировки стека.
+     *
+     * @see #stackless
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public boolean stackless() {
+        return stackless;
+    }
+
+    /**
+     * Устанавливает параметр генерации исключений итераторов без трассировки стека. Действует на итераторы, созданные
+     * после установки. Возвращает текущее {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое}.
+     *
+     * @param stackless параметр генерации исключений итераторов без трассировки стека.
+     *
+     * @return Текущее {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое}.
+     *
+     * @see ImmutableIterator#stackless()
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> this")
+    public @NotNull AbstractImmutableIterable<T> stackless(final boolean stackless) {
+        this.stackless = stackless;
+        return this;
+    }
+
+    /**
+     * Возвращает {@linkplain StampedLock штампованный инструмент для управления доступом}, если текущее
+     * {@linkplain AbstractImmutableIterable абстрактное неизменяемое итерируемое} создано на его основе, в противном
+     * случае возвращает нулевой объект.
+     *
+     * @return {@linkplain StampedLock Штампованный инструмент для управления доступом} или нулевой объект.
+     *
+     * @see #stamped
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> const")
+    protected @Nullable StampedLock stamped() {
+        return stamped;
+    }
+
+    /**
+     * Возвращает параметр поддержки оптимистичной итерации. Между шагами оптимистичной итерации позиция итератора не
+     * защищена штампом, поэтому её поддерживают только итерируемые, позиция итераторов которых остаётся допустимой
+     * после параллельных изменений, например индекс массива. Итерируемые на основе узлов, которые удаление может
+     * отсоединить или переиспользовать, и хеш-таблиц, перестроение которых переставляет элементы, итерируются под
+     * {@linkplain #readLock() инструментом для управления доступом на чтение}. По умолчанию возвращает ложь.
+     *
+     * @return Параметр поддержки оптимистичной итерации.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> const")
+    protected boolean optimistic() {
+        return false;
+    }
+
+    /**
+     * Итерирует переданный {@linkplain Predicate предикат} по переданному {@linkplain ImmutableIterator итератору},
+     * пока тот возвращает истину. Каждый шаг итератора выполняется под оптимистичным штампом; если проверка штампа
+     * неудачна, шаг повторяется под штампом чтения: если текущий элемент успел исчезнуть, итератор переходит к
+     * следующему, а не завершает итерацию. Предикат вызывается вне штампов, поэтому итератор должен принадлежать
+     * итерируемому, {@linkplain #optimistic() поддерживающему оптимистичную итерацию}.
+     *
+     * @param stamped {@linkplain StampedLock штампованный инструмент для управления доступом}.
+     * @param iterator {@linkplain ImmutableIterator итератор}.
+     * @param predicate {@linkplain Predicate предикат}.
+     *
+     * @throws InterruptedException исключение прерывания потока (при ожидании штампа чтения).
+     * @since 1.0.0-RC1
+     */
+    private void iterateOptimistically(final @NotNull StampedLock stamped,
+                                       final @NotNull ImmutableIterator<T> iterator,
+                                       final @NotNull Predicate<T> predicate) throws InterruptedException {
+        while (true) {
+            var stamp = stamped.tryOptimisticRead();
+            var moved = false;
+            var present = false;
+            T element = null;
+            try {
+                if (iterator.hasNext()) {
+                    iterator.next();
+                    moved = true;
+                    element = iterator.current();
+                    present = true;
+                }
+            } catch (final @NotNull RuntimeException ignored) {
+                stamp = 0L;
+            }
+            if (!stamped.validate(stamp)) {
+                stamp = stamped.readLockInterruptibly();
+                try {
+                    present = moved && iterator.hasCurrent();
+                    if (!present && iterator.hasNext()) {
+                        iterator.next();
+                        present = true;
+                    }
+                    element = present ? iterator.current() : null;
+                } finally {
+                    stamped.unlockRead(stamp);
+                }
+            }
+            if (!present || !predicate.evaluate(element)) return;
+        }
+    }
+
 }
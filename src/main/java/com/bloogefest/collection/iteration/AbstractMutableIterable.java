@@ -8,9 +8,14 @@ package com.bloogefest.collection.iteration;
 
 import com.bloogefest.annotation.analysis.Contract;
 import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.lock.NoOpLock;
+import com.bloogefest.common.function.Handler;
+import com.bloogefest.common.function.Predicate;
 import com.bloogefest.common.validation.NullException;
 
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * Абстрактное изменяемое итерируемое.
@@ -40,6 +45,118 @@ public abstract class AbstractMutableIterable<T> extends AbstractImmutableIterab
         super(lock, nullable);
     }
 
+    /**
+     * Создаёт {@linkplain AbstractMutableIterable абстрактное изменяемое итерируемое} на основе
+     * {@linkplain NoOpLock пустого инструмента для управления доступом} и переданного параметра поддержки нулевых
+     * элементов. Предназначен для итерируемых, доступ к которым ограничен одним потоком.
+     *
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @see NoOpLock
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    public AbstractMutableIterable(final boolean nullable) {
+        super(nullable);
+    }
+
+    /**
+     * Создаёт {@linkplain AbstractMutableIterable абстрактное изменяемое итерируемое} на основе переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом} и параметра поддержки нулевых
+     * элементов.
+     *
+     * @param lock {@linkplain StampedLock штампованный инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение нулевого объекта (переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}).
+     * @see AbstractImmutableIterable#AbstractImmutableIterable(StampedLock, boolean)
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public AbstractMutableIterable(final @NotNull StampedLock lock, final boolean nullable) throws NullException {
+        super(lock, nullable);
+    }
+
+    /**
+     * Создаёт {@linkplain AbstractMutableIterable абстрактное изменяемое итерируемое} на основе переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись} и параметра поддержки нулевых
+     * элементов.
+     *
+     * @param lock {@linkplain ReadWriteLock инструмент для управления доступом на чтение и запись}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение нулевого объекта (переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}).
+     * @see AbstractImmutableIterable#AbstractImmutableIterable(ReadWriteLock, boolean)
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public AbstractMutableIterable(final @NotNull ReadWriteLock lock, final boolean nullable) throws NullException {
+        super(lock, nullable);
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain Handler обработчик} в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @param handler {@linkplain Handler обработчик}.
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return Текущее {@linkplain AbstractMutableIterable абстрактное изменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Handler обработчика} или
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, !null -> this; _, _ -> fail")
+    public @NotNull AbstractMutableIterable<T> iterate(final @NotNull Handler<T> handler,
+                                                       final @NotNull SequentialIterationDirection direction) throws NullException, SequentialIterationException {
+        super.iterate(handler, direction);
+        return this;
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain Predicate предикат} в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}, пока тот возвращает истину.
+     *
+     * @param predicate {@linkplain Predicate предикат}.
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return Текущее {@linkplain AbstractMutableIterable абстрактное изменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Predicate предиката} или
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, !null -> this; _, _ -> fail")
+    public @NotNull AbstractMutableIterable<T> iterate(final @NotNull Predicate<T> predicate,
+                                                       final @NotNull SequentialIterationDirection direction) throws NullException, SequentialIterationException {
+        super.iterate(predicate, direction);
+        return this;
+    }
+
+    /**
+     * Устанавливает параметр генерации исключений итераторов без трассировки стека. Действует на итераторы, созданные
+     * после установки. Возвращает текущее {@linkplain AbstractMutableIterable абстрактное изменяемое итерируемое}.
+     *
+     * @param stackless параметр генерации исключений итераторов без трассировки стека.
+     *
+     * @return Текущее {@linkplain AbstractMutableIterable абстрактное изменяемое итерируемое}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("_ -> this")
+    public @NotNull AbstractMutableIterable<T> stackless(final boolean stackless) {
+        super.stackless(stackless);
+        return this;
+    }
+
     /**
      * Возвращает {@linkplain Lock инструмент для управления доступом} к текущему
      * {@linkplain AbstractMutableIterable абстрактному изменяемому итерируемому}.
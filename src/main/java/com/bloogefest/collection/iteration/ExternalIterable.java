@@ -9,10 +9,13 @@ package com.bloogefest.collection.iteration;
 import com.bloogefest.annotation.analysis.Contract;
 import com.bloogefest.annotation.analysis.NotNull;
 import com.bloogefest.collection.iteration.iterator.ExternalIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorSpliterator;
 import com.bloogefest.common.function.Supplier;
 import com.bloogefest.common.validation.NullException;
 import com.bloogefest.common.validation.Validator;
 
+import java.util.Spliterator;
+
 /**
  * Внешнее итерируемое.
  *
@@ -39,4 +42,63 @@ public interface ExternalIterable<T> extends Iterable<T> {
         return () -> Validator.notNull(supplier.supply(), "The iterator");
     }
 
+    /**
+     * Создаёт и возвращает {@linkplain ExternalIterable внешнее итерируемое} на основе переданных
+     * {@linkplain Supplier поставщика} {@linkplain ExternalIterator внешнего итератора} и {@linkplain Supplier поставщика}
+     * {@linkplain Spliterator разделителя}.
+     *
+     * @param supplier {@linkplain Supplier поставщик} {@linkplain ExternalIterator внешнего итератора}.
+     * @param spliterator {@linkplain Supplier поставщик} {@linkplain Spliterator разделителя}.
+     *
+     * @return {@linkplain ExternalIterable Внешнее итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Supplier поставщика}
+     * {@linkplain ExternalIterator внешнего итератора} или {@linkplain Spliterator разделителя}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null -> new; _, _ -> fail")
+    static <T> @NotNull ExternalIterable<T> of(final @NotNull Supplier<ExternalIterator<T>> supplier,
+                                               final @NotNull Supplier<Spliterator<T>> spliterator) throws NullException {
+        Validator.notNull(supplier, "The supplier");
+        Validator.notNull(spliterator, "The spliterator supplier");
+        return new ExternalIterable<>() {
+
+            @Override
+            public @NotNull ExternalIterator<T> iterator() {
+                return Validator.notNull(supplier.supply(), "The iterator");
+            }
+
+            @Override
+            public @NotNull Spliterator<T> spliterator() {
+                return Validator.notNull(spliterator.supply(), "The spliterator");
+            }
+
+        };
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain ExternalIterator внешний итератор}.
+     *
+     * @return {@linkplain ExternalIterator Внешний итератор}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> new")
+    @NotNull ExternalIterator<T> iterator();
+
+    /**
+     * Создаёт и возвращает {@linkplain IteratorSpliterator разделитель} неизвестного размера на основе
+     * {@linkplain ExternalIterator внешнего итератора}.
+     *
+     * @return {@linkplain IteratorSpliterator Разделитель} неизвестного размера.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> new")
+    default @NotNull Spliterator<T> spliterator() {
+        return new IteratorSpliterator<>(iterator().iterator().first());
+    }
+
 }
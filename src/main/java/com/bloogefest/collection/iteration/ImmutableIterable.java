@@ -8,13 +8,23 @@ package com.bloogefest.collection.iteration;
 
 import com.bloogefest.annotation.analysis.Contract;
 import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.function.ChunkHandler;
 import com.bloogefest.collection.iteration.iterator.ImmutableIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorSpliterator;
+import com.bloogefest.collection.iteration.view.FilteringView;
+import com.bloogefest.collection.iteration.view.FlatMappingView;
+import com.bloogefest.collection.iteration.view.LimitingView;
+import com.bloogefest.collection.iteration.view.MappingView;
+import com.bloogefest.collection.iteration.view.SkippingView;
+import com.bloogefest.collection.iteration.view.TakingWhileView;
 import com.bloogefest.common.function.Handler;
 import com.bloogefest.common.function.Predicate;
 import com.bloogefest.common.validation.NullException;
 import com.bloogefest.common.validation.Validator;
 
+import java.util.Spliterator;
 import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
 
 /**
  * Неизменяемое итерируемое.
@@ -64,7 +74,7 @@ public interface ImmutableIterable<T> {
                                                   final @NotNull SequentialIterationDirection direction) throws NullException, SequentialIterationException {
         Validator.notNull(handler, "The handler");
         Validator.notNull(direction, "The direction");
-        final @NotNull var lock = Validator.notNull(lock(), "The lock");
+        final @NotNull var lock = Validator.notNull(readLock(), "The lock");
         final @NotNull var iterator = Validator.notNull(iterator(direction), "The iterator");
         try {
             lock.lockInterruptibly();
@@ -116,7 +126,7 @@ public interface ImmutableIterable<T> {
                                                   final @NotNull SequentialIterationDirection direction) throws NullException, SequentialIterationException {
         Validator.notNull(predicate, "The predicate");
         Validator.notNull(direction, "The direction");
-        final @NotNull var lock = Validator.notNull(lock(), "The lock");
+        final @NotNull var lock = Validator.notNull(readLock(), "The lock");
         final @NotNull var iterator = Validator.notNull(iterator(direction), "The iterator");
         try {
             lock.lockInterruptibly();
@@ -129,6 +139,49 @@ public interface ImmutableIterable<T> {
         }
     }
 
+    /**
+     * Последовательно итерирует переданный {@linkplain ChunkHandler<T> обработчик блоков} в
+     * {@linkplain SequentialIterationDirection#DEFAULT направлении последовательной итерации по умолчанию}, передавая
+     * ему блоки не более чем из переданного количества элементов. По умолчанию копирует элементы
+     * {@linkplain #iterator() итератора} в повторно используемый буфер, поэтому реализации с непрерывным хранилищем
+     * могут переопределить этот метод и передавать блоки без копирования.
+     *
+     * @param handler {@linkplain ChunkHandler<T> обработчик блоков}.
+     * @param size максимальное количество элементов блока.
+     *
+     * @return Текущее {@linkplain ImmutableIterable неизменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain ChunkHandler<T> обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации (в том числе неположительного
+     * количества элементов блока).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> this; _, _ -> fail")
+    default @NotNull ImmutableIterable<T> iterateChunks(final @NotNull ChunkHandler<T> handler,
+                                                        final int size) throws NullException, SequentialIterationException {
+        Validator.notNull(handler, "The handler");
+        if (size <= 0) throw new SequentialIterationException("Illegal chunk size: " + size);
+        final @NotNull var lock = Validator.notNull(readLock(), "The lock");
+        final @NotNull var iterator = Validator.notNull(iterator(), "The iterator");
+        try {
+            lock.lockInterruptibly();
+            final var chunk = new Object[size];
+            var length = 0;
+            while (iterator.hasNext()) {
+                chunk[length++] = iterator.next().current();
+                if (length < size) continue;
+                handler.handle(chunk, 0, length);
+                length = 0;
+            }
+            if (length > 0) handler.handle(chunk, 0, length);
+            return this;
+        } catch (final Throwable failure) {
+            throw new SequentialIterationException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * Создаёт и возвращает {@linkplain ImmutableIterator итератор} текущего
      * {@linkplain ImmutableIterable неизменяемого итерируемого} в
@@ -163,6 +216,221 @@ public interface ImmutableIterable<T> {
     @Contract("!null -> new; _ -> fail")
     @NotNull ImmutableIterator<T> iterator(final @NotNull SequentialIterationDirection direction) throws NullException;
 
+    /**
+     * Создаёт и возвращает {@linkplain ImmutableIterator итератор} текущего
+     * {@linkplain ImmutableIterable неизменяемого итерируемого} в переданном
+     * {@linkplain NonSequentialIterationDirection направлении непоследовательной итерации}. По умолчанию генерирует
+     * {@linkplain NonSequentialIterationException исключение непоследовательной итерации}, поскольку такой порядок
+     * эффективен только при произвольном доступе к элементам.
+     *
+     * @param direction {@linkplain NonSequentialIterationDirection направление непоследовательной итерации}.
+     *
+     * @return {@linkplain ImmutableIterator Итератор} текущего {@linkplain ImmutableIterable неизменяемого итерируемого}
+     * в переданном {@linkplain NonSequentialIterationDirection направлении непоследовательной итерации}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain NonSequentialIterationDirection направления непоследовательной итерации}).
+     * @throws NonSequentialIterationException исключение непоследовательной итерации (неподдерживаемого направления).
+     * @see NonSequentialIterationDirection#index(int, int)
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    default @NotNull ImmutableIterator<T> iterator(
+            final @NotNull NonSequentialIterationDirection direction) throws NullException, NonSequentialIterationException {
+        Validator.notNull(direction, "The direction");
+        throw new NonSequentialIterationException(String.format(NonSequentialIterationException.TEMPLATE_MESSAGE,
+                                                                direction));
+    }
+
+    /**
+     * Непоследовательно итерирует переданный {@linkplain Handler обработчик} в переданном
+     * {@linkplain NonSequentialIterationDirection направлении непоследовательной итерации}.
+     *
+     * @param handler {@linkplain Handler обработчик}.
+     * @param direction {@linkplain NonSequentialIterationDirection направление непоследовательной итерации}.
+     *
+     * @return Текущее {@linkplain ImmutableIterable неизменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Handler обработчика} или
+     * {@linkplain NonSequentialIterationDirection направления непоследовательной итерации}).
+     * @throws NonSequentialIterationException исключение непоследовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null -> this; _, _ -> fail")
+    default @NotNull ImmutableIterable<T> iterate(final @NotNull Handler<T> handler,
+                                                  final @NotNull NonSequentialIterationDirection direction) throws NullException, NonSequentialIterationException {
+        Validator.notNull(handler, "The handler");
+        final @NotNull var iterator = Validator.notNull(iterator(direction), "The iterator");
+        final @NotNull var lock = Validator.notNull(readLock(), "The lock");
+        try {
+            lock.lockInterruptibly();
+            while (iterator.hasNext()) handler.handle(iterator.next().current());
+            return this;
+        } catch (final Throwable failure) {
+            throw new NonSequentialIterationException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Непоследовательно итерирует переданный {@linkplain Predicate предикат} в переданном
+     * {@linkplain NonSequentialIterationDirection направлении непоследовательной итерации}, пока тот возвращает истину.
+     *
+     * @param predicate {@linkplain Predicate предикат}.
+     * @param direction {@linkplain NonSequentialIterationDirection направление непоследовательной итерации}.
+     *
+     * @return Текущее {@linkplain ImmutableIterable неизменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Predicate предиката} или
+     * {@linkplain NonSequentialIterationDirection направления непоследовательной итерации}).
+     * @throws NonSequentialIterationException исключение непоследовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null -> this; _, _ -> fail")
+    default @NotNull ImmutableIterable<T> iterate(final @NotNull Predicate<T> predicate,
+                                                  final @NotNull NonSequentialIterationDirection direction) throws NullException, NonSequentialIterationException {
+        Validator.notNull(predicate, "The predicate");
+        final @NotNull var iterator = Validator.notNull(iterator(direction), "The iterator");
+        final @NotNull var lock = Validator.notNull(readLock(), "The lock");
+        try {
+            lock.lockInterruptibly();
+            while (iterator.hasNext()) if (!predicate.evaluate(iterator.next().current())) break;
+            return this;
+        } catch (final Throwable failure) {
+            throw new NonSequentialIterationException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Параллельно итерирует переданный {@linkplain Handler обработчик} по диапазонам
+     * {@linkplain #spliterator() разделителя} текущего {@linkplain ImmutableIterable неизменяемого итерируемого} с
+     * переданным уровнем параллелизма. Порядок вызовов обработчика не определён.
+     *
+     * @param handler {@linkplain Handler обработчик}.
+     * @param parallelism уровень параллелизма.
+     *
+     * @return Текущее {@linkplain ImmutableIterable неизменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Handler обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации (первой ошибки, остальные подавлены).
+     * @see ParallelIterationTask#iterate(Spliterator, Handler, int)
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> this; _, _ -> fail")
+    default @NotNull ImmutableIterable<T> parallelIterate(final @NotNull Handler<T> handler,
+                                                          final int parallelism) throws NullException, SequentialIterationException {
+        ParallelIterationTask.iterate(spliterator(), handler, parallelism);
+        return this;
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain MappingView ленивое представление}, заменяющее каждый элемент текущего
+     * {@linkplain ImmutableIterable неизменяемого итерируемого} результатом переданной {@linkplain Function функции}.
+     *
+     * @param function {@linkplain Function функция}.
+     * @param <R> тип элемента представления.
+     *
+     * @return {@linkplain MappingView Ленивое представление}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданной {@linkplain Function функции}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    default <R> @NotNull ImmutableIterable<R> map(
+            final @NotNull Function<? super T, ? extends R> function) throws NullException {
+        return new MappingView<>(this, function);
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain FilteringView ленивое представление}, содержащее элементы текущего
+     * {@linkplain ImmutableIterable неизменяемого итерируемого}, для которых переданный {@linkplain Predicate предикат}
+     * возвращает истину.
+     *
+     * @param predicate {@linkplain Predicate предикат}.
+     *
+     * @return {@linkplain FilteringView Ленивое представление}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Predicate предиката}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    default @NotNull ImmutableIterable<T> filter(final @NotNull Predicate<T> predicate) throws NullException {
+        return new FilteringView<>(this, predicate);
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain FlatMappingView ленивое представление}, заменяющее каждый элемент текущего
+     * {@linkplain ImmutableIterable неизменяемого итерируемого} элементами итерируемого, которое возвращает переданная
+     * {@linkplain Function функция}.
+     *
+     * @param function {@linkplain Function функция}.
+     * @param <R> тип элемента представления.
+     *
+     * @return {@linkplain FlatMappingView Ленивое представление}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданной {@linkplain Function функции}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    default <R> @NotNull ImmutableIterable<R> flatMap(
+            final @NotNull Function<? super T, ? extends ImmutableIterable<? extends R>> function) throws NullException {
+        return new FlatMappingView<>(this, function);
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain LimitingView ленивое представление}, содержащее не более переданного количества
+     * первых элементов текущего {@linkplain ImmutableIterable неизменяемого итерируемого}.
+     *
+     * @param limit максимальное количество элементов.
+     *
+     * @return {@linkplain LimitingView Ленивое представление}.
+     *
+     * @throws SequentialIterationException исключение последовательной итерации (отрицательного максимального
+     * количества элементов).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    default @NotNull ImmutableIterable<T> limit(final long limit) throws SequentialIterationException {
+        return new LimitingView<>(this, limit);
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain SkippingView ленивое представление}, пропускающее переданное количество первых
+     * элементов текущего {@linkplain ImmutableIterable неизменяемого итерируемого}.
+     *
+     * @param skip количество пропускаемых элементов.
+     *
+     * @return {@linkplain SkippingView Ленивое представление}.
+     *
+     * @throws SequentialIterationException исключение последовательной итерации (отрицательного количества
+     * пропускаемых элементов).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    default @NotNull ImmutableIterable<T> skip(final long skip) throws SequentialIterationException {
+        return new SkippingView<>(this, skip);
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain TakingWhileView ленивое представление}, содержащее первые элементы текущего
+     * {@linkplain ImmutableIterable неизменяемого итерируемого}, пока переданный {@linkplain Predicate предикат}
+     * возвращает истину.
+     *
+     * @param predicate {@linkplain Predicate предикат}.
+     *
+     * @return {@linkplain TakingWhileView Ленивое представление}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Predicate предиката}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    default @NotNull ImmutableIterable<T> takeWhile(final @NotNull Predicate<T> predicate) throws NullException {
+        return new TakingWhileView<>(this, predicate);
+    }
+
     /**
      * Создаёт и возвращает {@linkplain ExternalIterable внешнее итерируемое} на основе текущего
      * {@linkplain ImmutableIterable неизменяемого итерируемого}.
@@ -174,7 +442,20 @@ public interface ImmutableIterable<T> {
      */
     @Contract("-> new")
     default @NotNull ExternalIterable<T> external() {
-        return ExternalIterable.of(iterator()::external);
+        return ExternalIterable.of(() -> iterator().external(), this::spliterator);
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain IteratorSpliterator разделитель} неизвестного размера на основе
+     * {@linkplain #iterator() итератора} текущего {@linkplain ImmutableIterable неизменяемого итерируемого}.
+     *
+     * @return {@linkplain IteratorSpliterator Разделитель} неизвестного размера.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    default @NotNull Spliterator<T> spliterator() {
+        return new IteratorSpliterator<>(iterator());
     }
 
     /**
@@ -187,6 +468,20 @@ public interface ImmutableIterable<T> {
     @Contract("-> const")
     @NotNull Lock lock();
 
+    /**
+     * Возвращает {@linkplain Lock инструмент для управления доступом на чтение}, захватываемый операциями, которые не
+     * изменяют элементы. По умолчанию возвращает {@linkplain #lock() инструмент для управления доступом}.
+     *
+     * @return {@linkplain Lock Инструмент для управления доступом на чтение}.
+     *
+     * @see #lock()
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> const")
+    default @NotNull Lock readLock() {
+        return lock();
+    }
+
     /**
      * Возвращает параметр поддержки нулевых элементов.
      *
@@ -197,6 +492,19 @@ public interface ImmutableIterable<T> {
     @Contract("-> const")
     boolean nullable();
 
+    /**
+     * Возвращает параметр генерации исключений итераторов без трассировки стека.
+     *
+     * @return Параметр генерации исключений итераторов без трассировки стека.
+     *
+     * @see ImmutableIterator#stackless()
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> const")
+    default boolean stackless() {
+        return false;
+    }
+
     /**
      * Возвращает параметр изменяемости.
      *
@@ -8,10 +8,15 @@ package com.bloogefest.collection.iteration;
 
 import com.bloogefest.annotation.analysis.Contract;
 import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.ImmutableCollection;
+import com.bloogefest.collection.function.ChunkHandler;
 import com.bloogefest.collection.iteration.iterator.MutableIterator;
 import com.bloogefest.common.function.Handler;
 import com.bloogefest.common.function.Predicate;
 import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.function.UnaryOperator;
 
 /**
  * Изменяемое итерируемое.
@@ -110,6 +115,133 @@ public interface MutableIterable<T> extends ImmutableIterable<T> {
         return this;
     }
 
+    /**
+     * Параллельно итерирует переданный {@linkplain Handler обработчик} с переданным уровнем параллелизма.
+     *
+     * @param handler {@linkplain Handler обработчик}.
+     * @param parallelism уровень параллелизма.
+     *
+     * @return Текущее {@linkplain MutableIterable изменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Handler обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @see ImmutableIterable#parallelIterate(Handler, int)
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, _ -> this; _, _ -> fail")
+    default @NotNull MutableIterable<T> parallelIterate(final @NotNull Handler<T> handler,
+                                                        final int parallelism) throws NullException, SequentialIterationException {
+        ImmutableIterable.super.parallelIterate(handler, parallelism);
+        return this;
+    }
+
+    /**
+     * Последовательно удаляет элементы, для которых переданный {@linkplain Predicate предикат} возвращает истину, за
+     * один захват {@linkplain #lock() инструмента для управления доступом}. Элементы удаляются
+     * {@linkplain MutableIterator#delete() элементарной операцией итератора}, поэтому реализации с более эффективным
+     * уплотнением могут переопределить этот метод.
+     *
+     * @param predicate {@linkplain Predicate предикат}.
+     *
+     * @return Текущее {@linkplain MutableIterable изменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Predicate предиката}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @see #retainAll(ImmutableCollection)
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> this; _ -> fail")
+    default @NotNull MutableIterable<T> removeIf(
+            final @NotNull Predicate<T> predicate) throws NullException, SequentialIterationException {
+        Validator.notNull(predicate, "The predicate");
+        final @NotNull var lock = Validator.notNull(lock(), "The lock");
+        final @NotNull var iterator = Validator.notNull(iterator(), "The iterator");
+        try {
+            lock.lockInterruptibly();
+            while (iterator.hasNext()) if (predicate.evaluate(iterator.next().current())) iterator.delete();
+            return this;
+        } catch (final Throwable failure) {
+            throw new SequentialIterationException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Последовательно заменяет каждый элемент результатом переданного {@linkplain UnaryOperator оператора} за один
+     * захват {@linkplain #lock() инструмента для управления доступом}.
+     *
+     * @param operator {@linkplain UnaryOperator оператор}.
+     *
+     * @return Текущее {@linkplain MutableIterable изменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain UnaryOperator оператора}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> this; _ -> fail")
+    default @NotNull MutableIterable<T> replaceAll(
+            final @NotNull UnaryOperator<T> operator) throws NullException, SequentialIterationException {
+        Validator.notNull(operator, "The operator");
+        final @NotNull var lock = Validator.notNull(lock(), "The lock");
+        final @NotNull var iterator = Validator.notNull(iterator(), "The iterator");
+        try {
+            lock.lockInterruptibly();
+            while (iterator.hasNext()) iterator.change(operator.apply(iterator.next().current()));
+            return this;
+        } catch (final Throwable failure) {
+            throw new SequentialIterationException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Последовательно удаляет элементы, которые не {@linkplain ImmutableCollection#contains(Object) содержатся} в
+     * переданной {@linkplain ImmutableCollection неизменяемой коллекции}. Если переданная коллекция является текущим
+     * итерируемым, ничего не удаляет.
+     *
+     * @param collection {@linkplain ImmutableCollection неизменяемая коллекция}.
+     *
+     * @return Текущее {@linkplain MutableIterable изменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданной
+     * {@linkplain ImmutableCollection неизменяемой коллекции}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @see #removeIf(Predicate)
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> this; _ -> fail")
+    default @NotNull MutableIterable<T> retainAll(
+            final @NotNull ImmutableCollection<? super T> collection) throws NullException, SequentialIterationException {
+        Validator.notNull(collection, "The collection");
+        if (collection == this) return this;
+        return removeIf(element -> !collection.contains(element));
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain ChunkHandler<T> обработчик блоков}, передавая ему блоки не более чем
+     * из переданного количества элементов.
+     *
+     * @param handler {@linkplain ChunkHandler<T> обработчик блоков}.
+     * @param size максимальное количество элементов блока.
+     *
+     * @return Текущее {@linkplain MutableIterable изменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain ChunkHandler<T> обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @see ImmutableIterable#iterateChunks(ChunkHandler, int)
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, _ -> this; _, _ -> fail")
+    default @NotNull MutableIterable<T> iterateChunks(final @NotNull ChunkHandler<T> handler,
+                                                      final int size) throws NullException, SequentialIterationException {
+        ImmutableIterable.super.iterateChunks(handler, size);
+        return this;
+    }
+
     /**
      * Создаёт и возвращает {@linkplain MutableIterator итератор} текущего
      * {@linkplain MutableIterable изменяемого итерируемого} в
@@ -144,6 +276,50 @@ public interface MutableIterable<T> extends ImmutableIterable<T> {
     @Contract("!null -> new; _ -> fail")
     @NotNull MutableIterator<T> iterator(final @NotNull SequentialIterationDirection direction) throws NullException;
 
+    /**
+     * Непоследовательно итерирует переданный {@linkplain Handler обработчик} в переданном
+     * {@linkplain NonSequentialIterationDirection направлении непоследовательной итерации}.
+     *
+     * @param handler {@linkplain Handler обработчик}.
+     * @param direction {@linkplain NonSequentialIterationDirection направление непоследовательной итерации}.
+     *
+     * @return Текущее {@linkplain MutableIterable изменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Handler обработчика} или
+     * {@linkplain NonSequentialIterationDirection направления непоследовательной итерации}).
+     * @throws NonSequentialIterationException исключение непоследовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, !null -> this; _, _ -> fail")
+    default @NotNull MutableIterable<T> iterate(final @NotNull Handler<T> handler,
+                                                final @NotNull NonSequentialIterationDirection direction) throws NullException, NonSequentialIterationException {
+        ImmutableIterable.super.iterate(handler, direction);
+        return this;
+    }
+
+    /**
+     * Непоследовательно итерирует переданный {@linkplain Predicate предикат} в переданном
+     * {@linkplain NonSequentialIterationDirection направлении непоследовательной итерации}, пока тот возвращает истину.
+     *
+     * @param predicate {@linkplain Predicate предикат}.
+     * @param direction {@linkplain NonSequentialIterationDirection направление непоследовательной итерации}.
+     *
+     * @return Текущее {@linkplain MutableIterable изменяемое итерируемое}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Predicate предиката} или
+     * {@linkplain NonSequentialIterationDirection направления непоследовательной итерации}).
+     * @throws NonSequentialIterationException исключение непоследовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, !null -> this; _, _ -> fail")
+    default @NotNull MutableIterable<T> iterate(final @NotNull Predicate<T> predicate,
+                                                final @NotNull NonSequentialIterationDirection direction) throws NullException, NonSequentialIterationException {
+        ImmutableIterable.super.iterate(predicate, direction);
+        return this;
+    }
+
     /**
      * Создаёт и возвращает {@linkplain ExternalIterable внешнее итерируемое} на основе текущего
      * {@linkplain MutableIterable изменяемого итерируемого}.
@@ -81,4 +81,67 @@ public enum NonSequentialIterationDirection {
      */
     public static final @Magical int DEFAULT_ORDINAL = 0;
 
+    /**
+     * Возвращает индекс элемента, посещаемого на переданном шаге итерации в текущем
+     * {@linkplain NonSequentialIterationDirection направлении непоследовательной итерации} по элементам переданного
+     * количества. Вычисляется за постоянное время.
+     * <ul>
+     *     <li>{@linkplain #INSIDE}: {@code 0, n - 1, 1, n - 2, ...};</li>
+     *     <li>{@linkplain #OUTSIDE}: обратный порядок {@linkplain #INSIDE}, то есть от центрального элемента к первому
+     *     и последнему;</li>
+     *     <li>{@linkplain #COMPOSITE}: поочерёдно {@linkplain SequentialIterationDirection#FORWARD вперёд} от первого
+     *     элемента, {@linkplain SequentialIterationDirection#BACKWARD назад} от последнего и
+     *     {@linkplain #OUTSIDE наружу} от центра в обе стороны, например {@code 0, 7, 3, 4, 1, 6, 2, 5} для восьми
+     *     элементов.</li>
+     * </ul>
+     *
+     * @param step шаг итерации (от {@code 0} до {@code size - 1}).
+     * @param size количество элементов.
+     *
+     * @return Индекс элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    public int index(final int step, final int size) {
+        return switch (this) {
+            case INSIDE -> inside(step, size);
+            case OUTSIDE -> inside(size - 1 - step, size);
+            case COMPOSITE -> composite(step, size);
+        };
+    }
+
+    /**
+     * Возвращает индекс элемента, посещаемого на переданном шаге итерации в сторону центрального элемента.
+     *
+     * @param step шаг итерации.
+     * @param size количество элементов.
+     *
+     * @return Индекс элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static int inside(final int step, final int size) {
+        return (step & 1) == 0 ? step >>> 1 : size - 1 - (step >>> 1);
+    }
+
+    /**
+     * Возвращает индекс элемента, посещаемого на переданном шаге составной итерации. Левая половина из
+     * {@code ceil(n / 2)} элементов обходится от краёв к середине, правая — аналогично, а шаги чередуются между
+     * половинами, пока правая не закончится.
+     *
+     * @param step шаг итерации.
+     * @param size количество элементов.
+     *
+     * @return Индекс элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static int composite(final int step, final int size) {
+        final var left = (size + 1) >>> 1;
+        final var right = size - left;
+        if (step >= right << 1) return inside(step - right, left);
+        final var index = step >>> 1;
+        return (step & 1) == 0 ? inside(index, left) : size - 1 - inside(index, right);
+    }
+
 }
@@ -0,0 +1,176 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.iteration;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.common.function.Handler;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Задача параллельной итерации. Разделяет {@linkplain Spliterator разделитель} на диапазоны и итерирует
+ * {@linkplain Handler обработчик} по ним в {@linkplain ForkJoinPool пуле} с переданным уровнем параллелизма. После
+ * первой ошибки оставшиеся диапазоны не итерируются.
+ *
+ * @param <T> тип элемента.
+ *
+ * @see #iterate(Spliterator, Handler, int)
+ * @since 1.0.0-RC1
+ */
+public final class ParallelIterationTask<T> extends RecursiveAction {
+
+    /**
+     * Количество диапазонов на один поток.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final int RANGES_PER_THREAD = 4;
+
+    /**
+     * Итерируемый {@linkplain Spliterator разделитель}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull Spliterator<T> spliterator;
+
+    /**
+     * {@linkplain Handler Обработчик}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull Handler<T> handler;
+
+    /**
+     * Оценка размера, до которой диапазон продолжает разделяться.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final long threshold;
+
+    /**
+     * Первая ошибка.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull AtomicReference<Throwable> failure;
+
+    /**
+     * Последующие ошибки.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull ConcurrentLinkedQueue<Throwable> suppressed;
+
+    /**
+     * Следующая задача, отделённая той же родительской задачей.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @Nullable ParallelIterationTask<T> sibling;
+
+    /**
+     * Создаёт задачу параллельной итерации.
+     *
+     * @param spliterator {@linkplain Spliterator разделитель}.
+     * @param handler {@linkplain Handler обработчик}.
+     * @param threshold оценка размера, до которой диапазон продолжает разделяться.
+     * @param failure первая ошибка.
+     * @param suppressed последующие ошибки.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _, _, _, _ -> new")
+    private ParallelIterationTask(final @NotNull Spliterator<T> spliterator, final @NotNull Handler<T> handler,
+                                  final long threshold, final @NotNull AtomicReference<Throwable> failure,
+                                  final @NotNull ConcurrentLinkedQueue<Throwable> suppressed) {
+        this.spliterator = spliterator;
+        this.handler = handler;
+        this.threshold = threshold;
+        this.failure = failure;
+        this.suppressed = suppressed;
+    }
+
+    /**
+     * Параллельно итерирует переданный {@linkplain Handler обработчик} по элементам переданного
+     * {@linkplain Spliterator разделителя} с переданным уровнем параллелизма. Если уровень параллелизма совпадает с
+     * уровнем {@linkplain ForkJoinPool#commonPool() общего пула}, использует его, в противном случае создаёт
+     * временный пул. Первая ошибка становится причиной
+     * {@linkplain SequentialIterationException исключения последовательной итерации}, остальные — подавленными.
+     *
+     * @param spliterator {@linkplain Spliterator разделитель}.
+     * @param handler {@linkplain Handler обработчик}.
+     * @param parallelism уровень параллелизма.
+     * @param <T> тип элемента.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Spliterator разделителя} или
+     * {@linkplain Handler обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации (недопустимого уровня параллелизма или
+     * ошибки обработчика).
+     * @since 1.0.0-RC1
+     */
+    public static <T> void iterate(final @NotNull Spliterator<T> spliterator, final @NotNull Handler<T> handler,
+                                   final int parallelism) throws NullException, SequentialIterationException {
+        Validator.notNull(spliterator, "The spliterator");
+        Validator.notNull(handler, "The handler");
+        if (parallelism < 1) throw new SequentialIterationException("Illegal parallelism: " + parallelism);
+        final var threshold = Math.max(spliterator.estimateSize() / ((long) parallelism * RANGES_PER_THREAD), 1L);
+        final var failure = new AtomicReference<Throwable>();
+        final var suppressed = new ConcurrentLinkedQueue<Throwable>();
+        final var task = new ParallelIterationTask<>(spliterator, handler, threshold, failure, suppressed);
+        if (parallelism == ForkJoinPool.getCommonPoolParallelism()) ForkJoinPool.commonPool().invoke(task);
+        else {
+            final var pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(task);
+            } finally {
+                pool.shutdown();
+            }
+        }
+        final var cause = failure.get();
+        if (cause == null) return;
+        final var exception = new SequentialIterationException(cause);
+        for (final var other : suppressed) exception.addSuppressed(other);
+        throw exception;
+    }
+
+    /**
+     * Разделяет текущий диапазон, пока его оценка размера больше {@linkplain #threshold порога}, запускает отделённые
+     * задачи, итерирует остаток и ожидает завершения отделённых задач.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    protected void compute() {
+        final @NotNull var spliterator = this.spliterator;
+        @Nullable ParallelIterationTask<T> forked = null;
+        try {
+            @Nullable Spliterator<T> split;
+            while (failure.get() == null && spliterator.estimateSize() > threshold
+                   && (split = spliterator.trySplit()) != null) {
+                final var task = new ParallelIterationTask<>(split, handler, threshold, failure, suppressed);
+                task.sibling = forked;
+                forked = task;
+                task.fork();
+            }
+            final @NotNull Consumer<T> action = handler::handle;
+            while (failure.get() == null) if (!spliterator.tryAdvance(action)) break;
+        } catch (final @NotNull Throwable cause) {
+            if (!failure.compareAndSet(null, cause)) suppressed.add(cause);
+        }
+        for (var task = forked; task != null; task = task.sibling) task.join();
+    }
+
+}
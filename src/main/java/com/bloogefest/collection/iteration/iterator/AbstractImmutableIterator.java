@@ -14,10 +14,12 @@ package com.bloogefest.collection.iteration.iterator;
 
 import com.bloogefest.annotation.analysis.Contract;
 import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.lock.NoOpLock;
 import com.bloogefest.common.validation.NullException;
 import com.bloogefest.common.validation.Validator;
 
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 
 /**
  * Абстрактный итератор неизменяемого.
@@ -34,6 +36,13 @@ public abstract class AbstractImmutableIterator<T> implements ImmutableIterator<
      */
     private final @NotNull Lock lock;
 
+    /**
+     * Инструмент для управления доступом на чтение.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull Lock readLock;
+
     /**
      * Параметр поддержки нулевых элементов.
      *
@@ -41,6 +50,13 @@ public abstract class AbstractImmutableIterator<T> implements ImmutableIterator<
      */
     private final boolean nullable;
 
+    /**
+     * Параметр генерации исключений без трассировки стека.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final boolean stackless;
+
     /**
      * Создаёт абстрактный итератор неизменяемого на основе переданного инструмента для управления доступом и параметра
      * поддержки нулевых элементов.
@@ -53,8 +69,79 @@ public abstract class AbstractImmutableIterator<T> implements ImmutableIterator<
      */
     @Contract("!null, _ -> new; _, _ -> fail")
     public AbstractImmutableIterator(final @NotNull Lock lock, final boolean nullable) throws NullException {
+        this(lock, lock, nullable);
+    }
+
+    /**
+     * Создаёт абстрактный итератор неизменяемого на основе переданных инструмента для управления доступом,
+     * инструмента для управления доступом на чтение и параметра поддержки нулевых элементов.
+     *
+     * @param lock инструмент для управления доступом.
+     * @param readLock инструмент для управления доступом на чтение.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного инструмента для управления доступом или
+     * инструмента для управления доступом на чтение).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null, _ -> new; _, _, _ -> fail")
+    public AbstractImmutableIterator(final @NotNull Lock lock, final @NotNull Lock readLock,
+                                     final boolean nullable) throws NullException {
+        this(lock, readLock, nullable, false);
+    }
+
+    /**
+     * Создаёт абстрактный итератор неизменяемого на основе переданных инструмента для управления доступом,
+     * инструмента для управления доступом на чтение, параметра поддержки нулевых элементов и параметра генерации
+     * исключений без трассировки стека.
+     *
+     * @param lock инструмент для управления доступом.
+     * @param readLock инструмент для управления доступом на чтение.
+     * @param nullable параметр поддержки нулевых элементов.
+     * @param stackless параметр генерации исключений без трассировки стека.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного инструмента для управления доступом или
+     * инструмента для управления доступом на чтение).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null, _, _ -> new; _, _, _, _ -> fail")
+    public AbstractImmutableIterator(final @NotNull Lock lock, final @NotNull Lock readLock, final boolean nullable,
+                                     final boolean stackless) throws NullException {
         this.lock = Validator.notNull(lock, "The lock");
+        this.readLock = Validator.notNull(readLock, "The read lock");
         this.nullable = nullable;
+        this.stackless = stackless;
+    }
+
+    /**
+     * Создаёт абстрактный итератор неизменяемого на основе переданного инструмента для управления доступом на чтение и
+     * запись и параметра поддержки нулевых элементов.
+     *
+     * @param lock инструмент для управления доступом на чтение и запись.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного инструмента для управления доступом на
+     * чтение и запись).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public AbstractImmutableIterator(final @NotNull ReadWriteLock lock, final boolean nullable) throws NullException {
+        this(Validator.notNull(lock, "The lock").writeLock(), lock.readLock(), nullable);
+    }
+
+    /**
+     * Создаёт абстрактный итератор неизменяемого на основе {@linkplain NoOpLock пустого инструмента для управления
+     * доступом} и переданного параметра поддержки нулевых элементов. Предназначен для итераторов, доступ к которым
+     * ограничен одним потоком.
+     *
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @see NoOpLock
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    public AbstractImmutableIterator(final boolean nullable) {
+        this(NoOpLock.INSTANCE, nullable);
     }
 
     /**
@@ -70,6 +157,19 @@ public abstract class AbstractImmutableIterator<T> implements ImmutableIterator<
         return lock;
     }
 
+    /**
+     * Возвращает {@linkplain #readLock инструмент для управления доступом на чтение}.
+     *
+     * @return {@linkplain #readLock Инструмент для управления доступом на чтение}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> const")
+    public @NotNull Lock readLock() {
+        return readLock;
+    }
+
     /**
      * Возвращает {@linkplain #nullable параметр поддержки нулевых элементов}.
      *
@@ -83,4 +183,17 @@ public abstract class AbstractImmutableIterator<T> implements ImmutableIterator<
         return nullable;
     }
 
+    /**
+     * Возвращает {@linkplain #stackless параметр генерации исключений без трассировки стека}.
+     *
+     * @return {@linkplain #stackless Параметр генерации исключений без трассировки стека}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> const")
+    public boolean stackless() {
+        return stackless;
+    }
+
 }
@@ -14,9 +14,11 @@ package com.bloogefest.collection.iteration.iterator;
 
 import com.bloogefest.annotation.analysis.Contract;
 import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.lock.NoOpLock;
 import com.bloogefest.common.validation.NullException;
 
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 
 /**
  * Абстрактный итератор изменяемого.
@@ -41,4 +43,73 @@ public abstract class AbstractMutableIterator<T> extends AbstractImmutableIterat
         super(lock, nullable);
     }
 
+    /**
+     * Создаёт абстрактный итератор изменяемого на основе переданных инструмента для управления доступом, инструмента
+     * для управления доступом на чтение и параметра поддержки нулевых элементов.
+     *
+     * @param lock инструмент для управления доступом.
+     * @param readLock инструмент для управления доступом на чтение.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного инструмента для управления доступом или
+     * инструмента для управления доступом на чтение).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null, _ -> new; _, _, _ -> fail")
+    public AbstractMutableIterator(final @NotNull Lock lock, final @NotNull Lock readLock,
+                                   final boolean nullable) throws NullException {
+        super(lock, readLock, nullable);
+    }
+
+    /**
+     * Создаёт абстрактный итератор изменяемого на основе переданных инструмента для управления доступом, инструмента
+     * для управления доступом на чтение, параметра поддержки нулевых элементов и параметра генерации исключений без
+     * трассировки стека.
+     *
+     * @param lock инструмент для управления доступом.
+     * @param readLock инструмент для управления доступом на чтение.
+     * @param nullable параметр поддержки нулевых элементов.
+     * @param stackless параметр генерации исключений без трассировки стека.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного инструмента для управления доступом или
+     * инструмента для управления доступом на чтение).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null, _, _ -> new; _, _, _, _ -> fail")
+    public AbstractMutableIterator(final @NotNull Lock lock, final @NotNull Lock readLock, final boolean nullable,
+                                   final boolean stackless) throws NullException {
+        super(lock, readLock, nullable, stackless);
+    }
+
+    /**
+     * Создаёт абстрактный итератор изменяемого на основе переданного инструмента для управления доступом на чтение и
+     * запись и параметра поддержки нулевых элементов.
+     *
+     * @param lock инструмент для управления доступом на чтение и запись.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного инструмента для управления доступом на
+     * чтение и запись).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public AbstractMutableIterator(final @NotNull ReadWriteLock lock, final boolean nullable) throws NullException {
+        super(lock, nullable);
+    }
+
+    /**
+     * Создаёт абстрактный итератор изменяемого на основе {@linkplain NoOpLock пустого инструмента для управления
+     * доступом} и переданного параметра поддержки нулевых элементов. Предназначен для итераторов, доступ к которым
+     * ограничен одним потоком.
+     *
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @see NoOpLock
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    public AbstractMutableIterator(final boolean nullable) {
+        super(nullable);
+    }
+
 }
@@ -0,0 +1,251 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.iteration.iterator;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.common.function.BiOptional;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+
+/**
+ * {@linkplain ExternalIterator Внешний итератор}, напрямую хранящий {@linkplain ImmutableIterator итератор} и его
+ * {@linkplain ImmutableIterator#readLock() инструмент для управления доступом на чтение}. Захватывает инструмент не
+ * более одного раза за {@linkplain #next() получение элемента} и ничего не создаёт на каждый элемент.
+ *
+ * @param <T> тип элемента.
+ *
+ * @see ExternalIterator#immutable(ImmutableIterator)
+ * @see ExternalIterator#mutable(MutableIterator)
+ * @since 1.0.0-RC1
+ */
+final class DirectExternalIterator<T> implements ExternalIterator<T> {
+
+    /**
+     * {@linkplain ImmutableIterator Итератор неизменяемого}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull ImmutableIterator<T> iterator;
+
+    /**
+     * {@linkplain MutableIterator Итератор изменяемого} или нулевой объект.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @Nullable MutableIterator<T> mutable;
+
+    /**
+     * {@linkplain ImmutableIterator#readLock() Инструмент для управления доступом на чтение}
+     * {@linkplain #iterator итератора}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull Lock lock;
+
+    /**
+     * {@linkplain BiOptional Обёртка двух обнуляемых объектов} (итератора неизменяемого и изменяемого).
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull BiOptional<ImmutableIterator<T>, MutableIterator<T>> optional;
+
+    /**
+     * Создаёт {@linkplain DirectExternalIterator внешний итератор} на основе переданных
+     * {@linkplain ImmutableIterator итератора неизменяемого} и {@linkplain MutableIterator итератора изменяемого}.
+     *
+     * @param iterator {@linkplain ImmutableIterator итератор неизменяемого}.
+     * @param mutable {@linkplain MutableIterator итератор изменяемого} или нулевой объект.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ImmutableIterator итератора неизменяемого} или его инструмента для управления доступом на чтение).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    DirectExternalIterator(final @NotNull ImmutableIterator<T> iterator,
+                           final @Nullable MutableIterator<T> mutable) throws NullException {
+        this.iterator = Validator.notNull(iterator, "The iterator");
+        this.mutable = mutable;
+        this.lock = Validator.notNull(iterator.readLock(), "The lock");
+        this.optional = BiOptional.unchecked(iterator, mutable);
+    }
+
+    /**
+     * Возвращает параметр существования следующего элемента.
+     *
+     * @return Параметр существования следующего элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    /**
+     * Если {@linkplain #hasNext() параметр существования следующего элемента} истинный, возвращает следующий элемент, в
+     * противном случае генерирует {@linkplain NoSuchElementException исключение отсутствия элемента} (следующего
+     * элемента).
+     *
+     * @return Следующий элемент.
+     *
+     * @throws NoSuchElementException исключение отсутствия элемента (следующего элемента).
+     * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public @NotNull T next() throws NoSuchElementException, IteratorAuxiliaryException {
+        final @NotNull var lock = this.lock;
+        try {
+            lock.lockInterruptibly();
+        } catch (final @NotNull InterruptedException failure) {
+            throw new IteratorAuxiliaryException(failure);
+        }
+        try {
+            if (!iterator.hasNext()) throw new NoSuchElementException();
+            return iterator.next().current();
+        } catch (final @NotNull NoSuchElementException failure) {
+            throw failure;
+        } catch (final @NotNull Exception failure) {
+            throw new IteratorAuxiliaryException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Если {@linkplain #mutable() параметр изменяемости} и
+     * {@linkplain #hasCurrent() параметр существования текущего элемента} истинные, удаляет текущий элемент, в
+     * противном случае генерирует {@linkplain UnsupportedOperationException исключение неподдерживаемой операции}
+     * (удаления элемента).
+     *
+     * @throws UnsupportedOperationException исключение неподдерживаемой операции (удаления элемента).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public void remove() throws UnsupportedOperationException {
+        final var mutable = this.mutable;
+        if (mutable == null) throw new UnsupportedOperationException();
+        mutable.delete();
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain Consumer потребитель} по оставшимся элементам за одно получение
+     * {@linkplain #lock инструмента для управления доступом на чтение}.
+     *
+     * @param consumer {@linkplain Consumer потребитель}.
+     *
+     * @throws NullPointerException исключение проверки нулевого объекта (переданного
+     * {@linkplain Consumer потребителя}).
+     * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null ->; _ -> fail")
+    public void forEachRemaining(
+            final @NotNull Consumer<? super T> consumer) throws NullPointerException, IteratorAuxiliaryException {
+        Objects.requireNonNull(consumer);
+        final @NotNull var lock = this.lock;
+        try {
+            lock.lockInterruptibly();
+            while (iterator.hasNext()) consumer.accept(iterator.next().current());
+        } catch (final @NotNull Exception failure) {
+            throw new IteratorAuxiliaryException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает параметр существования текущего элемента.
+     *
+     * @return Параметр существования текущего элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public boolean hasCurrent() {
+        return iterator.hasCurrent();
+    }
+
+    /**
+     * Возвращает параметр существования предыдущего элемента.
+     *
+     * @return Параметр существования предыдущего элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public boolean hasPrevious() {
+        return iterator.hasPrevious();
+    }
+
+    /**
+     * Если {@linkplain #hasPrevious() параметр существования предыдущего элемента} истинный, возвращает предыдущий
+     * элемент, в противном случае генерирует
+     * {@linkplain NoSuchElementException исключение отсутствия элемента (предыдущего элемента)}.
+     *
+     * @return Предыдущий элемент.
+     *
+     * @throws NoSuchElementException исключение отсутствия элемента (предыдущего элемента).
+     * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public @NotNull T previous() throws NoSuchElementException, IteratorAuxiliaryException {
+        final @NotNull var lock = this.lock;
+        try {
+            lock.lockInterruptibly();
+        } catch (final @NotNull InterruptedException failure) {
+            throw new IteratorAuxiliaryException(failure);
+        }
+        try {
+            if (!iterator.hasPrevious()) throw new NoSuchElementException();
+            return iterator.previous().current();
+        } catch (final @NotNull NoSuchElementException failure) {
+            throw failure;
+        } catch (final @NotNull Exception failure) {
+            throw new IteratorAuxiliaryException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает {@linkplain BiOptional обёртку двух обнуляемых объектов} (итератора неизменяемого и изменяемого),
+     * созданную один раз при создании текущего {@linkplain DirectExternalIterator внешнего итератора}.
+     *
+     * @return {@linkplain BiOptional Обёртка двух обнуляемых объектов} (итератора неизменяемого и изменяемого).
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> const")
+    public @NotNull BiOptional<ImmutableIterator<T>, MutableIterator<T>> iterator() {
+        return optional;
+    }
+
+    /**
+     * Возвращает параметр изменяемости.
+     *
+     * @return Параметр изменяемости.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> const")
+    public boolean mutable() {
+        return iterator.mutable();
+    }
+
+}
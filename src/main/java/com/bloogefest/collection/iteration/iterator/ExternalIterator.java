@@ -12,7 +12,6 @@ import com.bloogefest.collection.iteration.SequentialIterationDirection;
 import com.bloogefest.common.function.BiOptional;
 import com.bloogefest.common.function.Optional;
 import com.bloogefest.common.validation.NullException;
-import com.bloogefest.common.validation.Validator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -40,7 +39,7 @@ public interface ExternalIterator<T> extends Iterator<T> {
      * @since 1.0.0-RC1
      */
     static <T> ExternalIterator<T> immutable(final @NotNull ImmutableIterator<T> iterator) throws NullException {
-        return () -> BiOptional.unchecked(Validator.notNull(iterator, "The iterator"), null);
+        return new DirectExternalIterator<>(iterator, null);
     }
 
     /**
@@ -57,7 +56,7 @@ public interface ExternalIterator<T> extends Iterator<T> {
      * @since 1.0.0-RC1
      */
     static <T> ExternalIterator<T> mutable(final @NotNull MutableIterator<T> iterator) throws NullException {
-        return () -> BiOptional.unchecked(Validator.notNull(iterator, "The iterator"), iterator);
+        return new DirectExternalIterator<>(iterator, iterator);
     }
 
     /**
@@ -86,7 +85,7 @@ public interface ExternalIterator<T> extends Iterator<T> {
     @Override
     default @NotNull T next() throws NoSuchElementException, IteratorAuxiliaryException {
         final @NotNull var iterator = iterator().first();
-        final @NotNull var lock = iterator.lock();
+        final @NotNull var lock = iterator.readLock();
         try {
             lock.lockInterruptibly();
             if (!hasNext()) throw new NoSuchElementException();
@@ -131,10 +130,11 @@ public interface ExternalIterator<T> extends Iterator<T> {
     default void forEachRemaining(
             final @NotNull Consumer<? super T> consumer) throws NullPointerException, IteratorAuxiliaryException {
         Objects.requireNonNull(consumer);
-        final @NotNull var lock = iterator().first().lock();
+        final @NotNull var iterator = iterator().first();
+        final @NotNull var lock = iterator.readLock();
         try {
             lock.lockInterruptibly();
-            while (hasNext()) consumer.accept(next());
+            while (iterator.hasNext()) consumer.accept(iterator.next().current());
         } catch (final @NotNull Exception failure) {
             throw new IteratorAuxiliaryException(failure);
         } finally {
@@ -177,7 +177,7 @@ public interface ExternalIterator<T> extends Iterator<T> {
      */
     default @NotNull T previous() throws NoSuchElementException, IteratorAuxiliaryException {
         final @NotNull var iterator = iterator().first();
-        final @NotNull var lock = iterator.lock();
+        final @NotNull var lock = iterator.readLock();
         try {
             lock.lockInterruptibly();
             if (!hasPrevious()) throw new NoSuchElementException();
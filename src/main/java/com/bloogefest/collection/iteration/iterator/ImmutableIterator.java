@@ -64,12 +64,12 @@ public interface ImmutableIterator<T> {
      */
     @Contract("-> new")
     default @NotNull Optional<T> optionalCurrent() throws IteratorElementOptionalGettingException, IteratorAuxiliaryException {
-        final @NotNull var lock = lock();
+        final @NotNull var lock = readLock();
         try {
             lock.lockInterruptibly();
             return hasCurrent() ? Optional.nullable(current()) : Optional.empty();
         } catch (final @NotNull IteratorException failure) {
-            throw new IteratorElementOptionalGettingException(failure);
+            throw IteratorElementOptionalGettingException.create(failure, stackless());
         } catch (final @NotNull Exception failure) {
             throw new IteratorAuxiliaryException(failure);
         } finally {
@@ -92,12 +92,12 @@ public interface ImmutableIterator<T> {
      */
     @Contract("-> new")
     default @NotNull Optional<T> optionalCached() throws IteratorElementOptionalGettingException, IteratorAuxiliaryException {
-        final @NotNull var lock = lock();
+        final @NotNull var lock = readLock();
         try {
             lock.lockInterruptibly();
             return hasCached() ? Optional.nullable(cached()) : Optional.empty();
         } catch (final @NotNull IteratorException failure) {
-            throw new IteratorElementOptionalGettingException(failure);
+            throw IteratorElementOptionalGettingException.create(failure, stackless());
         } catch (final @NotNull Exception failure) {
             throw new IteratorAuxiliaryException(failure);
         } finally {
@@ -120,16 +120,15 @@ public interface ImmutableIterator<T> {
      */
     @Contract("-> this")
     default @NotNull ImmutableIterator<T> cache() throws IteratorElementGettingException, IteratorElementCachingException, IteratorAuxiliaryException {
-        final @NotNull var lock = lock();
+        final @NotNull var lock = readLock();
         try {
             lock.lockInterruptibly();
-            return cache(current());
-        } catch (final @NotNull IteratorElementCachingException failure) {
-            throw failure;
-        } catch (final @NotNull IteratorException failure) {
-            throw new IteratorElementCachingException(failure);
-        } catch (final @NotNull Exception failure) {
+        } catch (final @NotNull InterruptedException failure) {
             throw new IteratorAuxiliaryException(failure);
+        }
+        try {
+            if (!hasCurrent()) throw IteratorElementGettingException.create(stackless());
+            return cache(current());
         } finally {
             lock.unlock();
         }
@@ -195,17 +194,17 @@ public interface ImmutableIterator<T> {
      */
     @Contract("-> this")
     default @NotNull ImmutableIterator<T> first() throws IteratorPositionChangingException, IteratorAuxiliaryException {
-        final @NotNull var lock = lock();
+        final @NotNull var lock = readLock();
         try {
             lock.lockInterruptibly();
-            if (!hasFirst()) throw new IteratorPositionChangingException();
+            if (!hasFirst()) throw IteratorPositionChangingException.create(stackless());
             if (starting()) return next();
             while (hasPrevious()) previous();
             return this;
         } catch (final @NotNull IteratorPositionChangingException failure) {
             throw failure;
         } catch (final @NotNull IteratorException failure) {
-            throw new IteratorPositionChangingException(failure);
+            throw IteratorPositionChangingException.create(failure, stackless());
         } catch (final @NotNull Exception failure) {
             throw new IteratorAuxiliaryException(failure);
         } finally {
@@ -227,17 +226,17 @@ public interface ImmutableIterator<T> {
      */
     @Contract("-> this")
     default @NotNull ImmutableIterator<T> last() throws IteratorPositionChangingException, IteratorAuxiliaryException {
-        final @NotNull var lock = lock();
+        final @NotNull var lock = readLock();
         try {
             lock.lockInterruptibly();
-            if (!hasLast()) throw new IteratorPositionChangingException();
+            if (!hasLast()) throw IteratorPositionChangingException.create(stackless());
             if (ending()) return previous();
             while (hasNext()) next();
             return this;
         } catch (final @NotNull IteratorPositionChangingException failure) {
             throw failure;
         } catch (final @NotNull IteratorException failure) {
-            throw new IteratorPositionChangingException(failure);
+            throw IteratorPositionChangingException.create(failure, stackless());
         } catch (final @NotNull Exception failure) {
             throw new IteratorAuxiliaryException(failure);
         } finally {
@@ -256,7 +255,7 @@ public interface ImmutableIterator<T> {
      */
     @Contract("-> this")
     default @NotNull ImmutableIterator<T> start() throws IteratorPositionChangingException, IteratorAuxiliaryException {
-        final @NotNull var lock = lock();
+        final @NotNull var lock = readLock();
         try {
             lock.lockInterruptibly();
             while (!starting()) previous();
@@ -264,7 +263,7 @@ public interface ImmutableIterator<T> {
         } catch (final @NotNull IteratorPositionChangingException failure) {
             throw failure;
         } catch (final @NotNull IteratorException failure) {
-            throw new IteratorPositionChangingException(failure);
+            throw IteratorPositionChangingException.create(failure, stackless());
         } catch (final @NotNull Exception failure) {
             throw new IteratorAuxiliaryException(failure);
         } finally {
@@ -283,7 +282,7 @@ public interface ImmutableIterator<T> {
      */
     @Contract("-> this")
     default @NotNull ImmutableIterator<T> end() throws IteratorPositionChangingException, IteratorAuxiliaryException {
-        final @NotNull var lock = lock();
+        final @NotNull var lock = readLock();
         try {
             lock.lockInterruptibly();
             while (!ending()) next();
@@ -291,7 +290,7 @@ public interface ImmutableIterator<T> {
         } catch (final @NotNull IteratorPositionChangingException failure) {
             throw failure;
         } catch (final @NotNull IteratorException failure) {
-            throw new IteratorPositionChangingException(failure);
+            throw IteratorPositionChangingException.create(failure, stackless());
         } catch (final @NotNull Exception failure) {
             throw new IteratorAuxiliaryException(failure);
         } finally {
@@ -310,7 +309,7 @@ public interface ImmutableIterator<T> {
      */
     @Contract("-> new")
     default @NotNull ExternalIterator<T> external() throws IteratorAuxiliaryException {
-        final @NotNull var lock = lock();
+        final @NotNull var lock = readLock();
         try {
             lock.lockInterruptibly();
             return ExternalIterator.immutable(this);
@@ -331,6 +330,20 @@ public interface ImmutableIterator<T> {
     @Contract("-> const")
     @NotNull Lock lock();
 
+    /**
+     * Возвращает {@linkplain Lock инструмент для управления доступом на чтение}, захватываемый операциями, которые не
+     * изменяют элементы. По умолчанию возвращает {@linkplain #lock() инструмент для управления доступом}.
+     *
+     * @return {@linkplain Lock Инструмент для управления доступом на чтение}.
+     *
+     * @see #lock()
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> const")
+    default @NotNull Lock readLock() {
+        return lock();
+    }
+
     /**
      * Возвращает параметр существования текущего элемента.
      *
@@ -431,6 +444,20 @@ public interface ImmutableIterator<T> {
     @Contract("-> const")
     boolean nullable();
 
+    /**
+     * Возвращает параметр генерации исключений без трассировки стека. Если он истинный, исключения без причины
+     * генерируются {@linkplain IteratorPositionChangingException#STACKLESS общими экземплярами}, а исключения с
+     * причиной создаются без подавления и трассировки стека.
+     *
+     * @return Параметр генерации исключений без трассировки стека.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> const")
+    default boolean stackless() {
+        return false;
+    }
+
     /**
      * Возвращает параметр изменяемости.
      *
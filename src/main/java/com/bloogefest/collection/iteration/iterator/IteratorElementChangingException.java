@@ -32,6 +32,16 @@ public class IteratorElementChangingException extends IteratorElementException {
      */
     public static final @NotNls @NotNull String TEMPLATE_MESSAGE = "Failed to change %s to %s";
 
+    /**
+     * Общий экземпляр на основе {@linkplain #DEFAULT_MESSAGE сообщения} и {@linkplain #DEFAULT_CAUSE причины по
+     * умолчанию} без подавления и трассировки стека. Не изменяется, поэтому может генерироваться повторно.
+     *
+     * @see #create(boolean)
+     * @since 1.0.0-RC1
+     */
+    public static final @NotNull IteratorElementChangingException STACKLESS =
+            new IteratorElementChangingException(false, false);
+
     /**
      * Создаёт исключение изменения элемента итератора на другой на основе {@linkplain #DEFAULT_MESSAGE сообщения},
      * {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
@@ -152,4 +162,38 @@ public class IteratorElementChangingException extends IteratorElementException {
         super(message, cause, suppression, writable);
     }
 
+    /**
+     * Возвращает {@linkplain #STACKLESS общий экземпляр без трассировки стека}, если переданный параметр истинный, в
+     * противном случае создаёт и возвращает исключение изменения элемента итератора на другой на основе параметров по
+     * умолчанию.
+     *
+     * @param stackless параметр генерации исключений без трассировки стека.
+     *
+     * @return Исключение изменения элемента итератора на другой.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("true -> const; false -> new")
+    public static @NotNull IteratorElementChangingException create(final boolean stackless) {
+        return stackless ? STACKLESS : new IteratorElementChangingException();
+    }
+
+    /**
+     * Создаёт и возвращает исключение изменения элемента итератора на другой на основе переданной причины. Если
+     * переданный параметр истинный, исключение создаётся без подавления и трассировки стека.
+     *
+     * @param cause причина.
+     * @param stackless параметр генерации исключений без трассировки стека.
+     *
+     * @return Исключение изменения элемента итератора на другой.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull IteratorElementChangingException create(final @Nullable Throwable cause,
+                                                                   final boolean stackless) {
+        return stackless ? new IteratorElementChangingException(cause, false, false)
+                         : new IteratorElementChangingException(cause);
+    }
+
 }
@@ -32,6 +32,16 @@ public class IteratorElementGettingException extends IteratorElementException {
      */
     public static final @NotNls @NotNull String TEMPLATE_MESSAGE = "Failed to get %s";
 
+    /**
+     * Общий экземпляр на основе {@linkplain #DEFAULT_MESSAGE сообщения} и {@linkplain #DEFAULT_CAUSE причины по
+     * умолчанию} без подавления и трассировки стека. Не изменяется, поэтому может генерироваться повторно.
+     *
+     * @see #create(boolean)
+     * @since 1.0.0-RC1
+     */
+    public static final @NotNull IteratorElementGettingException STACKLESS =
+            new IteratorElementGettingException(false, false);
+
     /**
      * Создаёт исключение получения элемента итератора на основе {@linkplain #DEFAULT_MESSAGE сообщения},
      * {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
@@ -150,4 +160,37 @@ public class IteratorElementGettingException extends IteratorElementException {
         super(message, cause, suppression, writable);
     }
 
+    /**
+     * Возвращает {@linkplain #STACKLESS общий экземпляр без трассировки стека}, если переданный параметр истинный, в
+     * противном случае создаёт и возвращает исключение получения элемента итератора на основе параметров по умолчанию.
+     *
+     * @param stackless параметр генерации исключений без трассировки стека.
+     *
+     * @return Исключение получения элемента итератора.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("true -> const; false -> new")
+    public static @NotNull IteratorElementGettingException create(final boolean stackless) {
+        return stackless ? STACKLESS : new IteratorElementGettingException();
+    }
+
+    /**
+     * Создаёт и возвращает исключение получения элемента итератора на основе переданной причины. Если переданный
+     * параметр истинный, исключение создаётся без подавления и трассировки стека.
+     *
+     * @param cause причина.
+     * @param stackless параметр генерации исключений без трассировки стека.
+     *
+     * @return Исключение получения элемента итератора.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull IteratorElementGettingException create(final @Nullable Throwable cause,
+                                                                  final boolean stackless) {
+        return stackless ? new IteratorElementGettingException(cause, false, false)
+                         : new IteratorElementGettingException(cause);
+    }
+
 }
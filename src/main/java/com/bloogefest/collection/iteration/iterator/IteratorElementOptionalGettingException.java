@@ -32,6 +32,16 @@ public class IteratorElementOptionalGettingException extends IteratorElementExce
      */
     public static final @NotNls @NotNull String TEMPLATE_MESSAGE = "Failed to get optionally %s";
 
+    /**
+     * Общий экземпляр на основе {@linkplain #DEFAULT_MESSAGE сообщения} и {@linkplain #DEFAULT_CAUSE причины по
+     * умолчанию} без подавления и трассировки стека. Не изменяется, поэтому может генерироваться повторно.
+     *
+     * @see #create(boolean)
+     * @since 1.0.0-RC1
+     */
+    public static final @NotNull IteratorElementOptionalGettingException STACKLESS =
+            new IteratorElementOptionalGettingException(false, false);
+
     /**
      * Создаёт исключение необязательного получения элемента итератора на основе
      * {@linkplain #DEFAULT_MESSAGE сообщения}, {@linkplain #DEFAULT_CAUSE причины},
@@ -155,4 +165,38 @@ public class IteratorElementOptionalGettingException extends IteratorElementExce
         super(message, cause, suppression, writable);
     }
 
+    /**
+     * Возвращает {@linkplain #STACKLESS общий экземпляр без трассировки стека}, если переданный параметр истинный, в
+     * противном случае создаёт и возвращает исключение необязательного получения элемента итератора на основе
+     * параметров по умолчанию.
+     *
+     * @param stackless параметр генерации исключений без трассировки стека.
+     *
+     * @return Исключение необязательного получения элемента итератора.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("true -> const; false -> new")
+    public static @NotNull IteratorElementOptionalGettingException create(final boolean stackless) {
+        return stackless ? STACKLESS : new IteratorElementOptionalGettingException();
+    }
+
+    /**
+     * Создаёт и возвращает исключение необязательного получения элемента итератора на основе переданной причины. Если
+     * переданный параметр истинный, исключение создаётся без подавления и трассировки стека.
+     *
+     * @param cause причина.
+     * @param stackless параметр генерации исключений без трассировки стека.
+     *
+     * @return Исключение необязательного получения элемента итератора.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull IteratorElementOptionalGettingException create(final @Nullable Throwable cause,
+                                                                          final boolean stackless) {
+        return stackless ? new IteratorElementOptionalGettingException(cause, false, false)
+                         : new IteratorElementOptionalGettingException(cause);
+    }
+
 }
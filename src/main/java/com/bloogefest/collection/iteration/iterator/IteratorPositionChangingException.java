@@ -32,6 +32,16 @@ public class IteratorPositionChangingException extends IteratorPositionException
      */
     public static final @NotNls @NotNull String TEMPLATE_MESSAGE = "Failed to change %s";
 
+    /**
+     * Общий экземпляр на основе {@linkplain #DEFAULT_MESSAGE сообщения} и {@linkplain #DEFAULT_CAUSE причины по
+     * умолчанию} без подавления и трассировки стека. Не изменяется, поэтому может генерироваться повторно.
+     *
+     * @see #create(boolean)
+     * @since 1.0.0-RC1
+     */
+    public static final @NotNull IteratorPositionChangingException STACKLESS =
+            new IteratorPositionChangingException(false, false);
+
     /**
      * Создаёт исключение изменения итератора на основе {@linkplain #DEFAULT_MESSAGE сообщения},
      * {@linkplain #DEFAULT_CAUSE причины}, {@linkplain #DEFAULT_SUPPRESSION параметров подавления} и
@@ -150,4 +160,37 @@ public class IteratorPositionChangingException extends IteratorPositionException
         super(message, cause, suppression, writable);
     }
 
+    /**
+     * Возвращает {@linkplain #STACKLESS общий экземпляр без трассировки стека}, если переданный параметр истинный, в
+     * противном случае создаёт и возвращает исключение изменения позиции итератора на основе параметров по умолчанию.
+     *
+     * @param stackless параметр генерации исключений без трассировки стека.
+     *
+     * @return Исключение изменения позиции итератора.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("true -> const; false -> new")
+    public static @NotNull IteratorPositionChangingException create(final boolean stackless) {
+        return stackless ? STACKLESS : new IteratorPositionChangingException();
+    }
+
+    /**
+     * Создаёт и возвращает исключение изменения позиции итератора на основе переданной причины. Если переданный
+     * параметр истинный, исключение создаётся без подавления и трассировки стека.
+     *
+     * @param cause причина.
+     * @param stackless параметр генерации исключений без трассировки стека.
+     *
+     * @return Исключение изменения позиции итератора.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    public static @NotNull IteratorPositionChangingException create(final @Nullable Throwable cause,
+                                                                    final boolean stackless) {
+        return stackless ? new IteratorPositionChangingException(cause, false, false)
+                         : new IteratorPositionChangingException(cause);
+    }
+
 }
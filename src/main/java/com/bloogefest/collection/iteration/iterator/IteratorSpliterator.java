@@ -0,0 +1,258 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.iteration.iterator;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+
+/**
+ * Разделитель на основе {@linkplain ImmutableIterator итератора неизменяемого}. Отделяет пакеты элементов
+ * возрастающего размера в массивы, поэтому параллельные потоки распределяют работу по общему пулу даже для
+ * итераторов без произвольного доступа. Характеристики {@link #ORDERED} и {@link #NONNULL} выводятся из
+ * {@linkplain ImmutableIterator#nullable() параметра поддержки нулевых элементов}, а {@link #SIZED} и
+ * {@link #SUBSIZED} — из наличия размера.
+ *
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+public final class IteratorSpliterator<T> implements Spliterator<T> {
+
+    /**
+     * Шаг увеличения размера пакета.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int BATCH_UNIT = 1 << 10;
+
+    /**
+     * Максимальный размер пакета.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int MAX_BATCH = 1 << 25;
+
+    /**
+     * {@linkplain ImmutableIterator Итератор неизменяемого}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull ImmutableIterator<T> iterator;
+
+    /**
+     * {@linkplain ImmutableIterator#readLock() Инструмент для управления доступом на чтение}
+     * {@linkplain #iterator итератора}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull Lock lock;
+
+    /**
+     * Характеристики.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final int characteristics;
+
+    /**
+     * Оценка количества оставшихся элементов ({@link Long#MAX_VALUE}, если размер неизвестен).
+     *
+     * @since 1.0.0-RC1
+     */
+    private long estimate;
+
+    /**
+     * Размер последнего отделённого пакета.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int batch;
+
+    /**
+     * Создаёт {@linkplain IteratorSpliterator разделитель} неизвестного размера на основе переданного
+     * {@linkplain ImmutableIterator итератора неизменяемого}.
+     *
+     * @param iterator {@linkplain ImmutableIterator итератор неизменяемого}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ImmutableIterator итератора неизменяемого} или его инструмента для управления доступом на чтение).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    public IteratorSpliterator(final @NotNull ImmutableIterator<T> iterator) throws NullException {
+        this(iterator, Long.MAX_VALUE, 0);
+    }
+
+    /**
+     * Создаёт {@linkplain IteratorSpliterator разделитель} переданного размера на основе переданного
+     * {@linkplain ImmutableIterator итератора неизменяемого}. Итератор должен находиться в начальной позиции.
+     *
+     * @param iterator {@linkplain ImmutableIterator итератор неизменяемого}.
+     * @param size количество элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ImmutableIterator итератора неизменяемого} или его инструмента для управления доступом на чтение).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public IteratorSpliterator(final @NotNull ImmutableIterator<T> iterator, final long size) throws NullException {
+        this(iterator, size, SIZED | SUBSIZED);
+    }
+
+    /**
+     * Создаёт {@linkplain IteratorSpliterator разделитель} на основе переданных
+     * {@linkplain ImmutableIterator итератора неизменяемого}, оценки количества элементов и дополнительных
+     * характеристик.
+     *
+     * @param iterator {@linkplain ImmutableIterator итератор неизменяемого}.
+     * @param estimate оценка количества элементов.
+     * @param characteristics дополнительные характеристики.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ImmutableIterator итератора неизменяемого} или его инструмента для управления доступом на чтение).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _, _ -> new; _, _, _ -> fail")
+    public IteratorSpliterator(final @NotNull ImmutableIterator<T> iterator, final long estimate,
+                                final int characteristics) throws NullException {
+        this.iterator = Validator.notNull(iterator, "The iterator");
+        this.lock = Validator.notNull(iterator.readLock(), "The lock");
+        this.characteristics = characteristics | ORDERED | (iterator.nullable() ? 0 : NONNULL);
+        this.estimate = Math.max(estimate, 0L);
+    }
+
+    /**
+     * Если следующий элемент существует, передаёт его переданному {@linkplain Consumer потребителю} и возвращает
+     * истину, в противном случае возвращает ложь. Потребитель вызывается вне
+     * {@linkplain #lock инструмента для управления доступом на чтение}.
+     *
+     * @param action {@linkplain Consumer потребитель}.
+     *
+     * @return Параметр существования следующего элемента.
+     *
+     * @throws NullPointerException исключение проверки нулевого объекта (переданного
+     * {@linkplain Consumer потребителя}).
+     * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public boolean tryAdvance(final @NotNull Consumer<? super T> action) throws NullPointerException, IteratorAuxiliaryException {
+        Objects.requireNonNull(action);
+        final @Nullable T element;
+        final @NotNull var lock = this.lock;
+        try {
+            lock.lockInterruptibly();
+        } catch (final @NotNull InterruptedException failure) {
+            throw new IteratorAuxiliaryException(failure);
+        }
+        try {
+            if (!iterator.hasNext()) return false;
+            element = iterator.next().current();
+        } catch (final @NotNull Exception failure) {
+            throw new IteratorAuxiliaryException(failure);
+        } finally {
+            lock.unlock();
+        }
+        if (estimate != Long.MAX_VALUE && estimate > 0L) estimate--;
+        action.accept(element);
+        return true;
+    }
+
+    /**
+     * Передаёт оставшиеся элементы переданному {@linkplain Consumer потребителю} за одно получение
+     * {@linkplain #lock инструмента для управления доступом на чтение}.
+     *
+     * @param action {@linkplain Consumer потребитель}.
+     *
+     * @throws NullPointerException исключение проверки нулевого объекта (переданного
+     * {@linkplain Consumer потребителя}).
+     * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public void forEachRemaining(final @NotNull Consumer<? super T> action) throws NullPointerException, IteratorAuxiliaryException {
+        Objects.requireNonNull(action);
+        final @NotNull var lock = this.lock;
+        try {
+            lock.lockInterruptibly();
+            while (iterator.hasNext()) action.accept(iterator.next().current());
+        } catch (final @NotNull Exception failure) {
+            throw new IteratorAuxiliaryException(failure);
+        } finally {
+            lock.unlock();
+        }
+        if (estimate != Long.MAX_VALUE) estimate = 0L;
+    }
+
+    /**
+     * Отделяет пакет следующих элементов в разделитель на основе массива. Размер пакета увеличивается на
+     * {@linkplain #BATCH_UNIT шаг} при каждом разделении, но не превышает {@linkplain #MAX_BATCH максимум} и
+     * оставшееся количество элементов. Если элементов не осталось, возвращает нулевой объект.
+     *
+     * @return Разделитель отделённого пакета или нулевой объект.
+     *
+     * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public @Nullable Spliterator<T> trySplit() throws IteratorAuxiliaryException {
+        final var estimate = this.estimate;
+        if (estimate <= 1L) return null;
+        final var size = (int) Math.min(Math.min(batch + (long) BATCH_UNIT, estimate), MAX_BATCH);
+        final @NotNull var lock = this.lock;
+        final Object[] elements;
+        var count = 0;
+        try {
+            lock.lockInterruptibly();
+            if (!iterator.hasNext()) return null;
+            elements = new Object[size];
+            do elements[count] = iterator.next().current();
+            while (++count < size && iterator.hasNext());
+        } catch (final @NotNull Exception failure) {
+            throw new IteratorAuxiliaryException(failure);
+        } finally {
+            lock.unlock();
+        }
+        batch = count;
+        if (estimate != Long.MAX_VALUE) this.estimate = estimate - count;
+        return Spliterators.spliterator(elements, 0, count, characteristics);
+    }
+
+    /**
+     * Возвращает оценку количества оставшихся элементов.
+     *
+     * @return Оценка количества оставшихся элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    /**
+     * Возвращает характеристики.
+     *
+     * @return Характеристики.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+}
@@ -79,11 +79,16 @@ public interface MutableIterator<T> extends ImmutableIterator<T> {
         final @NotNull var lock = lock();
         try {
             lock.lockInterruptibly();
+        } catch (final @NotNull InterruptedException failure) {
+            throw new IteratorAuxiliaryException(failure);
+        }
+        try {
+            if (!hasCached()) throw IteratorElementChangingException.create(stackless());
             return change(cached());
         } catch (final @NotNull IteratorElementChangingException failure) {
             throw failure;
-        } catch (final @NotNull IteratorException failure) {
-            throw new IteratorElementChangingException(failure);
+        } catch (final @NotNull IteratorElementException failure) {
+            throw IteratorElementChangingException.create(failure, stackless());
         } catch (final @NotNull Exception failure) {
             throw new IteratorAuxiliaryException(failure);
         } finally {
@@ -146,11 +151,16 @@ public interface MutableIterator<T> extends ImmutableIterator<T> {
         final @NotNull var lock = lock();
         try {
             lock.lockInterruptibly();
+        } catch (final @NotNull InterruptedException failure) {
+            throw new IteratorAuxiliaryException(failure);
+        }
+        try {
+            if (!hasCached()) throw IteratorElementPastingException.create(stackless());
             return paste(cached());
         } catch (final @NotNull IteratorElementPastingException failure) {
             throw failure;
-        } catch (final @NotNull IteratorException failure) {
-            throw new IteratorElementPastingException(failure);
+        } catch (final @NotNull IteratorElementException failure) {
+            throw IteratorElementPastingException.create(failure, stackless());
         } catch (final @NotNull Exception failure) {
             throw new IteratorAuxiliaryException(failure);
         } finally {
@@ -198,12 +208,19 @@ public interface MutableIterator<T> extends ImmutableIterator<T> {
         final @NotNull var lock = lock();
         try {
             lock.lockInterruptibly();
+        } catch (final @NotNull InterruptedException failure) {
+            throw new IteratorAuxiliaryException(failure);
+        }
+        try {
+            if (!hasCurrent() || !hasCached()) throw IteratorElementSwappingException.create(stackless());
             final @NotNull var element = current();
-            paste();
+            paste(cached());
             cache(element);
             return this;
-        } catch (final @NotNull IteratorException failure) {
-            throw new IteratorElementSwappingException(failure);
+        } catch (final @NotNull IteratorElementSwappingException failure) {
+            throw failure;
+        } catch (final @NotNull IteratorElementException failure) {
+            throw IteratorElementSwappingException.create(failure, stackless());
         } catch (final @NotNull Exception failure) {
             throw new IteratorAuxiliaryException(failure);
         } finally {
@@ -229,11 +246,18 @@ public interface MutableIterator<T> extends ImmutableIterator<T> {
         final @NotNull var lock = lock();
         try {
             lock.lockInterruptibly();
-            cache();
+        } catch (final @NotNull InterruptedException failure) {
+            throw new IteratorAuxiliaryException(failure);
+        }
+        try {
+            if (!hasCurrent()) throw IteratorElementCuttingException.create(stackless());
+            cache(current());
             delete();
             return this;
-        } catch (final @NotNull IteratorException failure) {
-            throw new IteratorElementCuttingException(failure);
+        } catch (final @NotNull IteratorElementCuttingException failure) {
+            throw failure;
+        } catch (final @NotNull IteratorElementException failure) {
+            throw IteratorElementCuttingException.create(failure, stackless());
         } catch (final @NotNull Exception failure) {
             throw new IteratorAuxiliaryException(failure);
         } finally {
@@ -353,7 +377,7 @@ public interface MutableIterator<T> extends ImmutableIterator<T> {
     @Override
     @Contract("-> new")
     default @NotNull ExternalIterator<T> external() throws IteratorAuxiliaryException {
-        final @NotNull var lock = lock();
+        final @NotNull var lock = readLock();
         try {
             lock.lockInterruptibly();
             return ExternalIterator.mutable(this);
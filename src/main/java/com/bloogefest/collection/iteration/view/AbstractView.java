@@ -0,0 +1,139 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.iteration.view;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.iteration.ImmutableIterable;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.SequentialIterationException;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Абстрактное ленивое представление переданного {@linkplain ImmutableIterable неизменяемого итерируемого}. Не хранит
+ * элементов: каждый {@linkplain #iterator(SequentialIterationDirection) итератор} вычисляет их из итератора источника
+ * по мере продвижения. Использует {@linkplain #lock() инструменты для управления доступом} и
+ * {@linkplain #stackless() параметр генерации исключений без трассировки стека} источника, поэтому
+ * {@linkplain #iterate(com.bloogefest.common.function.Handler) внутренняя итерация} по цепочке представлений
+ * захватывает инструмент источника один раз.
+ *
+ * @param <S> тип элемента источника.
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+public abstract class AbstractView<S, T> implements ImmutableIterable<T> {
+
+    /**
+     * Источник.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull ImmutableIterable<S> source;
+
+    /**
+     * Создаёт абстрактное ленивое представление переданного источника.
+     *
+     * @param source источник.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного источника).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    protected AbstractView(final @NotNull ImmutableIterable<S> source) throws NullException {
+        this.source = Validator.notNull(source, "The source");
+    }
+
+    /**
+     * Возвращает {@linkplain Lock инструмент для управления доступом} источника.
+     *
+     * @return {@linkplain Lock Инструмент для управления доступом} источника.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> const")
+    public @NotNull Lock lock() {
+        return source.lock();
+    }
+
+    /**
+     * Возвращает {@linkplain Lock инструмент для управления доступом на чтение} источника.
+     *
+     * @return {@linkplain Lock Инструмент для управления доступом на чтение} источника.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> const")
+    public @NotNull Lock readLock() {
+        return source.readLock();
+    }
+
+    /**
+     * Возвращает параметр поддержки нулевых элементов источника.
+     *
+     * @return Параметр поддержки нулевых элементов источника.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> const")
+    public boolean nullable() {
+        return source.nullable();
+    }
+
+    /**
+     * Возвращает параметр генерации исключений итераторов без трассировки стека источника.
+     *
+     * @return Параметр генерации исключений итераторов без трассировки стека источника.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> const")
+    public boolean stackless() {
+        return source.stackless();
+    }
+
+    /**
+     * Возвращает источник.
+     *
+     * @return Источник.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> const")
+    protected @NotNull ImmutableIterable<S> source() {
+        return source;
+    }
+
+    /**
+     * Если переданное {@linkplain SequentialIterationDirection направление последовательной итерации} не
+     * {@linkplain SequentialIterationDirection#FORWARD прямое}, генерирует
+     * {@linkplain SequentialIterationException исключение последовательной итерации}, поскольку результат текущего
+     * представления зависит от порядка элементов источника.
+     *
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @throws SequentialIterationException исключение последовательной итерации (непрямого направления).
+     * @since 1.0.0-RC1
+     */
+    protected void forward(
+            final @NotNull SequentialIterationDirection direction) throws NullException, SequentialIterationException {
+        Validator.notNull(direction, "The direction");
+        if (direction != SequentialIterationDirection.FORWARD) {
+            throw new SequentialIterationException("Irreversible view: " + getClass().getSimpleName());
+        }
+    }
+
+}
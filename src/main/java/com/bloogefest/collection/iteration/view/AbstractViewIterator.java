@@ -0,0 +1,334 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.iteration.view;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.collection.iteration.iterator.AbstractImmutableIterator;
+import com.bloogefest.collection.iteration.iterator.ImmutableIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorElementGettingException;
+import com.bloogefest.collection.iteration.iterator.IteratorPositionChangingException;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+/**
+ * Абстрактный итератор {@linkplain AbstractView ленивого представления}. Вычисляет следующий элемент
+ * {@linkplain #advance() продвижением} итератора источника не более одного раза и хранит его до перехода к нему.
+ * <p>
+ * Итератор однонаправленный: {@linkplain #previous() переход к предыдущему элементу} не поддерживается, а
+ * {@linkplain #start() переход в начальную позицию} {@linkplain #restart() пересоздаёт} итераторы источника.
+ *
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+abstract class AbstractViewIterator<T> extends AbstractImmutableIterator<T> {
+
+    /**
+     * Начальная позиция.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final byte STARTING = 0;
+
+    /**
+     * Итерируемая позиция.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final byte ITERATING = 1;
+
+    /**
+     * Конечная позиция.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final byte ENDING = 2;
+
+    /**
+     * Текущая позиция.
+     *
+     * @since 1.0.0-RC1
+     */
+    private byte position = STARTING;
+
+    /**
+     * Текущий элемент.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @Nullable T current;
+
+    /**
+     * Вычисленный следующий элемент.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @Nullable T following;
+
+    /**
+     * Параметр вычисления следующего элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    private boolean advanced;
+
+    /**
+     * Параметр существования вычисленного следующего элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    private boolean available;
+
+    /**
+     * Параметр прохождения хотя бы одного элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    private boolean visited;
+
+    /**
+     * Кэшированный элемент.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @Nullable T cached;
+
+    /**
+     * Параметр существования кэшированного элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    private boolean hasCached;
+
+    /**
+     * Создаёт абстрактный итератор переданного {@linkplain AbstractView ленивого представления} на основе его
+     * инструментов для управления доступом и параметров.
+     *
+     * @param view {@linkplain AbstractView ленивое представление}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain AbstractView ленивого представления}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    protected AbstractViewIterator(final @NotNull AbstractView<?, T> view) throws NullException {
+        super(Validator.notNull(view, "The view").lock(), view.readLock(), view.nullable(), view.stackless());
+    }
+
+    @Override
+    public @Nullable T current() throws IteratorElementGettingException {
+        if (!hasCurrent()) throw IteratorElementGettingException.create(stackless());
+        return current;
+    }
+
+    @Override
+    public @Nullable T cached() throws IteratorElementGettingException {
+        if (!hasCached) throw IteratorElementGettingException.create(stackless());
+        return cached;
+    }
+
+    @Override
+    @Contract("_ -> this")
+    public @NotNull ImmutableIterator<T> cache(final @Nullable T element) throws NullException {
+        if (!nullable()) Validator.notNull(element, "The element");
+        cached = element;
+        hasCached = true;
+        return this;
+    }
+
+    @Override
+    @Contract("-> this")
+    public @NotNull ImmutableIterator<T> next() throws IteratorPositionChangingException {
+        if (!hasNext()) throw IteratorPositionChangingException.create(stackless());
+        current = following;
+        following = null;
+        advanced = false;
+        visited = true;
+        position = ITERATING;
+        return this;
+    }
+
+    /**
+     * Генерирует {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}, поскольку
+     * элементы ленивого представления вычисляются только в прямом порядке.
+     *
+     * @return Ничего.
+     *
+     * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> fail")
+    public @NotNull ImmutableIterator<T> previous() throws IteratorPositionChangingException {
+        throw new IteratorPositionChangingException("View iterators cannot move backward");
+    }
+
+    /**
+     * Если {@linkplain #hasFirst() параметр существования первого элемента} истинный, переходит в
+     * {@linkplain #start() начальную позицию} и к первому элементу, в противном случае генерирует
+     * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+     * итератор.
+     *
+     * @return Текущий итератор.
+     *
+     * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> this")
+    public @NotNull ImmutableIterator<T> first() throws IteratorPositionChangingException {
+        if (!hasFirst()) throw IteratorPositionChangingException.create(stackless());
+        if (position != STARTING) start();
+        return next();
+    }
+
+    /**
+     * Если {@linkplain #hasLast() параметр существования последнего элемента} истинный, переходит к последнему
+     * элементу, при необходимости начиная итерацию заново, в противном случае генерирует
+     * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+     * итератор.
+     *
+     * @return Текущий итератор.
+     *
+     * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> this")
+    public @NotNull ImmutableIterator<T> last() throws IteratorPositionChangingException {
+        if (!hasLast()) throw IteratorPositionChangingException.create(stackless());
+        if (position == ENDING) start();
+        while (hasNext()) next();
+        return this;
+    }
+
+    /**
+     * Переходит в начальную позицию, {@linkplain #restart() пересоздавая} итераторы источника. Возвращает текущий
+     * итератор.
+     *
+     * @return Текущий итератор.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> this")
+    public @NotNull ImmutableIterator<T> start() {
+        restart();
+        position = STARTING;
+        current = null;
+        following = null;
+        advanced = false;
+        return this;
+    }
+
+    /**
+     * Переходит в конечную позицию без вычисления оставшихся элементов. Возвращает текущий итератор.
+     *
+     * @return Текущий итератор.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> this")
+    public @NotNull ImmutableIterator<T> end() {
+        position = ENDING;
+        current = null;
+        following = null;
+        advanced = false;
+        return this;
+    }
+
+    @Override
+    public boolean hasCurrent() {
+        return position == ITERATING;
+    }
+
+    @Override
+    public boolean hasCached() {
+        return hasCached;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (position == ENDING) return false;
+        if (!advanced) {
+            available = advance();
+            advanced = true;
+        }
+        return available;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return false;
+    }
+
+    @Override
+    public boolean hasFirst() {
+        return visited || hasNext();
+    }
+
+    @Override
+    public boolean hasCentral() {
+        return hasFirst();
+    }
+
+    @Override
+    public boolean hasLast() {
+        return hasFirst();
+    }
+
+    @Override
+    public boolean starting() {
+        return position == STARTING;
+    }
+
+    @Override
+    public boolean iterating() {
+        return position == ITERATING;
+    }
+
+    @Override
+    public boolean ending() {
+        return position == ENDING;
+    }
+
+    /**
+     * Вычисляет следующий элемент продвижением итераторов источника. Если он существует,
+     * {@linkplain #offer(Object) передаёт} его и возвращает истину, в противном случае возвращает ложь.
+     *
+     * @return Параметр существования следующего элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    protected abstract boolean advance();
+
+    /**
+     * Пересоздаёт итераторы источника для итерации с начала.
+     *
+     * @since 1.0.0-RC1
+     */
+    protected abstract void restart();
+
+    /**
+     * Сохраняет переданный элемент как вычисленный следующий элемент. Возвращает истину.
+     *
+     * @param element элемент.
+     *
+     * @return Истина.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> true")
+    protected boolean offer(final @Nullable T element) {
+        following = element;
+        return true;
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.iteration.view;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.iteration.ImmutableIterable;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.iterator.ImmutableIterator;
+import com.bloogefest.common.function.Predicate;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+/**
+ * Ленивое представление, пропускающее элементы источника, для которых переданный {@linkplain Predicate предикат}
+ * возвращает ложь. Сохраняет порядок элементов, поэтому поддерживает оба
+ * {@linkplain SequentialIterationDirection направления последовательной итерации}.
+ *
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+public class FilteringView<T> extends AbstractView<T, T> {
+
+    /**
+     * {@linkplain Predicate Предикат}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull Predicate<T> predicate;
+
+    /**
+     * Создаёт ленивое представление переданного источника на основе переданного {@linkplain Predicate предиката}.
+     *
+     * @param source источник.
+     * @param predicate {@linkplain Predicate предикат}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного источника или
+     * {@linkplain Predicate предиката}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null -> new; _, _ -> fail")
+    public FilteringView(final @NotNull ImmutableIterable<T> source,
+                         final @NotNull Predicate<T> predicate) throws NullException {
+        super(source);
+        this.predicate = Validator.notNull(predicate, "The predicate");
+    }
+
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull ImmutableIterator<T> iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException {
+        return new FilteringIterator(Validator.notNull(direction, "The direction"));
+    }
+
+    /**
+     * Итератор {@linkplain FilteringView ленивого представления с предикатом}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class FilteringIterator extends AbstractViewIterator<T> {
+
+        /**
+         * {@linkplain SequentialIterationDirection Направление последовательной итерации}.
+         *
+         * @since 1.0.0-RC1
+         */
+        private final @NotNull SequentialIterationDirection direction;
+
+        /**
+         * Итератор источника.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @NotNull ImmutableIterator<T> source;
+
+        /**
+         * Создаёт итератор в переданном {@linkplain SequentialIterationDirection направлении последовательной
+         * итерации}.
+         *
+         * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("_ -> new")
+        private FilteringIterator(final @NotNull SequentialIterationDirection direction) {
+            super(FilteringView.this);
+            this.direction = direction;
+            this.source = source().iterator(direction);
+        }
+
+        @Override
+        protected boolean advance() {
+            while (source.hasNext()) {
+                final var element = source.next().current();
+                if (predicate.evaluate(element)) return offer(element);
+            }
+            return false;
+        }
+
+        @Override
+        protected void restart() {
+            source = source().iterator(direction);
+        }
+
+    }
+
+}
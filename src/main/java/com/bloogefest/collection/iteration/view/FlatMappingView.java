@@ -0,0 +1,139 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.iteration.view;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.collection.iteration.ImmutableIterable;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.iterator.ImmutableIterator;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.function.Function;
+
+/**
+ * Ленивое представление, заменяющее каждый элемент источника элементами {@linkplain ImmutableIterable неизменяемого
+ * итерируемого}, которое возвращает переданная {@linkplain Function функция}. Вложенные итерируемые обходятся в том
+ * же {@linkplain SequentialIterationDirection направлении последовательной итерации}, что и источник, поэтому
+ * представление поддерживает оба направления. Вложенные итерируемые обходятся их элементарными операциями без
+ * захвата их инструментов для управления доступом.
+ *
+ * @param <S> тип элемента источника.
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+public class FlatMappingView<S, T> extends AbstractView<S, T> {
+
+    /**
+     * {@linkplain Function Функция}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull Function<? super S, ? extends ImmutableIterable<? extends T>> function;
+
+    /**
+     * Создаёт ленивое представление переданного источника на основе переданной {@linkplain Function функции}.
+     *
+     * @param source источник.
+     * @param function {@linkplain Function функция}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного источника или
+     * {@linkplain Function функции}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null -> new; _, _ -> fail")
+    public FlatMappingView(final @NotNull ImmutableIterable<S> source,
+                           final @NotNull Function<? super S, ? extends ImmutableIterable<? extends T>> function) throws NullException {
+        super(source);
+        this.function = Validator.notNull(function, "The function");
+    }
+
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull ImmutableIterator<T> iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException {
+        return new FlatMappingIterator(Validator.notNull(direction, "The direction"));
+    }
+
+    /**
+     * Возвращает истину, поскольку вложенные итерируемые могут содержать нулевые элементы.
+     *
+     * @return Истина.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> true")
+    public boolean nullable() {
+        return true;
+    }
+
+    /**
+     * Итератор {@linkplain FlatMappingView ленивого представления с вложенными итерируемыми}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class FlatMappingIterator extends AbstractViewIterator<T> {
+
+        /**
+         * {@linkplain SequentialIterationDirection Направление последовательной итерации}.
+         *
+         * @since 1.0.0-RC1
+         */
+        private final @NotNull SequentialIterationDirection direction;
+
+        /**
+         * Итератор источника.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @NotNull ImmutableIterator<S> source;
+
+        /**
+         * Итератор текущего вложенного итерируемого.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable ImmutableIterator<? extends T> nested;
+
+        /**
+         * Создаёт итератор в переданном {@linkplain SequentialIterationDirection направлении последовательной
+         * итерации}.
+         *
+         * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("_ -> new")
+        private FlatMappingIterator(final @NotNull SequentialIterationDirection direction) {
+            super(FlatMappingView.this);
+            this.direction = direction;
+            this.source = source().iterator(direction);
+        }
+
+        @Override
+        protected boolean advance() {
+            while (nested == null || !nested.hasNext()) {
+                if (!source.hasNext()) return false;
+                final var iterable = Validator.notNull(function.apply(source.next().current()), "The iterable");
+                nested = iterable.iterator(direction);
+            }
+            return offer(nested.next().current());
+        }
+
+        @Override
+        protected void restart() {
+            source = source().iterator(direction);
+            nested = null;
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.iteration.view;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.iteration.ImmutableIterable;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.SequentialIterationException;
+import com.bloogefest.collection.iteration.iterator.ImmutableIterator;
+import com.bloogefest.common.validation.NullException;
+
+/**
+ * Ленивое представление, содержащее не более переданного количества первых элементов источника. Результат зависит от
+ * порядка элементов, поэтому поддерживается только {@linkplain SequentialIterationDirection#FORWARD прямое}
+ * направление последовательной итерации.
+ *
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+public class LimitingView<T> extends AbstractView<T, T> {
+
+    /**
+     * Максимальное количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final long limit;
+
+    /**
+     * Создаёт ленивое представление переданного источника с переданным максимальным количеством элементов.
+     *
+     * @param source источник.
+     * @param limit максимальное количество элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного источника).
+     * @throws SequentialIterationException исключение последовательной итерации (отрицательного максимального
+     * количества элементов).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public LimitingView(final @NotNull ImmutableIterable<T> source,
+                        final long limit) throws NullException, SequentialIterationException {
+        super(source);
+        if (limit < 0) throw new SequentialIterationException("Illegal limit: " + limit);
+        this.limit = limit;
+    }
+
+    /**
+     * Создаёт и возвращает итератор текущего представления в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return Итератор текущего представления.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @throws SequentialIterationException исключение последовательной итерации (непрямого направления).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull ImmutableIterator<T> iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException, SequentialIterationException {
+        forward(direction);
+        return new LimitingIterator();
+    }
+
+    /**
+     * Итератор {@linkplain LimitingView ленивого представления с максимальным количеством элементов}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class LimitingIterator extends AbstractViewIterator<T> {
+
+        /**
+         * Итератор источника.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @NotNull ImmutableIterator<T> source = source().iterator();
+
+        /**
+         * Оставшееся количество элементов.
+         *
+         * @since 1.0.0-RC1
+         */
+        private long remaining = limit;
+
+        /**
+         * Создаёт итератор в {@linkplain SequentialIterationDirection#FORWARD прямом} направлении.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("-> new")
+        private LimitingIterator() {
+            super(LimitingView.this);
+        }
+
+        @Override
+        protected boolean advance() {
+            if (remaining == 0 || !source.hasNext()) return false;
+            remaining--;
+            return offer(source.next().current());
+        }
+
+        @Override
+        protected void restart() {
+            source = source().iterator();
+            remaining = limit;
+        }
+
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.iteration.view;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.iteration.ImmutableIterable;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.SequentialIterationException;
+import com.bloogefest.collection.iteration.iterator.ImmutableIterator;
+import com.bloogefest.common.validation.NullException;
+
+/**
+ * Ленивое представление, пропускающее переданное количество первых элементов источника. Результат зависит от порядка
+ * элементов, поэтому поддерживается только {@linkplain SequentialIterationDirection#FORWARD прямое} направление
+ * последовательной итерации.
+ *
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+public class SkippingView<T> extends AbstractView<T, T> {
+
+    /**
+     * Количество пропускаемых элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final long skip;
+
+    /**
+     * Создаёт ленивое представление переданного источника с переданным количеством пропускаемых элементов.
+     *
+     * @param source источник.
+     * @param skip количество пропускаемых элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного источника).
+     * @throws SequentialIterationException исключение последовательной итерации (отрицательного количества
+     * пропускаемых элементов).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public SkippingView(final @NotNull ImmutableIterable<T> source,
+                        final long skip) throws NullException, SequentialIterationException {
+        super(source);
+        if (skip < 0) throw new SequentialIterationException("Illegal skip: " + skip);
+        this.skip = skip;
+    }
+
+    /**
+     * Создаёт и возвращает итератор текущего представления в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return Итератор текущего представления.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @throws SequentialIterationException исключение последовательной итерации (непрямого направления).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull ImmutableIterator<T> iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException, SequentialIterationException {
+        forward(direction);
+        return new SkippingIterator();
+    }
+
+    /**
+     * Итератор {@linkplain SkippingView ленивого представления с пропуском элементов}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class SkippingIterator extends AbstractViewIterator<T> {
+
+        /**
+         * Итератор источника.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @NotNull ImmutableIterator<T> source = source().iterator();
+
+        /**
+         * Оставшееся количество пропускаемых элементов.
+         *
+         * @since 1.0.0-RC1
+         */
+        private long remaining = skip;
+
+        /**
+         * Создаёт итератор в {@linkplain SequentialIterationDirection#FORWARD прямом} направлении.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("-> new")
+        private SkippingIterator() {
+            super(SkippingView.this);
+        }
+
+        @Override
+        protected boolean advance() {
+            for (; remaining > 0; remaining--) {
+                if (!source.hasNext()) return false;
+                source.next();
+            }
+            return source.hasNext() && offer(source.next().current());
+        }
+
+        @Override
+        protected void restart() {
+            source = source().iterator();
+            remaining = skip;
+        }
+
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.iteration.view;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.collection.iteration.ImmutableIterable;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.SequentialIterationException;
+import com.bloogefest.collection.iteration.iterator.ImmutableIterator;
+import com.bloogefest.common.function.Predicate;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+/**
+ * Ленивое представление, содержащее первые элементы источника, пока переданный {@linkplain Predicate предикат}
+ * возвращает истину. Результат зависит от порядка элементов, поэтому поддерживается только
+ * {@linkplain SequentialIterationDirection#FORWARD прямое} направление последовательной итерации.
+ *
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+public class TakingWhileView<T> extends AbstractView<T, T> {
+
+    /**
+     * {@linkplain Predicate Предикат}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull Predicate<T> predicate;
+
+    /**
+     * Создаёт ленивое представление переданного источника на основе переданного {@linkplain Predicate предиката}.
+     *
+     * @param source источник.
+     * @param predicate {@linkplain Predicate предикат}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного источника или
+     * {@linkplain Predicate предиката}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null -> new; _, _ -> fail")
+    public TakingWhileView(final @NotNull ImmutableIterable<T> source,
+                           final @NotNull Predicate<T> predicate) throws NullException {
+        super(source);
+        this.predicate = Validator.notNull(predicate, "The predicate");
+    }
+
+    /**
+     * Создаёт и возвращает итератор текущего представления в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return Итератор текущего представления.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @throws SequentialIterationException исключение последовательной итерации (непрямого направления).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull ImmutableIterator<T> iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException, SequentialIterationException {
+        forward(direction);
+        return new TakingWhileIterator();
+    }
+
+    /**
+     * Итератор {@linkplain TakingWhileView ленивого представления с предикатом продолжения}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class TakingWhileIterator extends AbstractViewIterator<T> {
+
+        /**
+         * Итератор источника.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @NotNull ImmutableIterator<T> source = source().iterator();
+
+        /**
+         * Параметр завершения: {@linkplain Predicate предикат} вернул ложь.
+         *
+         * @since 1.0.0-RC1
+         */
+        private boolean finished;
+
+        /**
+         * Создаёт итератор в {@linkplain SequentialIterationDirection#FORWARD прямом} направлении.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("-> new")
+        private TakingWhileIterator() {
+            super(TakingWhileView.this);
+        }
+
+        @Override
+        protected boolean advance() {
+            if (finished || !source.hasNext()) return false;
+            final var element = source.next().current();
+            if (predicate.evaluate(element)) return offer(element);
+            finished = true;
+            return false;
+        }
+
+        @Override
+        protected void restart() {
+            source = source().iterator();
+            finished = false;
+        }
+
+    }
+
+}
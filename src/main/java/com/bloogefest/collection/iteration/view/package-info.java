@@ -0,0 +1,13 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+/**
+ * Содержит ленивые представления итерируемых — этапы преобразования, которые вычисляют элементы по мере итерации без
+ * промежуточных коллекций.
+ *
+ * @since 1.0.0-RC1
+ */
+package com.bloogefest.collection.iteration.view;
@@ -0,0 +1,794 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.list;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Range;
+import com.bloogefest.collection.CollectionException;
+import com.bloogefest.collection.function.IntChunkHandler;
+import com.bloogefest.collection.iteration.IntAbstractImmutableIterable;
+import com.bloogefest.collection.iteration.IntImmutableIterable;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.SequentialIterationException;
+import com.bloogefest.collection.iteration.iterator.IntAbstractImmutableIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorElementGettingException;
+import com.bloogefest.collection.iteration.iterator.IteratorPositionChangingException;
+import com.bloogefest.collection.lock.NoOpLock;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Arrays;
+
+/**
+ * Неизменяемый сжатый список элементов типа {@code int}, отсортированных по неубыванию, например, списка вхождений
+ * поискового индекса.
+ * <p>
+ * Элементы хранятся блоками по {@linkplain #BLOCK_SIZE 128}: первый элемент блока хранится в индексе пропусков, а
+ * остальные — разностями с предыдущим элементом в виде целых чисел переменной длины (по семь бит в байте). Малые
+ * разности занимают один байт вместо четырёх. Индекс пропусков хранит первый элемент и смещение каждого блока, поэтому
+ * {@linkplain #get(int) получение по индексу}, {@linkplain #contains(int) проверка наличия} и
+ * {@linkplain CompressedIterator#seek(int) перемещение итератора к элементу} декодируют не больше одного блока.
+ * <p>
+ * Список неизменяемый, поэтому использует {@linkplain NoOpLock пустой инструмент для управления доступом}, а его
+ * итераторы можно использовать в разных потоках одновременно.
+ *
+ * @since 1.0.0-RC1
+ */
+public class CompressedSortedIntList extends IntAbstractImmutableIterable {
+
+    /**
+     * Количество элементов блока.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int BLOCK_SIZE = 1 << 7;
+
+    /**
+     * Двоичный логарифм {@linkplain #BLOCK_SIZE количества элементов блока}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final int BLOCK_SHIFT = 7;
+
+    /**
+     * Разности элементов в виде целых чисел переменной длины.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final byte @NotNull [] data;
+
+    /**
+     * Первые элементы блоков.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final int @NotNull [] firsts;
+
+    /**
+     * Смещения разностей блоков в {@linkplain #data массиве разностей}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final int @NotNull [] offsets;
+
+    /**
+     * Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final int size;
+
+    /**
+     * Создаёт {@linkplain CompressedSortedIntList неизменяемый сжатый список элементов типа {@code int}} на основе
+     * элементов переданного массива.
+     *
+     * @param elements массив элементов, отсортированных по неубыванию.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного массива).
+     * @throws CollectionException исключение коллекции (неотсортированных элементов).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    public CompressedSortedIntList(final int @NotNull [] elements) throws NullException, CollectionException {
+        this(encode(Validator.notNull(elements, "The elements")));
+    }
+
+    /**
+     * Создаёт {@linkplain CompressedSortedIntList неизменяемый сжатый список элементов типа {@code int}} на основе
+     * элементов переданного {@linkplain IntImmutableIterable итерируемого}, получаемых
+     * {@linkplain IntImmutableIterable#iterateChunks(IntChunkHandler, int) итерацией блоками}.
+     *
+     * @param iterable {@linkplain IntImmutableIterable итерируемое} элементов, отсортированных по неубыванию.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain IntImmutableIterable итерируемого}).
+     * @throws CollectionException исключение коллекции (в том числе неотсортированных элементов).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    public CompressedSortedIntList(
+            final @NotNull IntImmutableIterable iterable) throws NullException, CollectionException {
+        this(encode(Validator.notNull(iterable, "The iterable")));
+    }
+
+    /**
+     * Создаёт {@linkplain CompressedSortedIntList неизменяемый сжатый список элементов типа {@code int}} на основе
+     * переданного {@linkplain Encoder кодировщика}.
+     *
+     * @param encoder {@linkplain Encoder кодировщик}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    private CompressedSortedIntList(final @NotNull Encoder encoder) {
+        final var blocks = encoder.blocks();
+        data = Arrays.copyOf(encoder.data, encoder.length);
+        firsts = Arrays.copyOf(encoder.firsts, blocks);
+        offsets = Arrays.copyOf(encoder.offsets, blocks);
+        size = encoder.size;
+    }
+
+    /**
+     * Если переданный индекс допустимый, возвращает элемент по переданному индексу, декодируя не больше одного блока,
+     * в противном случае генерирует {@linkplain CollectionException исключение коллекции} (недопустимого индекса).
+     *
+     * @param index индекс.
+     *
+     * @return Элемент по переданному индексу.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого индекса).
+     * @since 1.0.0-RC1
+     */
+    public int get(final int index) throws CollectionException {
+        if (index < 0 || index >= size) throw new CollectionException("Illegal index: " + index);
+        final var block = index >>> BLOCK_SHIFT;
+        var element = firsts[block];
+        var position = offsets[block];
+        for (var remaining = index & BLOCK_SIZE - 1; remaining > 0; remaining--) {
+            var delta = 0;
+            var shift = 0;
+            int value;
+            do {
+                value = data[position++];
+                delta |= (value & 0x7F) << shift;
+                shift += 7;
+            } while (value < 0);
+            element += delta;
+        }
+        return element;
+    }
+
+    /**
+     * Возвращает параметр наличия переданного элемента, находя блок двоичным поиском по индексу пропусков и декодируя
+     * только его.
+     *
+     * @param element элемент.
+     *
+     * @return Параметр наличия переданного элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    public boolean contains(final int element) {
+        final var block = block(element, true);
+        if (block < 0) return false;
+        final var buffer = new int[BLOCK_SIZE];
+        final var length = decode(block, buffer);
+        for (var index = 0; index < length; index++) {
+            if (buffer[index] == element) return true;
+            if (buffer[index] > element) return false;
+        }
+        return false;
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain IntChunkHandler обработчик блоков}, декодируя элементы блоками
+     * в один переиспользуемый массив без упаковки.
+     *
+     * @param handler {@linkplain IntChunkHandler обработчик блоков}.
+     * @param size максимальное количество элементов блока.
+     *
+     * @return Текущий список.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain IntChunkHandler обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации (в том числе неположительного
+     * количества элементов блока).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, _ -> this; _, _ -> fail")
+    public @NotNull CompressedSortedIntList iterateChunks(final @NotNull IntChunkHandler handler,
+                                                          final int size) throws NullException, SequentialIterationException {
+        Validator.notNull(handler, "The handler");
+        if (size <= 0) throw new SequentialIterationException("Illegal chunk size: " + size);
+        try {
+            final var buffer = new int[BLOCK_SIZE];
+            final var chunk = size >= BLOCK_SIZE ? new int[Math.min(size, this.size)] : buffer;
+            var length = 0;
+            for (var block = 0; block < firsts.length; block++) {
+                final var decoded = decode(block, buffer);
+                if (chunk == buffer) {
+                    for (var offset = 0; offset < decoded; offset += size) {
+                        handler.handle(buffer, offset, Math.min(size, decoded - offset));
+                    }
+                    continue;
+                }
+                var offset = 0;
+                while (offset < decoded) {
+                    final var copied = Math.min(decoded - offset, chunk.length - length);
+                    System.arraycopy(buffer, offset, chunk, length, copied);
+                    offset += copied;
+                    length += copied;
+                    if (length < chunk.length) continue;
+                    handler.handle(chunk, 0, length);
+                    length = 0;
+                }
+            }
+            if (length > 0) handler.handle(chunk, 0, length);
+            return this;
+        } catch (final Throwable failure) {
+            throw new SequentialIterationException(failure);
+        }
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain CompressedIterator итератор} текущего списка в
+     * {@linkplain SequentialIterationDirection#DEFAULT направлении последовательной итерации по умолчанию}.
+     *
+     * @return {@linkplain CompressedIterator Итератор} текущего списка в
+     * {@linkplain SequentialIterationDirection#DEFAULT направлении последовательной итерации по умолчанию}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> new")
+    public @NotNull CompressedIterator iterator() {
+        return iterator(SequentialIterationDirection.DEFAULT);
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain CompressedIterator итератор} текущего списка в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return {@linkplain CompressedIterator Итератор} текущего списка в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull CompressedIterator iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException {
+        Validator.notNull(direction, "The direction");
+        return new CompressedIterator(direction == SequentialIterationDirection.FORWARD);
+    }
+
+    /**
+     * Устанавливает параметр генерации исключений итераторов без трассировки стека. Действует на итераторы, созданные
+     * после установки. Возвращает текущий список.
+     *
+     * @param stackless параметр генерации исключений итераторов без трассировки стека.
+     *
+     * @return Текущий список.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("_ -> this")
+    public @NotNull CompressedSortedIntList stackless(final boolean stackless) {
+        super.stackless(stackless);
+        return this;
+    }
+
+    /**
+     * Возвращает количество элементов.
+     *
+     * @return Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    public @Range(from = 0, to = Integer.MAX_VALUE) int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает количество байтов, занимаемых сжатыми элементами и индексом пропусков.
+     *
+     * @return Количество байтов, занимаемых сжатыми элементами и индексом пропусков.
+     *
+     * @since 1.0.0-RC1
+     */
+    public @Range(from = 0, to = Long.MAX_VALUE) long bytes() {
+        return data.length + (long) Integer.BYTES * (firsts.length + offsets.length);
+    }
+
+    /**
+     * Возвращает индекс последнего блока, первый элемент которого меньше переданного элемента (или равен ему, если
+     * передан параметр включения), находя его двоичным поиском по индексу пропусков, или {@code -1}, если такого блока
+     * нет.
+     *
+     * @param element элемент.
+     * @param inclusive параметр включения равного первого элемента.
+     *
+     * @return Индекс блока или {@code -1}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int block(final int element, final boolean inclusive) {
+        var low = 0;
+        var high = firsts.length - 1;
+        while (low <= high) {
+            final var middle = low + high >>> 1;
+            final var first = firsts[middle];
+            if (first < element || inclusive && first == element) low = middle + 1;
+            else high = middle - 1;
+        }
+        return high;
+    }
+
+    /**
+     * Декодирует элементы блока по переданному индексу в переданный массив и возвращает их количество.
+     *
+     * @param block индекс блока.
+     * @param buffer массив длиной не меньше {@linkplain #BLOCK_SIZE количества элементов блока}.
+     *
+     * @return Количество элементов блока.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int decode(final int block, final int @NotNull [] buffer) {
+        final var length = Math.min(BLOCK_SIZE, size - (block << BLOCK_SHIFT));
+        var element = firsts[block];
+        var position = offsets[block];
+        buffer[0] = element;
+        for (var index = 1; index < length; index++) {
+            var delta = 0;
+            var shift = 0;
+            int value;
+            do {
+                value = data[position++];
+                delta |= (value & 0x7F) << shift;
+                shift += 7;
+            } while (value < 0);
+            buffer[index] = element += delta;
+        }
+        return length;
+    }
+
+    /**
+     * Кодирует элементы переданного массива.
+     *
+     * @param elements массив элементов.
+     *
+     * @return {@linkplain Encoder Кодировщик} с закодированными элементами.
+     *
+     * @throws CollectionException исключение коллекции (неотсортированных элементов).
+     * @since 1.0.0-RC1
+     */
+    private static @NotNull Encoder encode(final int @NotNull [] elements) throws CollectionException {
+        final var encoder = new Encoder(elements.length);
+        for (final var element : elements) encoder.add(element);
+        return encoder;
+    }
+
+    /**
+     * Кодирует элементы переданного {@linkplain IntImmutableIterable итерируемого}.
+     *
+     * @param iterable {@linkplain IntImmutableIterable итерируемое}.
+     *
+     * @return {@linkplain Encoder Кодировщик} с закодированными элементами.
+     *
+     * @throws CollectionException исключение коллекции (в том числе неотсортированных элементов).
+     * @since 1.0.0-RC1
+     */
+    private static @NotNull Encoder encode(final @NotNull IntImmutableIterable iterable) throws CollectionException {
+        final var encoder = new Encoder(BLOCK_SIZE);
+        try {
+            iterable.iterateChunks((elements, offset, length) -> {
+                for (var index = offset; index < offset + length; index++) encoder.add(elements[index]);
+            }, BLOCK_SIZE);
+            return encoder;
+        } catch (final @NotNull SequentialIterationException failure) {
+            if (failure.getCause() instanceof final CollectionException cause) throw cause;
+            throw new CollectionException(failure);
+        }
+    }
+
+    /**
+     * Кодировщик элементов, накапливающий разности и индекс пропусков в расширяемых массивах.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final class Encoder {
+
+        /**
+         * Разности элементов в виде целых чисел переменной длины.
+         *
+         * @since 1.0.0-RC1
+         */
+        private byte @NotNull [] data;
+
+        /**
+         * Первые элементы блоков.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int @NotNull [] firsts;
+
+        /**
+         * Смещения разностей блоков.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int @NotNull [] offsets;
+
+        /**
+         * Количество байтов разностей.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int length;
+
+        /**
+         * Количество элементов.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int size;
+
+        /**
+         * Последний элемент.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int last;
+
+        /**
+         * Создаёт {@linkplain Encoder кодировщик} на основе переданного ожидаемого количества элементов.
+         *
+         * @param expected ожидаемое количество элементов.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("_ -> new")
+        private Encoder(final int expected) {
+            final var blocks = Math.max((expected >>> BLOCK_SHIFT) + 1, 1);
+            data = new byte[Math.max(expected, 16)];
+            firsts = new int[blocks];
+            offsets = new int[blocks];
+        }
+
+        /**
+         * Добавляет переданный элемент.
+         *
+         * @param element элемент.
+         *
+         * @throws CollectionException исключение коллекции (неотсортированного элемента или превышения максимального
+         * размера).
+         * @since 1.0.0-RC1
+         */
+        private void add(final int element) throws CollectionException {
+            if (size > 0 && element < last) throw new CollectionException("Unsorted element at index: " + size);
+            if (size == Integer.MAX_VALUE) throw new CollectionException("Maximum size exceeded");
+            if ((size & BLOCK_SIZE - 1) == 0) {
+                final var block = blocks();
+                if (block == firsts.length) {
+                    firsts = Arrays.copyOf(firsts, block + (block >> 1) + 1);
+                    offsets = Arrays.copyOf(offsets, firsts.length);
+                }
+                firsts[block] = element;
+                offsets[block] = length;
+            } else {
+                if (data.length - length < 5) {
+                    final var capacity = data.length + (data.length >> 1);
+                    if (capacity < 0) throw new CollectionException("Maximum size exceeded");
+                    data = Arrays.copyOf(data, capacity);
+                }
+                var delta = element - last;
+                while ((delta & ~0x7F) != 0) {
+                    data[length++] = (byte) (delta & 0x7F | 0x80);
+                    delta >>>= 7;
+                }
+                data[length++] = (byte) delta;
+            }
+            last = element;
+            size++;
+        }
+
+        /**
+         * Возвращает количество блоков.
+         *
+         * @return Количество блоков.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int blocks() {
+            return size + BLOCK_SIZE - 1 >>> BLOCK_SHIFT;
+        }
+
+    }
+
+    /**
+     * Итератор {@linkplain CompressedSortedIntList неизменяемого сжатого списка элементов типа {@code int}}.
+     * <p>
+     * Декодирует элементы поблочно в собственный массив, поэтому последовательная итерация в обоих направлениях
+     * декодирует каждый блок один раз. {@linkplain #first()}, {@linkplain #last()} и {@linkplain #seek(int)} находят
+     * нужный блок по индексу пропусков без декодирования предшествующих блоков.
+     *
+     * @since 1.0.0-RC1
+     */
+    public final class CompressedIterator extends IntAbstractImmutableIterator {
+
+        /**
+         * Параметр прямого направления итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        private final boolean forward;
+
+        /**
+         * Декодированные элементы блока.
+         *
+         * @since 1.0.0-RC1
+         */
+        private final int @NotNull [] buffer = new int[BLOCK_SIZE];
+
+        /**
+         * Индекс декодированного блока или {@code -1}.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int block = -1;
+
+        /**
+         * Логический индекс текущей позиции.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int index = -1;
+
+        /**
+         * Кэшированный элемент.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int cached;
+
+        /**
+         * Параметр существования кэшированного элемента.
+         *
+         * @since 1.0.0-RC1
+         */
+        private boolean hasCached;
+
+        /**
+         * Создаёт итератор на основе переданного параметра прямого направления итерации.
+         *
+         * @param forward параметр прямого направления итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("_ -> new")
+        private CompressedIterator(final boolean forward) {
+            super(CompressedSortedIntList.this.lock(), CompressedSortedIntList.this.readLock(),
+                  CompressedSortedIntList.this.stackless());
+            this.forward = forward;
+        }
+
+        @Override
+        public int current() throws IteratorElementGettingException {
+            if (!hasCurrent()) throw IteratorElementGettingException.create(stackless());
+            final var physical = physical(index);
+            final var block = physical >>> BLOCK_SHIFT;
+            final var offset = physical & BLOCK_SIZE - 1;
+            if (offset == 0) return firsts[block];
+            if (block != this.block) {
+                decode(block, buffer);
+                this.block = block;
+            }
+            return buffer[offset];
+        }
+
+        @Override
+        public int cached() throws IteratorElementGettingException {
+            if (!hasCached) throw IteratorElementGettingException.create(stackless());
+            return cached;
+        }
+
+        @Override
+        @Contract("_ -> this")
+        public @NotNull CompressedIterator cache(final int element) {
+            cached = element;
+            hasCached = true;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull CompressedIterator next() throws IteratorPositionChangingException {
+            if (!hasNext()) throw IteratorPositionChangingException.create(stackless());
+            index++;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull CompressedIterator previous() throws IteratorPositionChangingException {
+            if (!hasPrevious()) throw IteratorPositionChangingException.create(stackless());
+            index = Math.min(index, size) - 1;
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #hasFirst() параметр существования первого элемента} истинный, изменяет текущую позицию
+         * итератора на первую за постоянное время, в противном случае генерирует
+         * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+         * итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull CompressedIterator first() throws IteratorPositionChangingException {
+            if (size == 0) throw IteratorPositionChangingException.create(stackless());
+            index = 0;
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #hasLast() параметр существования последнего элемента} истинный, изменяет текущую позицию
+         * итератора на последнюю за постоянное время, в противном случае генерирует
+         * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+         * итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull CompressedIterator last() throws IteratorPositionChangingException {
+            if (size == 0) throw IteratorPositionChangingException.create(stackless());
+            index = size - 1;
+            return this;
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на начальную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull CompressedIterator start() {
+            index = -1;
+            return this;
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на конечную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull CompressedIterator end() {
+            index = size;
+            return this;
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на первый в его направлении элемент, не меньший переданного элемента (в
+         * обратном направлении — не больший), находя блок двоичным поиском по индексу пропусков и декодируя только его.
+         * Если такого элемента нет, изменяет текущую позицию на конечную. Возвращает текущий итератор.
+         *
+         * @param element элемент.
+         *
+         * @return Текущий итератор.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("_ -> this")
+        public @NotNull CompressedIterator seek(final int element) {
+            final var block = block(element, !forward);
+            if (block < 0) {
+                index = forward ? 0 : size;
+                return this;
+            }
+            final var length = decode(block, buffer);
+            this.block = block;
+            var offset = 0;
+            if (forward) {
+                while (offset < length && buffer[offset] < element) offset++;
+            } else {
+                offset = length - 1;
+                while (buffer[offset] > element) offset--;
+            }
+            index = physical((block << BLOCK_SHIFT) + offset);
+            return this;
+        }
+
+        @Override
+        public boolean hasCurrent() {
+            return index >= 0 && index < size;
+        }
+
+        @Override
+        public boolean hasCached() {
+            return hasCached;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index + 1 < size;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return Math.min(index, size) > 0;
+        }
+
+        @Override
+        public boolean hasFirst() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean hasCentral() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean hasLast() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean starting() {
+            return index < 0;
+        }
+
+        @Override
+        public boolean iterating() {
+            return hasCurrent();
+        }
+
+        @Override
+        public boolean ending() {
+            return index >= 0 && index >= size;
+        }
+
+        /**
+         * Возвращает физический индекс по переданному логическому индексу. Преобразование симметрично, поэтому также
+         * возвращает логический индекс по физическому.
+         *
+         * @param logical логический индекс.
+         *
+         * @return Физический индекс.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int physical(final int logical) {
+            return forward ? logical : size - 1 - logical;
+        }
+
+    }
+
+}
@@ -0,0 +1,1017 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.list;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.annotation.analysis.Range;
+import com.bloogefest.collection.AbstractMutableCollection;
+import com.bloogefest.collection.CollectionException;
+import com.bloogefest.collection.ImmutableCollection;
+import com.bloogefest.collection.function.ChunkHandler;
+import com.bloogefest.collection.iteration.NonSequentialIterationDirection;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.SequentialIterationException;
+import com.bloogefest.collection.iteration.iterator.AbstractImmutableIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorAuxiliaryException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementChangingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementCuttingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementDeletingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementGettingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementPastingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementSwappingException;
+import com.bloogefest.collection.iteration.iterator.ImmutableIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorPositionChangingException;
+import com.bloogefest.collection.iteration.iterator.MutableIterator;
+import com.bloogefest.common.function.Predicate;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Изменяемый список на основе расширяемого массива.
+ * <p>
+ * Изменяющие операции списка захватывают {@linkplain #lock() инструмент для управления доступом}, а читающие —
+ * {@linkplain #readLock() инструмент для управления доступом на чтение}. Элементарные операции
+ * {@linkplain MutableIterator итератора} его не захватывают, поэтому их следует выполнять под
+ * {@linkplain #lock() инструментом для управления доступом} или через составные операции итератора.
+ *
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+public class MutableArrayList<T> extends AbstractMutableCollection<T> {
+
+    /**
+     * Вместимость по умолчанию.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Параметр поддержки нулевых элементов по умолчанию.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final boolean DEFAULT_NULLABLE = false;
+
+    /**
+     * Максимальная вместимость.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Массив элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @NotNull Object[] elements;
+
+    /**
+     * Текущий размер.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int size;
+
+    /**
+     * Создаёт {@linkplain MutableArrayList изменяемый список на основе расширяемого массива} на основе
+     * {@linkplain #DEFAULT_CAPACITY вместимости}, {@linkplain ReentrantLock инструмента для управления доступом} и
+     * {@linkplain #DEFAULT_NULLABLE параметра поддержки нулевых элементов по умолчанию}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    public MutableArrayList() {
+        this(DEFAULT_CAPACITY, new ReentrantLock(), DEFAULT_NULLABLE);
+    }
+
+    /**
+     * Создаёт {@linkplain MutableArrayList изменяемый список на основе расширяемого массива} на основе переданной
+     * вместимости, {@linkplain ReentrantLock инструмента для управления доступом} и
+     * {@linkplain #DEFAULT_NULLABLE параметра поддержки нулевых элементов по умолчанию}.
+     *
+     * @param capacity вместимость.
+     *
+     * @throws CollectionException исключение коллекции (недопустимой вместимости).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    public MutableArrayList(final int capacity) throws CollectionException {
+        this(capacity, new ReentrantLock(), DEFAULT_NULLABLE);
+    }
+
+    /**
+     * Создаёт {@linkplain MutableArrayList изменяемый список на основе расширяемого массива} на основе
+     * {@linkplain #DEFAULT_CAPACITY вместимости по умолчанию}, переданного
+     * {@linkplain Lock инструмента для управления доступом} и параметра поддержки нулевых элементов.
+     *
+     * @param lock {@linkplain Lock инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain Lock инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public MutableArrayList(final @NotNull Lock lock, final boolean nullable) throws NullException {
+        this(DEFAULT_CAPACITY, lock, nullable);
+    }
+
+    /**
+     * Создаёт {@linkplain MutableArrayList изменяемый список на основе расширяемого массива} на основе переданной
+     * вместимости, {@linkplain Lock инструмента для управления доступом} и параметра поддержки нулевых элементов.
+     *
+     * @param capacity вместимость.
+     * @param lock {@linkplain Lock инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws CollectionException исключение коллекции (недопустимой вместимости).
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain Lock инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, !null, _ -> new; _, _, _ -> fail")
+    public MutableArrayList(final int capacity, final @NotNull Lock lock,
+                            final boolean nullable) throws CollectionException, NullException {
+        super(lock, nullable);
+        if (capacity < 0 || capacity > MAX_CAPACITY) throw new CollectionException("Illegal capacity: " + capacity);
+        this.elements = new Object[capacity];
+    }
+
+    /**
+     * Создаёт {@linkplain MutableArrayList изменяемый список на основе расширяемого массива} на основе переданной
+     * вместимости, {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись} и параметра
+     * поддержки нулевых элементов.
+     *
+     * @param capacity вместимость.
+     * @param lock {@linkplain ReadWriteLock инструмент для управления доступом на чтение и запись}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws CollectionException исключение коллекции (недопустимой вместимости).
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, !null, _ -> new; _, _, _ -> fail")
+    public MutableArrayList(final int capacity, final @NotNull ReadWriteLock lock,
+                            final boolean nullable) throws CollectionException, NullException {
+        super(lock, nullable);
+        if (capacity < 0 || capacity > MAX_CAPACITY) throw new CollectionException("Illegal capacity: " + capacity);
+        this.elements = new Object[capacity];
+    }
+
+    /**
+     * Создаёт {@linkplain MutableArrayList изменяемый список на основе расширяемого массива} на основе переданной
+     * вместимости, {@linkplain StampedLock штампованного инструмента для управления доступом} и параметра поддержки
+     * нулевых элементов. {@linkplain #get(int) Получение элемента} и итерация такого списка читают элементы
+     * оптимистично.
+     *
+     * @param capacity вместимость.
+     * @param lock {@linkplain StampedLock штампованный инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws CollectionException исключение коллекции (недопустимой вместимости).
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, !null, _ -> new; _, _, _ -> fail")
+    public MutableArrayList(final int capacity, final @NotNull StampedLock lock,
+                            final boolean nullable) throws CollectionException, NullException {
+        super(lock, nullable);
+        if (capacity < 0 || capacity > MAX_CAPACITY) throw new CollectionException("Illegal capacity: " + capacity);
+        this.elements = new Object[capacity];
+    }
+
+    /**
+     * Если переданный элемент нулевой и {@linkplain #nullable() параметр поддержки нулевых элементов} ложный,
+     * генерирует {@linkplain NullException исключение проверки нулевого объекта} (переданного элемента). Добавляет
+     * переданный элемент в конец текущего списка. Возвращает текущий список.
+     *
+     * @param element элемент.
+     *
+     * @return Текущий список.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного элемента).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> this")
+    public @NotNull MutableArrayList<T> add(final @Nullable T element) throws NullException, CollectionException {
+        if (!nullable()) Validator.notNull(element, "The element");
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            insert(size, element);
+            return this;
+        } catch (final @NotNull CollectionException failure) {
+            throw failure;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Если переданный индекс допустимый, возвращает элемент по переданному индексу, в противном случае генерирует
+     * {@linkplain CollectionException исключение коллекции} (недопустимого индекса). Если текущий список создан на
+     * основе {@linkplain StampedLock штампованного инструмента для управления доступом}, сначала читает элемент
+     * оптимистично.
+     *
+     * @param index индекс.
+     *
+     * @return Элемент по переданному индексу.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого индекса).
+     * @since 1.0.0-RC1
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T get(final int index) throws CollectionException {
+        final var stamped = stamped();
+        if (stamped != null) {
+            final var stamp = stamped.tryOptimisticRead();
+            final var elements = this.elements;
+            final var size = this.size;
+            final var element = index >= 0 && index < size && index < elements.length ? elements[index] : null;
+            if (stamped.validate(stamp)) {
+                if (index < 0 || index >= size) throw new CollectionException("Illegal index: " + index);
+                return (T) element;
+            }
+        }
+        final @NotNull var lock = readLock();
+        try {
+            lock.lockInterruptibly();
+            if (index < 0 || index >= size) throw new CollectionException("Illegal index: " + index);
+            return (T) elements[index];
+        } catch (final @NotNull CollectionException failure) {
+            throw failure;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает истину: позиция итераторов текущего списка — индекс, который остаётся допустимым после параллельных
+     * изменений, поэтому текущий список поддерживает оптимистичную итерацию.
+     *
+     * @return Истина.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> true")
+    protected boolean optimistic() {
+        return true;
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain ChunkHandler обработчик блоков} под
+     * {@linkplain #readLock() инструментом для управления доступом на чтение}, передавая ему диапазоны массива
+     * элементов не более чем из переданного количества элементов без копирования.
+     *
+     * @param handler {@linkplain ChunkHandler обработчик блоков}.
+     * @param size максимальное количество элементов блока.
+     *
+     * @return Текущий список.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain ChunkHandler обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации (в том числе неположительного
+     * количества элементов блока).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, _ -> this; _, _ -> fail")
+    public @NotNull MutableArrayList<T> iterateChunks(final @NotNull ChunkHandler<T> handler,
+                                                      final int size) throws NullException, SequentialIterationException {
+        Validator.notNull(handler, "The handler");
+        if (size <= 0) throw new SequentialIterationException("Illegal chunk size: " + size);
+        final @NotNull var lock = readLock();
+        try {
+            lock.lockInterruptibly();
+            var offset = 0;
+            while (offset < this.size) {
+                final var length = Math.min(size, this.size - offset);
+                handler.handle(elements, offset, length);
+                offset += length;
+            }
+            return this;
+        } catch (final Throwable failure) {
+            throw new SequentialIterationException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет элементы, для которых переданный {@linkplain Predicate предикат} возвращает истину, уплотняя массив
+     * элементов за один проход под {@linkplain #lock() инструментом для управления доступом}. Если предикат
+     * генерирует исключение, оставшиеся элементы сохраняются.
+     *
+     * @param predicate {@linkplain Predicate предикат}.
+     *
+     * @return Текущий список.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain Predicate предиката}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull MutableArrayList<T> removeIf(
+            final @NotNull Predicate<T> predicate) throws NullException, SequentialIterationException {
+        Validator.notNull(predicate, "The predicate");
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            compact(predicate);
+            return this;
+        } catch (final @NotNull Exception failure) {
+            throw new SequentialIterationException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Заменяет каждый элемент результатом переданного {@linkplain UnaryOperator оператора} за один проход под
+     * {@linkplain #lock() инструментом для управления доступом}.
+     *
+     * @param operator {@linkplain UnaryOperator оператор}.
+     *
+     * @return Текущий список.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного {@linkplain UnaryOperator оператора}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> this; _ -> fail")
+    @SuppressWarnings("unchecked")
+    public @NotNull MutableArrayList<T> replaceAll(
+            final @NotNull UnaryOperator<T> operator) throws NullException, SequentialIterationException {
+        Validator.notNull(operator, "The operator");
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            final var nullable = nullable();
+            for (var index = 0; index < size; index++) {
+                final var element = operator.apply((T) elements[index]);
+                if (!nullable) Validator.notNull(element, "The element");
+                elements[index] = element;
+            }
+            return this;
+        } catch (final @NotNull Exception failure) {
+            throw new SequentialIterationException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет элементы, которые не {@linkplain ImmutableCollection#contains(Object) содержатся} в переданной
+     * {@linkplain ImmutableCollection неизменяемой коллекции}, через {@linkplain #removeIf(Predicate)}.
+     *
+     * @param collection {@linkplain ImmutableCollection неизменяемая коллекция}.
+     *
+     * @return Текущий список.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданной
+     * {@linkplain ImmutableCollection неизменяемой коллекции}).
+     * @throws SequentialIterationException исключение последовательной итерации.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull MutableArrayList<T> retainAll(
+            final @NotNull ImmutableCollection<? super T> collection) throws NullException, SequentialIterationException {
+        super.retainAll(collection);
+        return this;
+    }
+
+    /**
+     * Возвращает параметр присутствия переданного элемента в текущем списке. Массив элементов просматривается под
+     * {@linkplain #readLock() инструментом для управления доступом на чтение}.
+     *
+     * @param element элемент.
+     *
+     * @return Параметр присутствия переданного элемента.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public boolean contains(final @Nullable T element) throws CollectionException {
+        final @NotNull var lock = readLock();
+        try {
+            lock.lockInterruptibly();
+            for (var index = 0; index < size; index++) if (Objects.equals(elements[index], element)) return true;
+            return false;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain MutableIterator итератор} текущего списка в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return {@linkplain MutableIterator Итератор} текущего списка в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull MutableIterator<T> iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException {
+        Validator.notNull(direction, "The direction");
+        return new ArrayIterator(direction == SequentialIterationDirection.FORWARD);
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain ImmutableIterator итератор} текущего списка в переданном
+     * {@linkplain NonSequentialIterationDirection направлении непоследовательной итерации}. Физический индекс каждого
+     * шага вычисляется {@linkplain NonSequentialIterationDirection#index(int, int) направлением} за постоянное время.
+     *
+     * @param direction {@linkplain NonSequentialIterationDirection направление непоследовательной итерации}.
+     *
+     * @return {@linkplain ImmutableIterator Итератор} текущего списка в переданном
+     * {@linkplain NonSequentialIterationDirection направлении непоследовательной итерации}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain NonSequentialIterationDirection направления непоследовательной итерации}).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull ImmutableIterator<T> iterator(
+            final @NotNull NonSequentialIterationDirection direction) throws NullException {
+        return new MappedIterator(Validator.notNull(direction, "The direction"));
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain Spliterator разделитель} снимка элементов текущего списка. Элементы копируются
+     * одним {@linkplain System#arraycopy(Object, int, Object, int, int) копированием} под
+     * {@linkplain #readLock() инструментом для управления доступом на чтение}, после чего разделитель делится пополам
+     * без захвата инструмента, поэтому изменения списка во время его обхода не влияют на обходимые элементы.
+     *
+     * @return {@linkplain Spliterator Разделитель} снимка элементов текущего списка.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> new")
+    @SuppressWarnings("unchecked")
+    public @NotNull Spliterator<T> spliterator() throws CollectionException {
+        final @NotNull var lock = readLock();
+        try {
+            lock.lockInterruptibly();
+            final var nonnull = nullable() ? 0 : Spliterator.NONNULL;
+            final var characteristics = Spliterator.ORDERED | Spliterator.IMMUTABLE | nonnull;
+            return (Spliterator<T>) Spliterators.spliterator(Arrays.copyOf(elements, size), characteristics);
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает текущий размер.
+     *
+     * @return Текущий размер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public @Range(from = 0, to = Integer.MAX_VALUE) int size() {
+        return size;
+    }
+
+    /**
+     * Вставляет переданный элемент по переданному индексу, сдвигая последующие элементы.
+     *
+     * @param index индекс.
+     * @param element элемент.
+     *
+     * @throws CollectionException исключение коллекции (превышения максимальной вместимости).
+     * @since 1.0.0-RC1
+     */
+    private void insert(final int index, final @Nullable Object element) throws CollectionException {
+        if (size == elements.length) grow();
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Удаляет элемент по переданному индексу, сдвигая последующие элементы.
+     *
+     * @param index индекс.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void remove(final int index) {
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+    }
+
+    /**
+     * Уплотняет массив элементов за один проход, сдвигая элементы, для которых переданный
+     * {@linkplain Predicate предикат} возвращает ложь, на место удаляемых. Если предикат генерирует исключение,
+     * непросмотренные элементы сдвигаются без проверки.
+     *
+     * @param predicate {@linkplain Predicate предикат}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @SuppressWarnings("unchecked")
+    private void compact(final @NotNull Predicate<T> predicate) {
+        var target = 0;
+        var source = 0;
+        try {
+            for (; source < size; source++) {
+                final var element = elements[source];
+                if (!predicate.evaluate((T) element)) elements[target++] = element;
+            }
+        } finally {
+            final var rest = size - source;
+            System.arraycopy(elements, source, elements, target, rest);
+            Arrays.fill(elements, target + rest, size, null);
+            size = target + rest;
+        }
+    }
+
+    /**
+     * Увеличивает вместимость массива элементов в полтора раза.
+     *
+     * @throws CollectionException исключение коллекции (превышения максимальной вместимости).
+     * @since 1.0.0-RC1
+     */
+    private void grow() throws CollectionException {
+        final var capacity = elements.length;
+        if (capacity == MAX_CAPACITY) throw new CollectionException("Maximum capacity exceeded");
+        final var growth = Math.max(capacity >> 1, 1);
+        elements = Arrays.copyOf(elements, capacity > MAX_CAPACITY - growth ? MAX_CAPACITY : capacity + growth);
+    }
+
+    /**
+     * Основа итераторов {@linkplain MutableArrayList изменяемого списка на основе расширяемого массива}.
+     * <p>
+     * Хранит логический индекс текущей позиции: {@code -1} соответствует начальной позиции, {@linkplain #size размер}
+     * — конечной. Физический индекс элемента вычисляется по логическому {@linkplain #physical(int) наследником},
+     * поэтому {@linkplain #first()}, {@linkplain #last()}, {@linkplain #start()} и {@linkplain #end()} изменяют
+     * позицию за постоянное время независимо от порядка обхода.
+     *
+     * @param <I> тип итератора, возвращаемого операциями изменения позиции.
+     *
+     * @since 1.0.0-RC1
+     */
+    private abstract class IndexIterator<I extends ImmutableIterator<T>> extends AbstractImmutableIterator<T> {
+
+        /**
+         * Логический индекс текущей позиции.
+         *
+         * @since 1.0.0-RC1
+         */
+        int index = -1;
+
+        /**
+         * Кэшированный элемент.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Nullable T cached;
+
+        /**
+         * Параметр существования кэшированного элемента.
+         *
+         * @since 1.0.0-RC1
+         */
+        boolean hasCached;
+
+        /**
+         * Создаёт итератор в начальной позиции.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("-> new")
+        IndexIterator() {
+            super(MutableArrayList.this.lock(), MutableArrayList.this.readLock(), MutableArrayList.this.nullable(),
+                  MutableArrayList.this.stackless());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @Nullable T current() throws IteratorElementGettingException {
+            if (!hasCurrent()) throw IteratorElementGettingException.create(stackless());
+            return (T) elements[physical(index)];
+        }
+
+        @Override
+        public @Nullable T cached() throws IteratorElementGettingException {
+            if (!hasCached) throw IteratorElementGettingException.create(stackless());
+            return cached;
+        }
+
+        @Override
+        @Contract("_ -> this")
+        public @NotNull I cache(final @Nullable T element) throws NullException {
+            if (!nullable()) Validator.notNull(element, "The element");
+            cached = element;
+            hasCached = true;
+            return self();
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull I next() throws IteratorPositionChangingException {
+            if (!hasNext()) throw IteratorPositionChangingException.create(stackless());
+            index++;
+            return self();
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull I previous() throws IteratorPositionChangingException {
+            if (!hasPrevious()) throw IteratorPositionChangingException.create(stackless());
+            index = Math.min(index, size) - 1;
+            return self();
+        }
+
+        /**
+         * Если {@linkplain #hasFirst() параметр существования первого элемента} истинный, изменяет текущую позицию
+         * итератора на первую за постоянное время, в противном случае генерирует
+         * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+         * итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull I first() throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            return seek(true, false);
+        }
+
+        /**
+         * Если {@linkplain #hasLast() параметр существования последнего элемента} истинный, изменяет текущую позицию
+         * итератора на последнюю за постоянное время, в противном случае генерирует
+         * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+         * итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull I last() throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            return seek(true, true);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на начальную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull I start() throws IteratorAuxiliaryException {
+            return seek(false, false);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на конечную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull I end() throws IteratorAuxiliaryException {
+            return seek(false, true);
+        }
+
+        @Override
+        public boolean hasCurrent() {
+            return index >= 0 && index < size;
+        }
+
+        @Override
+        public boolean hasCached() {
+            return hasCached;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index + 1 < size;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return Math.min(index, size) > 0;
+        }
+
+        @Override
+        public boolean hasFirst() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean hasCentral() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean hasLast() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean starting() {
+            return index < 0;
+        }
+
+        @Override
+        public boolean iterating() {
+            return hasCurrent();
+        }
+
+        @Override
+        public boolean ending() {
+            return index >= 0 && index >= size;
+        }
+
+        /**
+         * Возвращает физический индекс по переданному логическому индексу.
+         *
+         * @param logical логический индекс.
+         *
+         * @return Физический индекс.
+         *
+         * @since 1.0.0-RC1
+         */
+        abstract int physical(final int logical);
+
+        /**
+         * Изменяет текущую позицию итератора под {@linkplain #readLock() инструментом для управления доступом на чтение}
+         * на первый или последний элемент, либо на начальную или конечную позицию.
+         *
+         * @param element параметр позиции элемента (первого или последнего), а не начальной или конечной позиции.
+         * @param tail параметр позиции в конце (последнего элемента или конечной позиции).
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора (отсутствия элементов).
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        private @NotNull I seek(final boolean element,
+                                final boolean tail) throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            final @NotNull var lock = readLock();
+            try {
+                lock.lockInterruptibly();
+                if (element && size == 0) throw IteratorPositionChangingException.create(stackless());
+                index = element ? tail ? size - 1 : 0 : tail ? size : -1;
+                return self();
+            } catch (final @NotNull IteratorPositionChangingException failure) {
+                throw failure;
+            } catch (final @NotNull Exception failure) {
+                throw new IteratorAuxiliaryException(failure);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Возвращает текущий итератор как итератор типа операций изменения позиции.
+         *
+         * @return Текущий итератор.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("-> this")
+        @SuppressWarnings("unchecked")
+        private @NotNull I self() {
+            return (I) this;
+        }
+
+    }
+
+    /**
+     * Итератор {@linkplain MutableArrayList изменяемого списка на основе расширяемого массива} в
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}. Логический индекс
+     * отсчитывается в собственном направлении итерации.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class ArrayIterator extends IndexIterator<MutableIterator<T>> implements MutableIterator<T> {
+
+        /**
+         * Параметр прямого направления итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        private final boolean forward;
+
+        /**
+         * Создаёт итератор на основе переданного параметра прямого направления итерации.
+         *
+         * @param forward параметр прямого направления итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("_ -> new")
+        private ArrayIterator(final boolean forward) {
+            this.forward = forward;
+        }
+
+        @Override
+        @Contract("_ -> this")
+        public @NotNull MutableIterator<T> change(
+                final @Nullable T element) throws NullException, IteratorElementChangingException {
+            if (!nullable()) Validator.notNull(element, "The element");
+            if (!hasCurrent()) throw IteratorElementChangingException.create(stackless());
+            elements[physical(index)] = element;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> delete() throws IteratorElementDeletingException {
+            if (!hasCurrent()) throw IteratorElementDeletingException.create(stackless());
+            remove(physical(index--));
+            return this;
+        }
+
+        @Override
+        @Contract("_ -> this")
+        public @NotNull MutableIterator<T> paste(
+                final @Nullable T element) throws NullException, IteratorElementPastingException {
+            if (!nullable()) Validator.notNull(element, "The element");
+            if (!hasCurrent()) throw IteratorElementPastingException.create(stackless());
+            try {
+                final var physical = physical(index);
+                insert(forward ? physical : physical + 1, element);
+                index++;
+                return this;
+            } catch (final @NotNull CollectionException failure) {
+                throw IteratorElementPastingException.create(failure, stackless());
+            }
+        }
+
+        /**
+         * Если {@linkplain #hasCurrent() параметр существования текущего элемента} и
+         * {@linkplain #hasCached() параметр существования кэшированного элемента} истинные, меняет местами текущий
+         * элемент с кэшированным без сдвига элементов, в противном случае генерирует
+         * {@linkplain IteratorElementSwappingException исключение смены местами элементов итератора}. Возвращает
+         * текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorElementSwappingException исключение смены местами элементов итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        @SuppressWarnings("unchecked")
+        public @NotNull MutableIterator<T> swap() throws IteratorElementSwappingException, IteratorAuxiliaryException {
+            final @NotNull var lock = lock();
+            try {
+                lock.lockInterruptibly();
+                if (!hasCurrent() || !hasCached) throw IteratorElementSwappingException.create(stackless());
+                final var physical = physical(index);
+                final var element = (T) elements[physical];
+                elements[physical] = cached;
+                cached = element;
+                return this;
+            } catch (final @NotNull IteratorElementSwappingException failure) {
+                throw failure;
+            } catch (final @NotNull Exception failure) {
+                throw new IteratorAuxiliaryException(failure);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Если {@linkplain #hasCurrent() параметр существования текущего элемента} истинный, кэширует и удаляет текущий
+         * элемент за один захват {@linkplain #lock() инструмента для управления доступом}, в противном случае
+         * генерирует {@linkplain IteratorElementCuttingException исключение вырезания элемента итератора}. Возвращает
+         * текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorElementCuttingException исключение вырезания элемента итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        @SuppressWarnings("unchecked")
+        public @NotNull MutableIterator<T> cut() throws IteratorElementCuttingException, IteratorAuxiliaryException {
+            final @NotNull var lock = lock();
+            try {
+                lock.lockInterruptibly();
+                if (!hasCurrent()) throw IteratorElementCuttingException.create(stackless());
+                final var physical = physical(index--);
+                cached = (T) elements[physical];
+                hasCached = true;
+                remove(physical);
+                return this;
+            } catch (final @NotNull IteratorElementCuttingException failure) {
+                throw failure;
+            } catch (final @NotNull Exception failure) {
+                throw new IteratorAuxiliaryException(failure);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        int physical(final int logical) {
+            return forward ? logical : size - 1 - logical;
+        }
+
+    }
+
+    /**
+     * Итератор {@linkplain MutableArrayList изменяемого списка на основе расширяемого массива} в
+     * {@linkplain NonSequentialIterationDirection направлении непоследовательной итерации}.
+     * <p>
+     * Логический индекс — номер шага, а физический индекс элемента вычисляется по нему
+     * {@linkplain NonSequentialIterationDirection#index(int, int) направлением}, поэтому итератор не изменяет список и
+     * не создаёт вспомогательных массивов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class MappedIterator extends IndexIterator<ImmutableIterator<T>> {
+
+        /**
+         * {@linkplain NonSequentialIterationDirection Направление непоследовательной итерации}.
+         *
+         * @since 1.0.0-RC1
+         */
+        private final @NotNull NonSequentialIterationDirection direction;
+
+        /**
+         * Создаёт итератор на основе переданного
+         * {@linkplain NonSequentialIterationDirection направления непоследовательной итерации}.
+         *
+         * @param direction {@linkplain NonSequentialIterationDirection направление непоследовательной итерации}.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("_ -> new")
+        private MappedIterator(final @NotNull NonSequentialIterationDirection direction) {
+            this.direction = direction;
+        }
+
+        @Override
+        int physical(final int logical) {
+            return direction.index(logical, size);
+        }
+
+    }
+
+}
@@ -0,0 +1,809 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.list;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.annotation.analysis.Range;
+import com.bloogefest.collection.AbstractMutableCollection;
+import com.bloogefest.collection.CollectionException;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.iterator.AbstractMutableIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorAuxiliaryException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementChangingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementCuttingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementDeletingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementGettingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementPastingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementSwappingException;
+import com.bloogefest.collection.iteration.iterator.IteratorPositionChangingException;
+import com.bloogefest.collection.iteration.iterator.MutableIterator;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Изменяемый двусвязный список с пулом узлов.
+ * <p>
+ * {@linkplain MutableIterator#delete() Удаление}, {@linkplain MutableIterator#paste(Object) вставка},
+ * {@linkplain MutableIterator#cut() вырезание} и {@linkplain MutableIterator#swap() смена местами} выполняются за
+ * постоянное время без сдвига элементов. Узлы удалённых элементов возвращаются в пул ограниченной вместимости и
+ * используются повторно, поэтому итератор, текущий элемент которого удалён другим итератором, становится
+ * недействительным.
+ * <p>
+ * Изменяющие операции списка захватывают {@linkplain #lock() инструмент для управления доступом}, а читающие —
+ * {@linkplain #readLock() инструмент для управления доступом на чтение}. Элементарные операции
+ * {@linkplain MutableIterator итератора} его не захватывают, поэтому их следует выполнять под
+ * {@linkplain #lock() инструментом для управления доступом} или через составные операции итератора.
+ *
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+public class MutableLinkedList<T> extends AbstractMutableCollection<T> {
+
+    /**
+     * Вместимость пула узлов по умолчанию.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int DEFAULT_POOL_CAPACITY = 256;
+
+    /**
+     * Параметр поддержки нулевых элементов по умолчанию.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final boolean DEFAULT_NULLABLE = false;
+
+    /**
+     * Вместимость пула узлов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final int poolCapacity;
+
+    /**
+     * Первый узел.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @Nullable Node head;
+
+    /**
+     * Последний узел.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @Nullable Node tail;
+
+    /**
+     * Текущий размер.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int size;
+
+    /**
+     * Вершина пула свободных узлов, связанных через {@linkplain Node#next следующий узел}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @Nullable Node pool;
+
+    /**
+     * Текущий размер пула узлов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int poolSize;
+
+    /**
+     * Создаёт {@linkplain MutableLinkedList изменяемый двусвязный список} на основе
+     * {@linkplain ReentrantLock инструмента для управления доступом},
+     * {@linkplain #DEFAULT_NULLABLE параметра поддержки нулевых элементов} и
+     * {@linkplain #DEFAULT_POOL_CAPACITY вместимости пула узлов по умолчанию}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    public MutableLinkedList() {
+        this(new ReentrantLock(), DEFAULT_NULLABLE, DEFAULT_POOL_CAPACITY);
+    }
+
+    /**
+     * Создаёт {@linkplain MutableLinkedList изменяемый двусвязный список} на основе переданного
+     * {@linkplain Lock инструмента для управления доступом}, параметра поддержки нулевых элементов и
+     * {@linkplain #DEFAULT_POOL_CAPACITY вместимости пула узлов по умолчанию}.
+     *
+     * @param lock {@linkplain Lock инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain Lock инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public MutableLinkedList(final @NotNull Lock lock, final boolean nullable) throws NullException {
+        this(lock, nullable, DEFAULT_POOL_CAPACITY);
+    }
+
+    /**
+     * Создаёт {@linkplain MutableLinkedList изменяемый двусвязный список} на основе переданного
+     * {@linkplain Lock инструмента для управления доступом}, параметра поддержки нулевых элементов и вместимости пула
+     * узлов.
+     *
+     * @param lock {@linkplain Lock инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     * @param poolCapacity вместимость пула узлов ({@code 0} отключает повторное использование узлов).
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain Lock инструмента для управления доступом}).
+     * @throws CollectionException исключение коллекции (недопустимой вместимости пула узлов).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _, _ -> new; _, _, _ -> fail")
+    public MutableLinkedList(final @NotNull Lock lock, final boolean nullable,
+                             final int poolCapacity) throws NullException, CollectionException {
+        super(lock, nullable);
+        if (poolCapacity < 0) throw new CollectionException("Illegal pool capacity: " + poolCapacity);
+        this.poolCapacity = poolCapacity;
+    }
+
+    /**
+     * Создаёт {@linkplain MutableLinkedList изменяемый двусвязный список} на основе переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}, параметра поддержки нулевых
+     * элементов и вместимости пула узлов.
+     *
+     * @param lock {@linkplain ReadWriteLock инструмент для управления доступом на чтение и запись}.
+     * @param nullable параметр поддержки нулевых элементов.
+     * @param poolCapacity вместимость пула узлов ({@code 0} отключает повторное использование узлов).
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}).
+     * @throws CollectionException исключение коллекции (недопустимой вместимости пула узлов).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _, _ -> new; _, _, _ -> fail")
+    public MutableLinkedList(final @NotNull ReadWriteLock lock, final boolean nullable,
+                             final int poolCapacity) throws NullException, CollectionException {
+        super(lock, nullable);
+        if (poolCapacity < 0) throw new CollectionException("Illegal pool capacity: " + poolCapacity);
+        this.poolCapacity = poolCapacity;
+    }
+
+    /**
+     * Создаёт {@linkplain MutableLinkedList изменяемый двусвязный список} на основе переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}, параметра поддержки нулевых
+     * элементов и вместимости пула узлов. Удаление может отсоединить или переиспользовать узел, на котором находится
+     * итератор, поэтому итерация такого списка не читает элементы оптимистично, а захватывает штамп чтения.
+     *
+     * @param lock {@linkplain StampedLock штампованный инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     * @param poolCapacity вместимость пула узлов ({@code 0} отключает повторное использование узлов).
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}).
+     * @throws CollectionException исключение коллекции (недопустимой вместимости пула узлов).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _, _ -> new; _, _, _ -> fail")
+    public MutableLinkedList(final @NotNull StampedLock lock, final boolean nullable,
+                             final int poolCapacity) throws NullException, CollectionException {
+        super(lock, nullable);
+        if (poolCapacity < 0) throw new CollectionException("Illegal pool capacity: " + poolCapacity);
+        this.poolCapacity = poolCapacity;
+    }
+
+    /**
+     * Если переданный элемент нулевой и {@linkplain #nullable() параметр поддержки нулевых элементов} ложный,
+     * генерирует {@linkplain NullException исключение проверки нулевого объекта} (переданного элемента). Добавляет
+     * переданный элемент в конец текущего списка. Возвращает текущий список.
+     *
+     * @param element элемент.
+     *
+     * @return Текущий список.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного элемента).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> this")
+    public @NotNull MutableLinkedList<T> add(final @Nullable T element) throws NullException, CollectionException {
+        if (!nullable()) Validator.notNull(element, "The element");
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            link(element, tail, null);
+            return this;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain MutableIterator итератор} текущего списка в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return {@linkplain MutableIterator Итератор} текущего списка в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull MutableIterator<T> iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException {
+        Validator.notNull(direction, "The direction");
+        return new LinkedIterator(direction == SequentialIterationDirection.FORWARD);
+    }
+
+    /**
+     * Возвращает текущий размер.
+     *
+     * @return Текущий размер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public @Range(from = 0, to = Integer.MAX_VALUE) int size() {
+        return size;
+    }
+
+    /**
+     * Создаёт или извлекает из пула узел с переданным элементом и связывает его между переданными узлами.
+     *
+     * @param element элемент.
+     * @param previous предыдущий узел.
+     * @param next следующий узел.
+     *
+     * @return Связанный узел.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @NotNull Node link(final @Nullable Object element, final @Nullable Node previous,
+                               final @Nullable Node next) {
+        var node = pool;
+        if (node == null) node = new Node();
+        else {
+            pool = node.next;
+            poolSize--;
+        }
+        node.element = element;
+        node.previous = previous;
+        node.next = next;
+        if (previous == null) head = node;
+        else previous.next = node;
+        if (next == null) tail = node;
+        else next.previous = node;
+        size++;
+        return node;
+    }
+
+    /**
+     * Отвязывает переданный узел, увеличивая его {@linkplain Node#version версию}, и, если пул узлов не заполнен,
+     * возвращает его в пул.
+     *
+     * @param node узел.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void unlink(final @NotNull Node node) {
+        final var previous = node.previous;
+        final var next = node.next;
+        if (previous == null) head = next;
+        else previous.next = next;
+        if (next == null) tail = previous;
+        else next.previous = previous;
+        size--;
+        node.element = null;
+        node.previous = null;
+        node.next = null;
+        node.version++;
+        if (poolSize < poolCapacity) {
+            node.next = pool;
+            pool = node;
+            poolSize++;
+        }
+    }
+
+    /**
+     * Узел {@linkplain MutableLinkedList изменяемого двусвязного списка}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final class Node {
+
+        /**
+         * Элемент.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable Object element;
+
+        /**
+         * Предыдущий узел.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable Node previous;
+
+        /**
+         * Следующий узел.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable Node next;
+
+        /**
+         * Версия, увеличиваемая при каждом отвязывании узла. Позволяет итераторам обнаружить, что их узел удалён и,
+         * возможно, переиспользован для другого элемента.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int version;
+
+    }
+
+    /**
+     * Итератор {@linkplain MutableLinkedList изменяемого двусвязного списка}.
+     * <p>
+     * Хранит текущий узел, поэтому все операции изменения позиции и элементов выполняются за постоянное время.
+     * <p>
+     * Вместе с узлом хранит его {@linkplain Node#version версию}. Если узел удалён не текущим итератором, версии
+     * расходятся, и итератор считает позицию недействительной: не содержит текущего, следующего и предыдущего
+     * элементов и не изменяет узел, который мог быть переиспользован для другого элемента. Действительную позицию
+     * возвращают {@linkplain #first()}, {@linkplain #last()}, {@linkplain #start()} и {@linkplain #end()}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class LinkedIterator extends AbstractMutableIterator<T> {
+
+        /**
+         * Параметр прямого направления итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        private final boolean forward;
+
+        /**
+         * Текущий узел.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable Node node;
+
+        /**
+         * {@linkplain Node#version Версия} текущего узла при переходе на него.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int version;
+
+        /**
+         * Параметр нахождения в конечной позиции при отсутствии текущего узла.
+         *
+         * @since 1.0.0-RC1
+         */
+        private boolean ending;
+
+        /**
+         * Кэшированный элемент.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable T cached;
+
+        /**
+         * Параметр существования кэшированного элемента.
+         *
+         * @since 1.0.0-RC1
+         */
+        private boolean hasCached;
+
+        /**
+         * Создаёт итератор на основе переданного параметра прямого направления итерации.
+         *
+         * @param forward параметр прямого направления итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("_ -> new")
+        private LinkedIterator(final boolean forward) {
+            super(MutableLinkedList.this.lock(), MutableLinkedList.this.readLock(), MutableLinkedList.this.nullable(),
+                  MutableLinkedList.this.stackless());
+            this.forward = forward;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @Nullable T current() throws IteratorElementGettingException {
+            final var node = this.node;
+            if (node == null || !valid(node)) throw IteratorElementGettingException.create(stackless());
+            return (T) node.element;
+        }
+
+        @Override
+        public @Nullable T cached() throws IteratorElementGettingException {
+            if (!hasCached) throw IteratorElementGettingException.create(stackless());
+            return cached;
+        }
+
+        @Override
+        @Contract("_ -> this")
+        public @NotNull MutableIterator<T> cache(final @Nullable T element) throws NullException {
+            if (!nullable()) Validator.notNull(element, "The element");
+            cached = element;
+            hasCached = true;
+            return this;
+        }
+
+        @Override
+        @Contract("_ -> this")
+        public @NotNull MutableIterator<T> change(
+                final @Nullable T element) throws NullException, IteratorElementChangingException {
+            if (!nullable()) Validator.notNull(element, "The element");
+            final var node = this.node;
+            if (node == null || !valid(node)) throw IteratorElementChangingException.create(stackless());
+            node.element = element;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> delete() throws IteratorElementDeletingException {
+            final var node = this.node;
+            if (node == null || !valid(node)) throw IteratorElementDeletingException.create(stackless());
+            move(preceding(node));
+            ending = false;
+            unlink(node);
+            return this;
+        }
+
+        @Override
+        @Contract("_ -> this")
+        public @NotNull MutableIterator<T> paste(
+                final @Nullable T element) throws NullException, IteratorElementPastingException {
+            if (!nullable()) Validator.notNull(element, "The element");
+            final var node = this.node;
+            if (node == null || !valid(node)) throw IteratorElementPastingException.create(stackless());
+            if (forward) link(element, node.previous, node);
+            else link(element, node, node.next);
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #hasCurrent() параметр существования текущего элемента} и
+         * {@linkplain #hasCached() параметр существования кэшированного элемента} истинные, меняет местами текущий
+         * элемент с кэшированным без перестройки связей, в противном случае генерирует
+         * {@linkplain IteratorElementSwappingException исключение смены местами элементов итератора}. Возвращает
+         * текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorElementSwappingException исключение смены местами элементов итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        @SuppressWarnings("unchecked")
+        public @NotNull MutableIterator<T> swap() throws IteratorElementSwappingException, IteratorAuxiliaryException {
+            final @NotNull var lock = lock();
+            try {
+                lock.lockInterruptibly();
+                final var node = this.node;
+                if (!hasCurrent() || !hasCached) throw IteratorElementSwappingException.create(stackless());
+                final var element = (T) node.element;
+                node.element = cached;
+                cached = element;
+                return this;
+            } catch (final @NotNull IteratorElementSwappingException failure) {
+                throw failure;
+            } catch (final @NotNull Exception failure) {
+                throw new IteratorAuxiliaryException(failure);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Если {@linkplain #hasCurrent() параметр существования текущего элемента} истинный, кэширует и удаляет
+         * текущий элемент за одно получение {@linkplain #lock() инструмента для управления доступом}, в противном
+         * случае генерирует {@linkplain IteratorElementCuttingException исключение вырезания элемента итератора}.
+         * Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorElementCuttingException исключение вырезания элемента итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        @SuppressWarnings("unchecked")
+        public @NotNull MutableIterator<T> cut() throws IteratorElementCuttingException, IteratorAuxiliaryException {
+            final @NotNull var lock = lock();
+            try {
+                lock.lockInterruptibly();
+                final var node = this.node;
+                if (!hasCurrent()) throw IteratorElementCuttingException.create(stackless());
+                cached = (T) node.element;
+                hasCached = true;
+                return delete();
+            } catch (final @NotNull IteratorElementCuttingException failure) {
+                throw failure;
+            } catch (final @NotNull Exception failure) {
+                throw new IteratorAuxiliaryException(failure);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> next() throws IteratorPositionChangingException {
+            final var node = this.node;
+            final var next = node != null ? valid(node) ? following(node) : null : ending ? null : front();
+            if (next == null) throw IteratorPositionChangingException.create(stackless());
+            move(next);
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> previous() throws IteratorPositionChangingException {
+            final var node = this.node;
+            final var previous = node != null ? valid(node) ? preceding(node) : null : ending ? back() : null;
+            if (previous == null) throw IteratorPositionChangingException.create(stackless());
+            move(previous);
+            ending = false;
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #hasFirst() параметр существования первого элемента} истинный, изменяет текущую позицию
+         * итератора на первую за постоянное время, в противном случае генерирует
+         * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+         * итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> first() throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            return seek(true, false);
+        }
+
+        /**
+         * Если {@linkplain #hasLast() параметр существования последнего элемента} истинный, изменяет текущую позицию
+         * итератора на последнюю за постоянное время, в противном случае генерирует
+         * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+         * итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> last() throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            return seek(true, true);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на начальную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> start() throws IteratorAuxiliaryException {
+            return seek(false, false);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на конечную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> end() throws IteratorAuxiliaryException {
+            return seek(false, true);
+        }
+
+        @Override
+        public boolean hasCurrent() {
+            final var node = this.node;
+            return node != null && valid(node);
+        }
+
+        @Override
+        public boolean hasCached() {
+            return hasCached;
+        }
+
+        @Override
+        public boolean hasNext() {
+            final var node = this.node;
+            return node != null ? valid(node) && following(node) != null : !ending && front() != null;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            final var node = this.node;
+            return node != null ? valid(node) && preceding(node) != null : ending && back() != null;
+        }
+
+        @Override
+        public boolean hasFirst() {
+            return head != null;
+        }
+
+        @Override
+        public boolean hasCentral() {
+            return head != null;
+        }
+
+        @Override
+        public boolean hasLast() {
+            return head != null;
+        }
+
+        @Override
+        public boolean starting() {
+            return node == null && !ending;
+        }
+
+        @Override
+        public boolean iterating() {
+            return hasCurrent();
+        }
+
+        @Override
+        public boolean ending() {
+            return node == null && ending;
+        }
+
+        /**
+         * Изменяет текущую позицию итератора под {@linkplain #readLock() инструментом для управления доступом на
+         * чтение} на первый или последний элемент, либо на начальную или конечную позицию.
+         *
+         * @param element параметр позиции элемента (первого или последнего), а не начальной или конечной позиции.
+         * @param tail параметр позиции в конце (последнего элемента или конечной позиции).
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора (отсутствия элементов).
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        private @NotNull MutableIterator<T> seek(final boolean element,
+                                                 final boolean tail) throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            final @NotNull var lock = readLock();
+            try {
+                lock.lockInterruptibly();
+                if (element) {
+                    final var node = tail ? back() : front();
+                    if (node == null) throw IteratorPositionChangingException.create(stackless());
+                    move(node);
+                    ending = false;
+                } else {
+                    move(null);
+                    ending = tail;
+                }
+                return this;
+            } catch (final @NotNull IteratorPositionChangingException failure) {
+                throw failure;
+            } catch (final @NotNull Exception failure) {
+                throw new IteratorAuxiliaryException(failure);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Изменяет текущий узел на переданный, запоминая его {@linkplain Node#version версию}.
+         *
+         * @param node узел или нулевой объект.
+         *
+         * @since 1.0.0-RC1
+         */
+        private void move(final @Nullable Node node) {
+            this.node = node;
+            version = node != null ? node.version : 0;
+        }
+
+        /**
+         * Возвращает параметр действительности переданного текущего узла — совпадения его
+         * {@linkplain Node#version версии} с запомненной.
+         *
+         * @param node текущий узел.
+         *
+         * @return Параметр действительности текущего узла.
+         *
+         * @since 1.0.0-RC1
+         */
+        private boolean valid(final @NotNull Node node) {
+            return node.version == version;
+        }
+
+        /**
+         * Возвращает первый узел в направлении итерации.
+         *
+         * @return Первый узел в направлении итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable Node front() {
+            return forward ? head : tail;
+        }
+
+        /**
+         * Возвращает последний узел в направлении итерации.
+         *
+         * @return Последний узел в направлении итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable Node back() {
+            return forward ? tail : head;
+        }
+
+        /**
+         * Возвращает узел, следующий за переданным в направлении итерации.
+         *
+         * @param node узел.
+         *
+         * @return Узел, следующий за переданным в направлении итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable Node following(final @NotNull Node node) {
+            return forward ? node.next : node.previous;
+        }
+
+        /**
+         * Возвращает узел, предшествующий переданному в направлении итерации.
+         *
+         * @param node узел.
+         *
+         * @return Узел, предшествующий переданному в направлении итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable Node preceding(final @NotNull Node node) {
+            return forward ? node.previous : node.next;
+        }
+
+    }
+
+}
@@ -0,0 +1,762 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.list;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.annotation.analysis.Range;
+import com.bloogefest.collection.CollectionException;
+import com.bloogefest.collection.IntAbstractMutableCollection;
+import com.bloogefest.collection.function.IntChunkHandler;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.SequentialIterationException;
+import com.bloogefest.collection.iteration.iterator.IntAbstractMutableIterator;
+import com.bloogefest.collection.iteration.iterator.IntMutableIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorAuxiliaryException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementChangingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementCuttingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementDeletingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementGettingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementPastingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementSwappingException;
+import com.bloogefest.collection.iteration.iterator.IteratorPositionChangingException;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Изменяемый список элементов типа {@code int} вне кучи. Повторяет
+ * {@linkplain IntMutableArrayList изменяемый список элементов типа {@code int} на основе расширяемого массива}, но
+ * хранит элементы вне кучи, поэтому сборщик мусора не сканирует и не копирует их.
+ * <p>
+ * На Java 22 и выше элементы хранятся в сегменте памяти {@code java.lang.foreign.MemorySegment} собственной арены
+ * {@code java.lang.foreign.Arena} (раздел {@code META-INF/versions/22} многоверсионного архива), на более ранних
+ * платформах — в {@linkplain java.nio.ByteBuffer#allocateDirect(int) прямом буфере}. Память освобождается
+ * {@linkplain #close() закрытием} списка, поэтому список следует закрывать явно, например, в блоке
+ * {@code try}-с-ресурсами. Закрытый список пуст, а его изменение и получение элементов генерируют
+ * {@linkplain CollectionException исключение коллекции}.
+ * <p>
+ * Изменяющие операции списка захватывают {@linkplain #lock() инструмент для управления доступом}, а читающие —
+ * {@linkplain #readLock() инструмент для управления доступом на чтение}. Элементарные операции
+ * {@linkplain IntMutableIterator итератора} его не захватывают, поэтому их следует выполнять под
+ * {@linkplain #lock() инструментом для управления доступом} или через составные операции итератора.
+ *
+ * @see IntMutableArrayList
+ * @since 1.0.0-RC1
+ */
+public class OffHeapIntList extends IntAbstractMutableCollection implements AutoCloseable {
+
+    /**
+     * Вместимость по умолчанию.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Хранилище элементов или нулевой объект, если текущий список закрыт.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @Nullable OffHeapIntStorage storage;
+
+    /**
+     * Текущий размер.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int size;
+
+    /**
+     * Создаёт {@linkplain OffHeapIntList изменяемый список элементов типа {@code int} вне кучи} на основе
+     * {@linkplain #DEFAULT_CAPACITY вместимости по умолчанию} и
+     * {@linkplain ReentrantLock инструмента для управления доступом}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    public OffHeapIntList() {
+        this(DEFAULT_CAPACITY, new ReentrantLock());
+    }
+
+    /**
+     * Создаёт {@linkplain OffHeapIntList изменяемый список элементов типа {@code int} вне кучи} на основе переданной
+     * вместимости и {@linkplain ReentrantLock инструмента для управления доступом}.
+     *
+     * @param capacity вместимость.
+     *
+     * @throws CollectionException исключение коллекции (недопустимой вместимости).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    public OffHeapIntList(final int capacity) throws CollectionException {
+        this(capacity, new ReentrantLock());
+    }
+
+    /**
+     * Создаёт {@linkplain OffHeapIntList изменяемый список элементов типа {@code int} вне кучи} на основе переданных
+     * вместимости и {@linkplain Lock инструмента для управления доступом}.
+     *
+     * @param capacity вместимость.
+     * @param lock {@linkplain Lock инструмент для управления доступом}.
+     *
+     * @throws CollectionException исключение коллекции (недопустимой вместимости).
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain Lock инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, !null -> new; _, _ -> fail")
+    public OffHeapIntList(final int capacity, final @NotNull Lock lock) throws CollectionException, NullException {
+        super(lock);
+        if (capacity < 0 || capacity > OffHeapIntStorage.maxCapacity())
+            throw new CollectionException("Illegal capacity: " + capacity);
+        this.storage = new OffHeapIntStorage(capacity);
+    }
+
+    /**
+     * Создаёт {@linkplain OffHeapIntList изменяемый список элементов типа {@code int} вне кучи} на основе переданных
+     * вместимости и {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}.
+     *
+     * @param capacity вместимость.
+     * @param lock {@linkplain ReadWriteLock инструмент для управления доступом на чтение и запись}.
+     *
+     * @throws CollectionException исключение коллекции (недопустимой вместимости).
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, !null -> new; _, _ -> fail")
+    public OffHeapIntList(final int capacity,
+                          final @NotNull ReadWriteLock lock) throws CollectionException, NullException {
+        super(lock);
+        if (capacity < 0 || capacity > OffHeapIntStorage.maxCapacity())
+            throw new CollectionException("Illegal capacity: " + capacity);
+        this.storage = new OffHeapIntStorage(capacity);
+    }
+
+    /**
+     * Создаёт {@linkplain OffHeapIntList изменяемый список элементов типа {@code int} вне кучи} на основе переданных
+     * вместимости и {@linkplain StampedLock штампованного инструмента для управления доступом}. В отличие от
+     * {@linkplain IntMutableArrayList списка на основе массива}, элементы не читаются оптимистично, так как память
+     * хранилища может быть освобождена во время чтения.
+     *
+     * @param capacity вместимость.
+     * @param lock {@linkplain StampedLock штампованный инструмент для управления доступом}.
+     *
+     * @throws CollectionException исключение коллекции (недопустимой вместимости).
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, !null -> new; _, _ -> fail")
+    public OffHeapIntList(final int capacity,
+                          final @NotNull StampedLock lock) throws CollectionException, NullException {
+        super(lock);
+        if (capacity < 0 || capacity > OffHeapIntStorage.maxCapacity())
+            throw new CollectionException("Illegal capacity: " + capacity);
+        this.storage = new OffHeapIntStorage(capacity);
+    }
+
+    /**
+     * Добавляет переданный элемент в конец текущего списка. Возвращает текущий список.
+     *
+     * @param element элемент.
+     *
+     * @return Текущий список.
+     *
+     * @throws CollectionException исключение коллекции (в том числе закрытого списка).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> this")
+    public @NotNull OffHeapIntList add(final int element) throws CollectionException {
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            open();
+            insert(size, element);
+            return this;
+        } catch (final @NotNull CollectionException failure) {
+            throw failure;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Если переданный индекс допустимый, возвращает элемент по переданному индексу, в противном случае генерирует
+     * {@linkplain CollectionException исключение коллекции} (недопустимого индекса).
+     *
+     * @param index индекс.
+     *
+     * @return Элемент по переданному индексу.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого индекса или закрытого списка).
+     * @since 1.0.0-RC1
+     */
+    public int get(final int index) throws CollectionException {
+        final @NotNull var lock = readLock();
+        try {
+            lock.lockInterruptibly();
+            final @NotNull var storage = open();
+            if (index < 0 || index >= size) throw new CollectionException("Illegal index: " + index);
+            return storage.get(index);
+        } catch (final @NotNull CollectionException failure) {
+            throw failure;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain IntChunkHandler обработчик блоков} под
+     * {@linkplain #readLock() инструментом для управления доступом на чтение}, копируя элементы вне кучи блоками в
+     * один переиспользуемый массив без упаковки.
+     *
+     * @param handler {@linkplain IntChunkHandler обработчик блоков}.
+     * @param size максимальное количество элементов блока.
+     *
+     * @return Текущий список.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain IntChunkHandler обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации (в том числе неположительного
+     * количества элементов блока или закрытого списка).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, _ -> this; _, _ -> fail")
+    public @NotNull OffHeapIntList iterateChunks(final @NotNull IntChunkHandler handler,
+                                                 final int size) throws NullException, SequentialIterationException {
+        Validator.notNull(handler, "The handler");
+        if (size <= 0) throw new SequentialIterationException("Illegal chunk size: " + size);
+        final @NotNull var lock = readLock();
+        try {
+            lock.lockInterruptibly();
+            final @NotNull var storage = open();
+            final var buffer = new int[Math.min(size, this.size)];
+            var offset = 0;
+            while (offset < this.size) {
+                final var length = Math.min(size, this.size - offset);
+                storage.read(offset, buffer, 0, length);
+                handler.handle(buffer, 0, length);
+                offset += length;
+            }
+            return this;
+        } catch (final Throwable failure) {
+            throw new SequentialIterationException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain IntMutableIterator итератор} текущего списка в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return {@linkplain IntMutableIterator Итератор} текущего списка в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull IntMutableIterator iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException {
+        Validator.notNull(direction, "The direction");
+        return new OffHeapIterator(direction == SequentialIterationDirection.FORWARD);
+    }
+
+    /**
+     * Устанавливает параметр генерации исключений итераторов без трассировки стека. Действует на итераторы, созданные
+     * после установки. Возвращает текущий список.
+     *
+     * @param stackless параметр генерации исключений итераторов без трассировки стека.
+     *
+     * @return Текущий список.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("_ -> this")
+    public @NotNull OffHeapIntList stackless(final boolean stackless) {
+        super.stackless(stackless);
+        return this;
+    }
+
+    /**
+     * Возвращает текущий размер.
+     *
+     * @return Текущий размер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public @Range(from = 0, to = Integer.MAX_VALUE) int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает параметр закрытия текущего списка.
+     *
+     * @return Параметр закрытия текущего списка.
+     *
+     * @since 1.0.0-RC1
+     */
+    public boolean closed() {
+        return storage == null;
+    }
+
+    /**
+     * Закрывает текущий список под {@linkplain #lock() инструментом для управления доступом}, освобождая память
+     * элементов и очищая его. Повторное закрытие ничего не делает. Созданные ранее итераторы после закрытия не
+     * содержат элементов.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public void close() throws CollectionException {
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            final var storage = this.storage;
+            if (storage == null) return;
+            this.storage = null;
+            size = 0;
+            storage.close();
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Если текущий список не закрыт, возвращает хранилище элементов, в противном случае генерирует
+     * {@linkplain CollectionException исключение коллекции} (закрытого списка).
+     *
+     * @return Хранилище элементов.
+     *
+     * @throws CollectionException исключение коллекции (закрытого списка).
+     * @since 1.0.0-RC1
+     */
+    private @NotNull OffHeapIntStorage open() throws CollectionException {
+        final var storage = this.storage;
+        if (storage == null) throw new CollectionException("Closed list");
+        return storage;
+    }
+
+    /**
+     * Вставляет переданный элемент по переданному индексу, сдвигая последующие элементы.
+     *
+     * @param index индекс.
+     * @param element элемент.
+     *
+     * @throws CollectionException исключение коллекции (превышения максимальной вместимости).
+     * @since 1.0.0-RC1
+     */
+    private void insert(final int index, final int element) throws CollectionException {
+        var storage = open();
+        if (size == storage.capacity()) storage = grow(storage);
+        storage.move(index, index + 1, size - index);
+        storage.set(index, element);
+        size++;
+    }
+
+    /**
+     * Удаляет элемент по переданному индексу, сдвигая последующие элементы.
+     *
+     * @param index индекс.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void remove(final int index) {
+        storage.move(index + 1, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Увеличивает вместимость переданного хранилища элементов в полтора раза, копируя элементы в новое хранилище и
+     * закрывая переданное. Возвращает новое хранилище.
+     *
+     * @param storage хранилище элементов.
+     *
+     * @return Новое хранилище элементов.
+     *
+     * @throws CollectionException исключение коллекции (превышения максимальной вместимости).
+     * @since 1.0.0-RC1
+     */
+    private @NotNull OffHeapIntStorage grow(final @NotNull OffHeapIntStorage storage) throws CollectionException {
+        final var capacity = storage.capacity();
+        final var max = OffHeapIntStorage.maxCapacity();
+        if (capacity == max) throw new CollectionException("Maximum capacity exceeded");
+        final var growth = Math.max(capacity >> 1, 1);
+        final var grown = new OffHeapIntStorage(capacity > max - growth ? max : capacity + growth);
+        storage.copy(grown, size);
+        storage.close();
+        return this.storage = grown;
+    }
+
+    /**
+     * Итератор {@linkplain OffHeapIntList изменяемого списка элементов типа {@code int} вне кучи}.
+     * <p>
+     * Хранит логический индекс в собственном направлении итерации: {@code -1} соответствует начальной позиции,
+     * {@linkplain #size размер} — конечной. Поэтому {@linkplain #first()}, {@linkplain #last()},
+     * {@linkplain #start()} и {@linkplain #end()} изменяют позицию за постоянное время.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class OffHeapIterator extends IntAbstractMutableIterator {
+
+        /**
+         * Параметр прямого направления итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        private final boolean forward;
+
+        /**
+         * Логический индекс текущей позиции.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int index = -1;
+
+        /**
+         * Кэшированный элемент.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int cached;
+
+        /**
+         * Параметр существования кэшированного элемента.
+         *
+         * @since 1.0.0-RC1
+         */
+        private boolean hasCached;
+
+        /**
+         * Создаёт итератор на основе переданного параметра прямого направления итерации.
+         *
+         * @param forward параметр прямого направления итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("_ -> new")
+        private OffHeapIterator(final boolean forward) {
+            super(OffHeapIntList.this.lock(), OffHeapIntList.this.readLock(), OffHeapIntList.this.stackless());
+            this.forward = forward;
+        }
+
+        @Override
+        public int current() throws IteratorElementGettingException {
+            if (!hasCurrent()) throw IteratorElementGettingException.create(stackless());
+            return storage.get(physical(index));
+        }
+
+        @Override
+        public int cached() throws IteratorElementGettingException {
+            if (!hasCached) throw IteratorElementGettingException.create(stackless());
+            return cached;
+        }
+
+        @Override
+        @Contract("_ -> this")
+        public @NotNull IntMutableIterator cache(final int element) {
+            cached = element;
+            hasCached = true;
+            return this;
+        }
+
+        @Override
+        @Contract("_ -> this")
+        public @NotNull IntMutableIterator change(final int element) throws IteratorElementChangingException {
+            if (!hasCurrent()) throw IteratorElementChangingException.create(stackless());
+            storage.set(physical(index), element);
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator delete() throws IteratorElementDeletingException {
+            if (!hasCurrent()) throw IteratorElementDeletingException.create(stackless());
+            remove(physical(index--));
+            return this;
+        }
+
+        @Override
+        @Contract("_ -> this")
+        public @NotNull IntMutableIterator paste(final int element) throws IteratorElementPastingException {
+            if (!hasCurrent()) throw IteratorElementPastingException.create(stackless());
+            try {
+                final var physical = physical(index);
+                insert(forward ? physical : physical + 1, element);
+                index++;
+                return this;
+            } catch (final @NotNull CollectionException failure) {
+                throw IteratorElementPastingException.create(failure, stackless());
+            }
+        }
+
+        /**
+         * Если {@linkplain #hasCurrent() параметр существования текущего элемента} и
+         * {@linkplain #hasCached() параметр существования кэшированного элемента} истинные, меняет местами текущий
+         * элемент с кэшированным без сдвига элементов, в противном случае генерирует
+         * {@linkplain IteratorElementSwappingException исключение смены местами элементов итератора}. Возвращает
+         * текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorElementSwappingException исключение смены местами элементов итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator swap() throws IteratorElementSwappingException, IteratorAuxiliaryException {
+            final @NotNull var lock = lock();
+            try {
+                lock.lockInterruptibly();
+                if (!hasCurrent() || !hasCached) throw IteratorElementSwappingException.create(stackless());
+                final @NotNull var storage = OffHeapIntList.this.storage;
+                final var physical = physical(index);
+                final var element = storage.get(physical);
+                storage.set(physical, cached);
+                cached = element;
+                return this;
+            } catch (final @NotNull IteratorElementSwappingException failure) {
+                throw failure;
+            } catch (final @NotNull Exception failure) {
+                throw new IteratorAuxiliaryException(failure);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Если {@linkplain #hasCurrent() параметр существования текущего элемента} истинный, кэширует и удаляет текущий
+         * элемент за один захват {@linkplain #lock() инструмента для управления доступом}, в противном случае
+         * генерирует {@linkplain IteratorElementCuttingException исключение вырезания элемента итератора}. Возвращает
+         * текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorElementCuttingException исключение вырезания элемента итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator cut() throws IteratorElementCuttingException, IteratorAuxiliaryException {
+            final @NotNull var lock = lock();
+            try {
+                lock.lockInterruptibly();
+                if (!hasCurrent()) throw IteratorElementCuttingException.create(stackless());
+                final var physical = physical(index--);
+                cached = storage.get(physical);
+                hasCached = true;
+                remove(physical);
+                return this;
+            } catch (final @NotNull IteratorElementCuttingException failure) {
+                throw failure;
+            } catch (final @NotNull Exception failure) {
+                throw new IteratorAuxiliaryException(failure);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator next() throws IteratorPositionChangingException {
+            if (!hasNext()) throw IteratorPositionChangingException.create(stackless());
+            index++;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator previous() throws IteratorPositionChangingException {
+            if (!hasPrevious()) throw IteratorPositionChangingException.create(stackless());
+            index = Math.min(index, size) - 1;
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #hasFirst() параметр существования первого элемента} истинный, изменяет текущую позицию
+         * итератора на первую за постоянное время, в противном случае генерирует
+         * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+         * итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator first() throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            return seek(true, false);
+        }
+
+        /**
+         * Если {@linkplain #hasLast() параметр существования последнего элемента} истинный, изменяет текущую позицию
+         * итератора на последнюю за постоянное время, в противном случае генерирует
+         * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+         * итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator last() throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            return seek(true, true);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на начальную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator start() throws IteratorAuxiliaryException {
+            return seek(false, false);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на конечную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator end() throws IteratorAuxiliaryException {
+            return seek(false, true);
+        }
+
+        @Override
+        public boolean hasCurrent() {
+            return index >= 0 && index < size;
+        }
+
+        @Override
+        public boolean hasCached() {
+            return hasCached;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index + 1 < size;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return Math.min(index, size) > 0;
+        }
+
+        @Override
+        public boolean hasFirst() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean hasCentral() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean hasLast() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean starting() {
+            return index < 0;
+        }
+
+        @Override
+        public boolean iterating() {
+            return hasCurrent();
+        }
+
+        @Override
+        public boolean ending() {
+            return index >= 0 && index >= size;
+        }
+
+        /**
+         * Изменяет текущую позицию итератора под {@linkplain #readLock() инструментом для управления доступом на чтение}
+         * на первый или последний элемент, либо на начальную или конечную позицию.
+         *
+         * @param element параметр позиции элемента (первого или последнего), а не начальной или конечной позиции.
+         * @param tail параметр позиции в конце (последнего элемента или конечной позиции).
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора (отсутствия элементов).
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        private @NotNull IntMutableIterator seek(final boolean element,
+                                                 final boolean tail) throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            final @NotNull var lock = readLock();
+            try {
+                lock.lockInterruptibly();
+                if (element && size == 0) throw IteratorPositionChangingException.create(stackless());
+                index = element ? tail ? size - 1 : 0 : tail ? size : -1;
+                return this;
+            } catch (final @NotNull IteratorPositionChangingException failure) {
+                throw failure;
+            } catch (final @NotNull Exception failure) {
+                throw new IteratorAuxiliaryException(failure);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Возвращает физический индекс по переданному логическому индексу.
+         *
+         * @param logical логический индекс.
+         *
+         * @return Физический индекс.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int physical(final int logical) {
+            return forward ? logical : size - 1 - logical;
+        }
+
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.list;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Хранилище элементов типа {@code int} вне кучи для {@linkplain OffHeapIntList списка элементов типа {@code int} вне
+ * кучи}. Эта версия хранит элементы в {@linkplain ByteBuffer#allocateDirect(int) прямом буфере} и используется на
+ * платформах до Java 22; на Java 22 и выше её заменяет версия на основе {@code MemorySegment} из раздела
+ * {@code META-INF/versions/22} многоверсионного архива.
+ * <p>
+ * {@linkplain #close() Закрытие} сразу освобождает память прямого буфера его очистителем, если платформа
+ * предоставляет {@code sun.misc.Unsafe#invokeCleaner}, в противном случае память освобождается после сборки буфера.
+ *
+ * @since 1.0.0-RC1
+ */
+final class OffHeapIntStorage {
+
+    /**
+     * Максимальная вместимость, ограниченная размером {@linkplain ByteBuffer прямого буфера}.
+     *
+     * @see #maxCapacity()
+     * @since 1.0.0-RC1
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / Integer.BYTES;
+
+    /**
+     * Очиститель {@linkplain ByteBuffer прямых буферов} или нулевой объект, если платформа его не предоставляет.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final @Nullable MethodHandle CLEANER = cleaner();
+
+    /**
+     * {@linkplain ByteBuffer Прямой буфер} памяти элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull ByteBuffer memory;
+
+    /**
+     * {@linkplain IntBuffer Буфер элементов}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull IntBuffer buffer;
+
+    /**
+     * Создаёт хранилище на основе переданной вместимости.
+     *
+     * @param capacity вместимость.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    OffHeapIntStorage(final int capacity) {
+        memory = ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder());
+        buffer = memory.asIntBuffer();
+    }
+
+    /**
+     * Возвращает максимальную вместимость. Значение возвращается методом, а не константой, чтобы вызывающий код
+     * использовал значение версии хранилища, выбранной во время выполнения.
+     *
+     * @return Максимальная вместимость.
+     *
+     * @since 1.0.0-RC1
+     */
+    static int maxCapacity() {
+        return MAX_CAPACITY;
+    }
+
+    /**
+     * Возвращает вместимость.
+     *
+     * @return Вместимость.
+     *
+     * @since 1.0.0-RC1
+     */
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Возвращает элемент по переданному индексу.
+     *
+     * @param index индекс.
+     *
+     * @return Элемент по переданному индексу.
+     *
+     * @since 1.0.0-RC1
+     */
+    int get(final int index) {
+        return buffer.get(index);
+    }
+
+    /**
+     * Устанавливает переданный элемент по переданному индексу.
+     *
+     * @param index индекс.
+     * @param element элемент.
+     *
+     * @since 1.0.0-RC1
+     */
+    void set(final int index, final int element) {
+        buffer.put(index, element);
+    }
+
+    /**
+     * Копирует переданное количество элементов, начиная с переданного индекса, в переданный массив, начиная с
+     * переданного смещения.
+     *
+     * @param index индекс.
+     * @param elements массив.
+     * @param offset смещение.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    void read(final int index, final int @NotNull [] elements, final int offset, final int length) {
+        buffer.get(index, elements, offset, length);
+    }
+
+    /**
+     * Перемещает переданное количество элементов с переданного индекса на переданный индекс. Диапазоны могут
+     * пересекаться.
+     *
+     * @param from исходный индекс.
+     * @param to целевой индекс.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    void move(final int from, final int to, final int length) {
+        if (from > to) for (var index = 0; index < length; index++) buffer.put(to + index, buffer.get(from + index));
+        else for (var index = length - 1; index >= 0; index--) buffer.put(to + index, buffer.get(from + index));
+    }
+
+    /**
+     * Копирует переданное количество первых элементов в переданное хранилище.
+     *
+     * @param target хранилище.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    void copy(final @NotNull OffHeapIntStorage target, final int length) {
+        target.buffer.put(0, buffer, 0, length);
+    }
+
+    /**
+     * Закрывает хранилище, освобождая память {@linkplain ByteBuffer прямого буфера} его очистителем. Если очиститель
+     * недоступен, память освобождается после сборки буфера. После закрытия хранилище использовать нельзя.
+     *
+     * @since 1.0.0-RC1
+     */
+    void close() {
+        final var cleaner = CLEANER;
+        if (cleaner == null) return;
+        try {
+            cleaner.invokeExact(memory);
+        } catch (final Throwable ignored) {
+        }
+    }
+
+    /**
+     * Находит {@code sun.misc.Unsafe#invokeCleaner} и возвращает его, привязанным к экземпляру {@code Unsafe}, или
+     * нулевой объект, если он недоступен.
+     *
+     * @return Очиститель {@linkplain ByteBuffer прямых буферов} или нулевой объект.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static @Nullable MethodHandle cleaner() {
+        try {
+            final var type = Class.forName("sun.misc.Unsafe");
+            final var field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            final var method = MethodType.methodType(void.class, ByteBuffer.class);
+            return MethodHandles.lookup().findVirtual(type, "invokeCleaner", method).bindTo(field.get(null));
+        } catch (final @NotNull Exception | LinkageError ignored) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.lock;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Пустой {@linkplain Lock инструмент для управления доступом}, не выполняющий никаких действий.
+ * <p>
+ * Предназначен для коллекций, доступ к которым ограничен одним потоком: его методы пустые, поэтому после встраивания
+ * JIT-компилятор полностью исключает их вызовы вместе с атомарными операциями.
+ *
+ * @since 1.0.0-RC1
+ */
+public final class NoOpLock implements Lock {
+
+    /**
+     * Единственный экземпляр.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final @NotNull NoOpLock INSTANCE = new NoOpLock();
+
+    /**
+     * Создаёт {@linkplain NoOpLock пустой инструмент для управления доступом}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    private NoOpLock() {
+    }
+
+    /**
+     * Ничего не делает.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public void lock() {
+    }
+
+    /**
+     * Ничего не делает, в том числе не проверяет прерывание текущего потока.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public void lockInterruptibly() {
+    }
+
+    /**
+     * Ничего не делает.
+     *
+     * @return Истина.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> true")
+    public boolean tryLock() {
+        return true;
+    }
+
+    /**
+     * Ничего не делает.
+     *
+     * @param time время ожидания.
+     * @param unit единица измерения времени ожидания.
+     *
+     * @return Истина.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("_, _ -> true")
+    public boolean tryLock(final long time, final @NotNull TimeUnit unit) {
+        return true;
+    }
+
+    /**
+     * Ничего не делает.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public void unlock() {
+    }
+
+    /**
+     * Генерирует {@linkplain UnsupportedOperationException исключение неподдерживаемой операции}, поскольку условие
+     * ожидания без реальной блокировки не имеет смысла.
+     *
+     * @return Ничего.
+     *
+     * @throws UnsupportedOperationException исключение неподдерживаемой операции.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> fail")
+    public @NotNull Condition newCondition() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Conditions are not supported by the no-op lock");
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.map;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+/**
+ * Неизменяемая запись отображения, состоящая из ключа и значения. Записи равны, если равны их ключи и значения.
+ *
+ * @param <K> тип ключа.
+ * @param <V> тип значения.
+ *
+ * @since 1.0.0-RC1
+ */
+public final class Entry<K, V> {
+
+    /**
+     * Ключ.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull K key;
+
+    /**
+     * Значение.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull V value;
+
+    /**
+     * Создаёт {@linkplain Entry запись} на основе переданных ключа и значения.
+     *
+     * @param key ключ.
+     * @param value значение.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного ключа или значения).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null -> new; _, _ -> fail")
+    public Entry(final @NotNull K key, final @NotNull V value) throws NullException {
+        this.key = Validator.notNull(key, "The key");
+        this.value = Validator.notNull(value, "The value");
+    }
+
+    /**
+     * Возвращает ключ.
+     *
+     * @return Ключ.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> const")
+    public @NotNull K key() {
+        return key;
+    }
+
+    /**
+     * Возвращает значение.
+     *
+     * @return Значение.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> const")
+    public @NotNull V value() {
+        return value;
+    }
+
+    /**
+     * Возвращает параметр равенства текущей записи переданному объекту.
+     *
+     * @param object объект.
+     *
+     * @return Параметр равенства.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public boolean equals(final @Nullable Object object) {
+        return this == object || object instanceof final Entry<?, ?> entry && key.equals(entry.key)
+                                 && value.equals(entry.value);
+    }
+
+    /**
+     * Возвращает хеш-код, вычисленный на основе ключа и значения.
+     *
+     * @return Хеш-код.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public int hashCode() {
+        return key.hashCode() ^ value.hashCode();
+    }
+
+}
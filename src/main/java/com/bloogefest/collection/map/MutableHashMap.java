@@ -0,0 +1,1064 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.map;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.annotation.analysis.Range;
+import com.bloogefest.collection.AbstractMutableCollection;
+import com.bloogefest.collection.CollectionException;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.iterator.AbstractMutableIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorAuxiliaryException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementChangingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementDeletingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementGettingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementPastingException;
+import com.bloogefest.collection.iteration.iterator.IteratorPositionChangingException;
+import com.bloogefest.collection.iteration.iterator.MutableIterator;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Изменяемое отображение на основе хеш-таблицы с управляющими байтами.
+ * <p>
+ * Каждой ячейке таблицы соответствует управляющий байт: пустой, удалённый или заполненный, хранящий младшие 7 бит
+ * хеша ключа. Управляющие байты упакованы по 8 в {@code long}, поэтому пробирование проверяет группу из 8 ячеек
+ * несколькими арифметическими операциями над одним словом и сравнивает ключи только в ячейках с совпавшим байтом.
+ * Ключи и значения хранятся в параллельных плоских массивах без промежуточных узлов.
+ * <p>
+ * Записи отображения доступны как элементы {@linkplain MutableIterator итератора}:
+ * {@linkplain MutableIterator#delete() удаление} через итератор удаляет запись, а
+ * {@linkplain MutableIterator#change(Object) изменение} на запись с тем же ключом заменяет значение. Удаление не
+ * перемещает записи, поэтому не нарушает обход. Порядок итерации не определён и не зависит от
+ * {@linkplain SequentialIterationDirection направления}. Добавление записей во время итерации может перестроить
+ * таблицу, после чего итератор становится недействительным.
+ * <p>
+ * Изменяющие операции отображения захватывают {@linkplain #lock() инструмент для управления доступом}, а читающие —
+ * {@linkplain #readLock() инструмент для управления доступом на чтение}. Если отображение создано на основе
+ * {@linkplain StampedLock штампованного инструмента для управления доступом}, {@linkplain #get(Object) получение}
+ * значения сначала выполняется оптимистично.
+ *
+ * @param <K> тип ключа.
+ * @param <V> тип значения.
+ *
+ * @since 1.0.0-RC1
+ */
+public class MutableHashMap<K, V> extends AbstractMutableCollection<Entry<K, V>> {
+
+    /**
+     * Ожидаемое количество записей по умолчанию.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Коэффициент заполнения по умолчанию.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final float DEFAULT_LOAD_FACTOR = 0.875f;
+
+    /**
+     * Максимальный размер таблицы.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int MAX_TABLE_SIZE = 1 << 30;
+
+    /**
+     * Количество ячеек в группе.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final int GROUP = 8;
+
+    /**
+     * Управляющий байт пустой ячейки.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final long EMPTY = 0x80L;
+
+    /**
+     * Управляющий байт удалённой ячейки.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final long DELETED = 0xFEL;
+
+    /**
+     * Группа пустых ячеек.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final long EMPTY_GROUP = 0x8080808080808080L;
+
+    /**
+     * Младшие биты каждого байта.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final long LSB = 0x0101010101010101L;
+
+    /**
+     * Старшие биты каждого байта.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final long MSB = 0x8080808080808080L;
+
+    /**
+     * Коэффициент заполнения.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final float loadFactor;
+
+    /**
+     * Управляющие байты, упакованные по {@linkplain #GROUP группам}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private long @NotNull [] control;
+
+    /**
+     * Ключи.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @Nullable Object @NotNull [] keys;
+
+    /**
+     * Значения.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @Nullable Object @NotNull [] values;
+
+    /**
+     * Количество записей, которое можно добавить в пустые ячейки до перестроения таблицы.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int growth;
+
+    /**
+     * Текущий размер.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int size;
+
+    /**
+     * Создаёт {@linkplain MutableHashMap изменяемое отображение на основе хеш-таблицы} на основе
+     * {@linkplain #DEFAULT_CAPACITY ожидаемого количества записей}, {@linkplain #DEFAULT_LOAD_FACTOR коэффициента
+     * заполнения по умолчанию} и {@linkplain ReentrantLock инструмента для управления доступом}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    public MutableHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, new ReentrantLock());
+    }
+
+    /**
+     * Создаёт {@linkplain MutableHashMap изменяемое отображение на основе хеш-таблицы} на основе переданного
+     * ожидаемого количества записей, {@linkplain #DEFAULT_LOAD_FACTOR коэффициента заполнения по умолчанию} и
+     * {@linkplain ReentrantLock инструмента для управления доступом}.
+     *
+     * @param capacity ожидаемое количество записей.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого ожидаемого количества записей).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    public MutableHashMap(final int capacity) throws CollectionException {
+        this(capacity, DEFAULT_LOAD_FACTOR, new ReentrantLock());
+    }
+
+    /**
+     * Создаёт {@linkplain MutableHashMap изменяемое отображение на основе хеш-таблицы} на основе переданных ожидаемого
+     * количества записей и коэффициента заполнения и {@linkplain ReentrantLock инструмента для управления доступом}.
+     *
+     * @param capacity ожидаемое количество записей.
+     * @param loadFactor коэффициент заполнения (больше нуля и меньше единицы).
+     *
+     * @throws CollectionException исключение коллекции (недопустимого ожидаемого количества записей или коэффициента
+     * заполнения).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    public MutableHashMap(final int capacity, final float loadFactor) throws CollectionException {
+        this(capacity, loadFactor, new ReentrantLock());
+    }
+
+    /**
+     * Создаёт {@linkplain MutableHashMap изменяемое отображение на основе хеш-таблицы} на основе
+     * {@linkplain #DEFAULT_CAPACITY ожидаемого количества записей} и {@linkplain #DEFAULT_LOAD_FACTOR коэффициента
+     * заполнения по умолчанию} и переданного {@linkplain Lock инструмента для управления доступом}.
+     *
+     * @param lock {@linkplain Lock инструмент для управления доступом}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain Lock инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    public MutableHashMap(final @NotNull Lock lock) throws NullException {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, lock);
+    }
+
+    /**
+     * Создаёт {@linkplain MutableHashMap изменяемое отображение на основе хеш-таблицы} на основе переданных ожидаемого
+     * количества записей, коэффициента заполнения и {@linkplain Lock инструмента для управления доступом}.
+     *
+     * @param capacity ожидаемое количество записей.
+     * @param loadFactor коэффициент заполнения (больше нуля и меньше единицы).
+     * @param lock {@linkplain Lock инструмент для управления доступом}.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого ожидаемого количества записей или коэффициента
+     * заполнения).
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain Lock инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _, !null -> new; _, _, _ -> fail")
+    public MutableHashMap(final int capacity, final float loadFactor,
+                          final @NotNull Lock lock) throws CollectionException, NullException {
+        super(lock, false);
+        this.loadFactor = loadFactor(loadFactor);
+        allocate(size(capacity, loadFactor));
+    }
+
+    /**
+     * Создаёт {@linkplain MutableHashMap изменяемое отображение на основе хеш-таблицы} на основе переданных ожидаемого
+     * количества записей, коэффициента заполнения и
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}.
+     *
+     * @param capacity ожидаемое количество записей.
+     * @param loadFactor коэффициент заполнения (больше нуля и меньше единицы).
+     * @param lock {@linkplain ReadWriteLock инструмент для управления доступом на чтение и запись}.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого ожидаемого количества записей или коэффициента
+     * заполнения).
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _, !null -> new; _, _, _ -> fail")
+    public MutableHashMap(final int capacity, final float loadFactor,
+                          final @NotNull ReadWriteLock lock) throws CollectionException, NullException {
+        super(lock, false);
+        this.loadFactor = loadFactor(loadFactor);
+        allocate(size(capacity, loadFactor));
+    }
+
+    /**
+     * Создаёт {@linkplain MutableHashMap изменяемое отображение на основе хеш-таблицы} на основе переданных ожидаемого
+     * количества записей, коэффициента заполнения и
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}. Получение значений такого
+     * отображения выполняется оптимистично.
+     *
+     * @param capacity ожидаемое количество записей.
+     * @param loadFactor коэффициент заполнения (больше нуля и меньше единицы).
+     * @param lock {@linkplain StampedLock штампованный инструмент для управления доступом}.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого ожидаемого количества записей или коэффициента
+     * заполнения).
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _, !null -> new; _, _, _ -> fail")
+    public MutableHashMap(final int capacity, final float loadFactor,
+                          final @NotNull StampedLock lock) throws CollectionException, NullException {
+        super(lock, false);
+        this.loadFactor = loadFactor(loadFactor);
+        allocate(size(capacity, loadFactor));
+    }
+
+    /**
+     * Связывает переданное значение с переданным ключом, заменяя предыдущее значение. Возвращает текущее отображение.
+     *
+     * @param key ключ.
+     * @param value значение.
+     *
+     * @return Текущее отображение.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного ключа или значения).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, !null -> this; _, _ -> fail")
+    public @NotNull MutableHashMap<K, V> put(final @NotNull K key,
+                                             final @NotNull V value) throws NullException, CollectionException {
+        Validator.notNull(key, "The key");
+        Validator.notNull(value, "The value");
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            final var hash = hash(key);
+            final var slot = find(key, hash);
+            if (slot >= 0) values[slot] = value;
+            else insert(key, value, hash);
+            return this;
+        } catch (final @NotNull CollectionException failure) {
+            throw failure;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает значение, связанное с переданным ключом, или нулевой объект, если ключ отсутствует.
+     *
+     * @param key ключ.
+     *
+     * @return Значение или нулевой объект.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного ключа).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(final @NotNull K key) throws NullException, CollectionException {
+        Validator.notNull(key, "The key");
+        final var hash = hash(key);
+        final var stamped = stamped();
+        if (stamped != null) {
+            final var stamp = stamped.tryOptimisticRead();
+            final var control = this.control;
+            final var keys = this.keys;
+            final var values = this.values;
+            if (keys.length == control.length * GROUP && values.length == keys.length) {
+                final var slot = find(control, keys, key, hash);
+                final var value = slot >= 0 ? values[slot] : null;
+                if (stamped.validate(stamp)) return (V) value;
+            }
+        }
+        final @NotNull var lock = readLock();
+        try {
+            lock.lockInterruptibly();
+            final var slot = find(key, hash);
+            return slot >= 0 ? (V) values[slot] : null;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает параметр присутствия переданного ключа в текущем отображении.
+     *
+     * @param key ключ.
+     *
+     * @return Параметр присутствия переданного ключа.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного ключа).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    public boolean containsKey(final @NotNull K key) throws NullException, CollectionException {
+        return get(key) != null;
+    }
+
+    /**
+     * Возвращает параметр присутствия переданной записи в текущем отображении: ключ записи должен присутствовать, а
+     * его значение — быть равным значению записи.
+     *
+     * @param entry запись.
+     *
+     * @return Параметр присутствия переданной записи.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public boolean contains(final @Nullable Entry<K, V> entry) throws CollectionException {
+        return entry != null && entry.value().equals(get(entry.key()));
+    }
+
+    /**
+     * Если переданный ключ присутствует, удаляет его запись из текущего отображения. Возвращает текущее отображение.
+     *
+     * @param key ключ.
+     *
+     * @return Текущее отображение.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного ключа).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull MutableHashMap<K, V> remove(final @NotNull K key) throws NullException, CollectionException {
+        Validator.notNull(key, "The key");
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            final var slot = find(key, hash(key));
+            if (slot >= 0) erase(slot);
+            return this;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain MutableIterator итератор} записей текущего отображения. Порядок итерации не
+     * зависит от переданного {@linkplain SequentialIterationDirection направления последовательной итерации}.
+     *
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return {@linkplain MutableIterator Итератор} записей текущего отображения.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull MutableIterator<Entry<K, V>> iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException {
+        Validator.notNull(direction, "The direction");
+        return new EntryIterator();
+    }
+
+    /**
+     * Возвращает текущий размер.
+     *
+     * @return Текущий размер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public @Range(from = 0, to = Integer.MAX_VALUE) int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает переданный коэффициент заполнения, если он больше нуля и меньше единицы, в противном случае генерирует
+     * {@linkplain CollectionException исключение коллекции} (недопустимого коэффициента заполнения).
+     *
+     * @param loadFactor коэффициент заполнения.
+     *
+     * @return Переданный коэффициент заполнения.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого коэффициента заполнения).
+     * @since 1.0.0-RC1
+     */
+    private static float loadFactor(final float loadFactor) throws CollectionException {
+        if (!(loadFactor > 0f && loadFactor < 1f)) throw new CollectionException("Illegal load factor: " + loadFactor);
+        return loadFactor;
+    }
+
+    /**
+     * Возвращает размер таблицы (степень двойки, не меньшая {@linkplain #GROUP размера группы}), достаточный для
+     * переданного ожидаемого количества записей при переданном коэффициенте заполнения.
+     *
+     * @param capacity ожидаемое количество записей.
+     * @param loadFactor коэффициент заполнения.
+     *
+     * @return Размер таблицы.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого ожидаемого количества записей).
+     * @since 1.0.0-RC1
+     */
+    private static int size(final int capacity, final float loadFactor) throws CollectionException {
+        final var required = capacity < 0 ? -1L : (long) Math.ceil(capacity / (double) loadFactor);
+        if (required < 0L || required > MAX_TABLE_SIZE) throw new CollectionException("Illegal capacity: " + capacity);
+        return Math.max(Integer.highestOneBit((int) Math.max(required - 1L, 1L)) << 1, GROUP);
+    }
+
+    /**
+     * Возвращает перемешанный хеш переданного ключа. Младшие 7 бит становятся управляющим байтом, остальные
+     * определяют начальную группу.
+     *
+     * @param key ключ.
+     *
+     * @return Перемешанный хеш.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static int hash(final @NotNull Object key) {
+        final var hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Возвращает маску байтов переданной группы, равных переданному управляющему байту. Маска может содержать ложные
+     * совпадения в байтах, следующих за истинным, поэтому ключи совпавших ячеек необходимо сравнивать.
+     *
+     * @param group группа.
+     * @param tag управляющий байт заполненной ячейки.
+     *
+     * @return Маска совпавших байтов (старший бит каждого байта).
+     *
+     * @since 1.0.0-RC1
+     */
+    private static long match(final long group, final long tag) {
+        final var difference = group ^ LSB * tag;
+        return difference - LSB & ~difference & MSB;
+    }
+
+    /**
+     * Возвращает маску пустых байтов переданной группы.
+     *
+     * @param group группа.
+     *
+     * @return Маска пустых байтов (старший бит каждого байта).
+     *
+     * @since 1.0.0-RC1
+     */
+    private static long matchEmpty(final long group) {
+        return group & ~(group << 6) & MSB;
+    }
+
+    /**
+     * Возвращает маску пустых и удалённых байтов переданной группы.
+     *
+     * @param group группа.
+     *
+     * @return Маска пустых и удалённых байтов (старший бит каждого байта).
+     *
+     * @since 1.0.0-RC1
+     */
+    private static long matchFree(final long group) {
+        return group & MSB;
+    }
+
+    /**
+     * Возвращает позицию в группе младшего байта переданной маски.
+     *
+     * @param mask маска.
+     *
+     * @return Позиция в группе.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static int lowest(final long mask) {
+        return Long.numberOfTrailingZeros(mask) >>> 3;
+    }
+
+    /**
+     * Возвращает позицию переданного ключа в переданных таблицах или {@code -1}, если ключ отсутствует. Пробирование
+     * проходит группы по треугольной последовательности и ограничено их количеством, поэтому завершается даже на
+     * несогласованных таблицах при оптимистичном чтении.
+     *
+     * @param control управляющие байты.
+     * @param keys ключи.
+     * @param key ключ.
+     * @param hash {@linkplain #hash(Object) перемешанный хеш} ключа.
+     *
+     * @return Позиция ключа или {@code -1}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static int find(final long @NotNull [] control, final @Nullable Object @NotNull [] keys,
+                            final @NotNull Object key, final int hash) {
+        final var mask = control.length - 1;
+        final long tag = hash & 0x7F;
+        var index = hash >>> 7 & mask;
+        for (var step = 1; step <= control.length; index = index + step++ & mask) {
+            final var group = control[index];
+            for (var match = match(group, tag); match != 0L; match &= match - 1L) {
+                final var slot = index * GROUP + lowest(match);
+                if (key.equals(keys[slot])) return slot;
+            }
+            if (matchEmpty(group) != 0L) return -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает позицию переданного ключа в таблице или {@code -1}, если ключ отсутствует.
+     *
+     * @param key ключ.
+     * @param hash {@linkplain #hash(Object) перемешанный хеш} ключа.
+     *
+     * @return Позиция ключа или {@code -1}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int find(final @NotNull Object key, final int hash) {
+        return find(control, keys, key, hash);
+    }
+
+    /**
+     * Возвращает управляющий байт переданной ячейки.
+     *
+     * @param slot ячейка.
+     *
+     * @return Управляющий байт.
+     *
+     * @since 1.0.0-RC1
+     */
+    private long tag(final int slot) {
+        return control[slot / GROUP] >>> (slot % GROUP) * Byte.SIZE & 0xFFL;
+    }
+
+    /**
+     * Устанавливает управляющий байт переданной ячейки.
+     *
+     * @param slot ячейка.
+     * @param tag управляющий байт.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void tag(final int slot, final long tag) {
+        final var shift = (slot % GROUP) * Byte.SIZE;
+        final var index = slot / GROUP;
+        control[index] = control[index] & ~(0xFFL << shift) | tag << shift;
+    }
+
+    /**
+     * Создаёт таблицу переданного размера и вычисляет {@linkplain #growth запас}.
+     *
+     * @param length размер таблицы.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void allocate(final int length) {
+        final var control = new long[length / GROUP];
+        Arrays.fill(control, EMPTY_GROUP);
+        this.control = control;
+        keys = new Object[length];
+        values = new Object[length];
+        growth = limit(length);
+    }
+
+    /**
+     * Возвращает допустимое количество записей в таблице переданного размера. Оно не меньше единицы и меньше размера
+     * таблицы, поэтому в таблице всегда остаётся хотя бы одна пустая ячейка, и пробирование завершается.
+     *
+     * @param length размер таблицы.
+     *
+     * @return Допустимое количество записей.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int limit(final int length) {
+        return Math.max(Math.min((int) (length * (double) loadFactor), length - 1), 1);
+    }
+
+    /**
+     * Вставляет отсутствующую запись в первую пустую или удалённую ячейку её последовательности пробирования. Если
+     * ячейка пустая и {@linkplain #growth запас} исчерпан, предварительно перестраивает таблицу.
+     *
+     * @param key ключ.
+     * @param value значение.
+     * @param hash {@linkplain #hash(Object) перемешанный хеш} ключа.
+     *
+     * @throws CollectionException исключение коллекции (превышения максимального размера таблицы).
+     * @since 1.0.0-RC1
+     */
+    private void insert(final @NotNull Object key, final @NotNull Object value,
+                        final int hash) throws CollectionException {
+        var slot = free(hash);
+        if (growth == 0 && tag(slot) == EMPTY) {
+            rehash();
+            slot = free(hash);
+        }
+        if (tag(slot) == EMPTY) growth--;
+        tag(slot, hash & 0x7F);
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    /**
+     * Возвращает первую пустую или удалённую ячейку последовательности пробирования переданного хеша.
+     *
+     * @param hash {@linkplain #hash(Object) перемешанный хеш}.
+     *
+     * @return Ячейка.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int free(final int hash) {
+        final var control = this.control;
+        final var mask = control.length - 1;
+        var index = hash >>> 7 & mask;
+        for (var step = 1; ; index = index + step++ & mask) {
+            final var free = matchFree(control[index]);
+            if (free != 0L) return index * GROUP + lowest(free);
+        }
+    }
+
+    /**
+     * Удаляет запись из переданной ячейки. Если группа ячейки содержит пустую ячейку, ни одно пробирование не
+     * продолжалось за эту группу, поэтому ячейка становится пустой, в противном случае — удалённой.
+     *
+     * @param slot ячейка.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void erase(final int slot) {
+        if (matchEmpty(control[slot / GROUP]) != 0L) {
+            tag(slot, EMPTY);
+            growth++;
+        } else tag(slot, DELETED);
+        keys[slot] = null;
+        values[slot] = null;
+        size--;
+    }
+
+    /**
+     * Перестраивает таблицу, освобождая удалённые ячейки. Если записи занимают больше половины допустимого заполнения,
+     * таблица увеличивается вдвое, пока в ней не появится место для новой записи.
+     *
+     * @throws CollectionException исключение коллекции (превышения максимального размера таблицы).
+     * @since 1.0.0-RC1
+     */
+    private void rehash() throws CollectionException {
+        final var keys = this.keys;
+        final var values = this.values;
+        var length = keys.length;
+        if (size > limit(length) / 2) do {
+            if (length == MAX_TABLE_SIZE) throw new CollectionException("Maximum capacity exceeded");
+            length <<= 1;
+        } while (limit(length) <= size);
+        allocate(length);
+        for (var slot = 0; slot < keys.length; slot++) {
+            final var key = keys[slot];
+            if (key == null) continue;
+            final var hash = hash(key);
+            final var free = free(hash);
+            tag(free, hash & 0x7F);
+            this.keys[free] = key;
+            this.values[free] = values[slot];
+            growth--;
+        }
+    }
+
+    /**
+     * Итератор записей {@linkplain MutableHashMap изменяемого отображения на основе хеш-таблицы}. Проходит ячейки
+     * таблицы по возрастанию, пропуская целые группы без записей.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class EntryIterator extends AbstractMutableIterator<Entry<K, V>> {
+
+        /**
+         * Текущая ячейка.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int slot = -1;
+
+        /**
+         * Кэшированная запись.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable Entry<K, V> cached;
+
+        /**
+         * Создаёт итератор в начальной позиции.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("-> new")
+        private EntryIterator() {
+            super(MutableHashMap.this.lock(), MutableHashMap.this.readLock(), false, MutableHashMap.this.stackless());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NotNull Entry<K, V> current() throws IteratorElementGettingException {
+            if (!hasCurrent()) throw IteratorElementGettingException.create(stackless());
+            return new Entry<>((K) keys[slot], (V) values[slot]);
+        }
+
+        @Override
+        public @NotNull Entry<K, V> cached() throws IteratorElementGettingException {
+            final var cached = this.cached;
+            if (cached == null) throw IteratorElementGettingException.create(stackless());
+            return cached;
+        }
+
+        @Override
+        @Contract("!null -> this; _ -> fail")
+        public @NotNull MutableIterator<Entry<K, V>> cache(final @NotNull Entry<K, V> element) throws NullException {
+            cached = Validator.notNull(element, "The element");
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #hasCurrent() параметр существования текущего элемента} истинный и ключ переданной записи
+         * равен ключу текущей, заменяет значение текущей записи значением переданной, в противном случае генерирует
+         * {@linkplain IteratorElementChangingException исключение изменения элемента итератора на другой}, поскольку
+         * позиция записи определяется хешем её ключа. Возвращает текущий итератор.
+         *
+         * @param element запись.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws NullException исключение проверки нулевого объекта (переданной записи).
+         * @throws IteratorElementChangingException исключение изменения элемента итератора на другой.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("!null -> this; _ -> fail")
+        public @NotNull MutableIterator<Entry<K, V>> change(
+                final @NotNull Entry<K, V> element) throws NullException, IteratorElementChangingException {
+            Validator.notNull(element, "The element");
+            if (!hasCurrent()) throw IteratorElementChangingException.create(stackless());
+            if (!element.key().equals(keys[slot]))
+                throw new IteratorElementChangingException("Hash map entries can only change their values in place");
+            values[slot] = element.value();
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<Entry<K, V>> delete() throws IteratorElementDeletingException {
+            if (!hasCurrent()) throw IteratorElementDeletingException.create(stackless());
+            erase(slot);
+            return this;
+        }
+
+        /**
+         * Генерирует {@linkplain IteratorElementPastingException исключение вставки элемента итератора}, поскольку
+         * позиция записи определяется хешем её ключа.
+         *
+         * @param element запись.
+         *
+         * @return Ничего.
+         *
+         * @throws IteratorElementPastingException исключение вставки элемента итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("_ -> fail")
+        public @NotNull MutableIterator<Entry<K, V>> paste(
+                final @Nullable Entry<K, V> element) throws IteratorElementPastingException {
+            throw new IteratorElementPastingException("Hash map entries cannot be pasted at a position");
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<Entry<K, V>> next() throws IteratorPositionChangingException {
+            final var next = following(slot + 1);
+            if (next < 0) throw IteratorPositionChangingException.create(stackless());
+            slot = next;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<Entry<K, V>> previous() throws IteratorPositionChangingException {
+            final var previous = preceding(Math.min(slot, keys.length) - 1);
+            if (previous < 0) throw IteratorPositionChangingException.create(stackless());
+            slot = previous;
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #hasFirst() параметр существования первого элемента} истинный, изменяет текущую позицию
+         * итератора на первую, в противном случае генерирует
+         * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+         * итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<Entry<K, V>> first() throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            return seek(true, false);
+        }
+
+        /**
+         * Если {@linkplain #hasLast() параметр существования последнего элемента} истинный, изменяет текущую позицию
+         * итератора на последнюю, в противном случае генерирует
+         * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+         * итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<Entry<K, V>> last() throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            return seek(true, true);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на начальную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<Entry<K, V>> start() throws IteratorAuxiliaryException {
+            return seek(false, false);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на конечную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<Entry<K, V>> end() throws IteratorAuxiliaryException {
+            return seek(false, true);
+        }
+
+        @Override
+        public boolean hasCurrent() {
+            return slot >= 0 && slot < keys.length && keys[slot] != null;
+        }
+
+        @Override
+        public boolean hasCached() {
+            return cached != null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return following(slot + 1) >= 0;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return preceding(Math.min(slot, keys.length) - 1) >= 0;
+        }
+
+        @Override
+        public boolean hasFirst() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean hasCentral() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean hasLast() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean starting() {
+            return slot < 0;
+        }
+
+        @Override
+        public boolean iterating() {
+            return slot >= 0 && slot < keys.length;
+        }
+
+        @Override
+        public boolean ending() {
+            return slot >= keys.length;
+        }
+
+        /**
+         * Возвращает первую заполненную ячейку, не меньшую переданной, или {@code -1}.
+         *
+         * @param from ячейка.
+         *
+         * @return Заполненная ячейка или {@code -1}.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int following(final int from) {
+            final var control = MutableHashMap.this.control;
+            var index = Math.max(from, 0) / GROUP;
+            if (index >= control.length) return -1;
+            var full = ~control[index] & MSB & -1L << (Math.max(from, 0) % GROUP) * Byte.SIZE;
+            while (full == 0L) {
+                if (++index == control.length) return -1;
+                full = ~control[index] & MSB;
+            }
+            return index * GROUP + lowest(full);
+        }
+
+        /**
+         * Возвращает последнюю заполненную ячейку, не большую переданной, или {@code -1}.
+         *
+         * @param from ячейка.
+         *
+         * @return Заполненная ячейка или {@code -1}.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int preceding(final int from) {
+            if (from < 0) return -1;
+            final var control = MutableHashMap.this.control;
+            var index = from / GROUP;
+            var full = ~control[index] & MSB & -1L >>> (GROUP - 1 - from % GROUP) * Byte.SIZE;
+            while (full == 0L) {
+                if (--index < 0) return -1;
+                full = ~control[index] & MSB;
+            }
+            return index * GROUP + (Long.SIZE - 1 - Long.numberOfLeadingZeros(full) >>> 3);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора под {@linkplain #readLock() инструментом для управления доступом на чтение}
+         * на первую или последнюю запись, либо на начальную или конечную позицию.
+         *
+         * @param element параметр позиции записи (первой или последней), а не начальной или конечной позиции.
+         * @param tail параметр позиции в конце (последней записи или конечной позиции).
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора (отсутствия записей).
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        private @NotNull MutableIterator<Entry<K, V>> seek(final boolean element,
+                                                           final boolean tail) throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            final @NotNull var lock = readLock();
+            try {
+                lock.lockInterruptibly();
+                final var length = keys.length;
+                final var position = element ? tail ? preceding(length - 1) : following(0) : tail ? length : -1;
+                if (element && position < 0) throw IteratorPositionChangingException.create(stackless());
+                slot = position;
+                return this;
+            } catch (final @NotNull IteratorPositionChangingException failure) {
+                throw failure;
+            } catch (final @NotNull Exception failure) {
+                throw new IteratorAuxiliaryException(failure);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,942 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.set;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Nullable;
+import com.bloogefest.annotation.analysis.Range;
+import com.bloogefest.collection.AbstractMutableCollection;
+import com.bloogefest.collection.CollectionException;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.iterator.AbstractMutableIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorAuxiliaryException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementChangingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementDeletingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementGettingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementPastingException;
+import com.bloogefest.collection.iteration.iterator.IteratorPositionChangingException;
+import com.bloogefest.collection.iteration.iterator.MutableIterator;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Изменяемое множество на основе хеш-таблицы с открытой адресацией.
+ * <p>
+ * Элементы хранятся непосредственно в плоском массиве без промежуточных узлов, коллизии разрешаются линейным
+ * пробированием. Удаление сдвигает последующие элементы цепочки назад, поэтому таблица не содержит надгробий и поиск
+ * не замедляется после удалений. Размер таблицы — степень двойки, таблица увеличивается вдвое при превышении
+ * коэффициента заполнения.
+ * <p>
+ * Порядок итерации не определён и не зависит от {@linkplain SequentialIterationDirection направления}.
+ * {@linkplain MutableIterator#delete() Удаление} через итератор не нарушает обход: каждый оставшийся элемент будет
+ * получен {@linkplain MutableIterator#next() следующими} переходами ровно один раз. Добавление элементов во время
+ * итерации может перестроить таблицу, после чего итератор становится недействительным.
+ * <p>
+ * Изменяющие операции множества захватывают {@linkplain #lock() инструмент для управления доступом}, а читающие —
+ * {@linkplain #readLock() инструмент для управления доступом на чтение}. Элементарные операции
+ * {@linkplain MutableIterator итератора} его не захватывают, поэтому их следует выполнять под
+ * {@linkplain #lock() инструментом для управления доступом} или через составные операции итератора.
+ *
+ * @param <T> тип элемента.
+ *
+ * @since 1.0.0-RC1
+ */
+public class MutableHashSet<T> extends AbstractMutableCollection<T> {
+
+    /**
+     * Ожидаемое количество элементов по умолчанию.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Коэффициент заполнения по умолчанию.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /**
+     * Параметр поддержки нулевых элементов по умолчанию.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final boolean DEFAULT_NULLABLE = false;
+
+    /**
+     * Максимальный размер таблицы.
+     *
+     * @since 1.0.0-RC1
+     */
+    public static final int MAX_TABLE_SIZE = 1 << 30;
+
+    /**
+     * Замена нулевого элемента в таблице.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final @NotNull Object NULL = new Object();
+
+    /**
+     * Коэффициент заполнения.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final float loadFactor;
+
+    /**
+     * Таблица элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @Nullable Object @NotNull [] table;
+
+    /**
+     * Количество элементов, при достижении которого таблица увеличивается.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int threshold;
+
+    /**
+     * Текущий размер.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int size;
+
+    /**
+     * Создаёт {@linkplain MutableHashSet изменяемое множество на основе хеш-таблицы} на основе
+     * {@linkplain #DEFAULT_CAPACITY ожидаемого количества элементов}, {@linkplain #DEFAULT_LOAD_FACTOR коэффициента
+     * заполнения}, {@linkplain ReentrantLock инструмента для управления доступом} и
+     * {@linkplain #DEFAULT_NULLABLE параметра поддержки нулевых элементов по умолчанию}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    public MutableHashSet() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, new ReentrantLock(), DEFAULT_NULLABLE);
+    }
+
+    /**
+     * Создаёт {@linkplain MutableHashSet изменяемое множество на основе хеш-таблицы} на основе переданного ожидаемого
+     * количества элементов, {@linkplain #DEFAULT_LOAD_FACTOR коэффициента заполнения},
+     * {@linkplain ReentrantLock инструмента для управления доступом} и
+     * {@linkplain #DEFAULT_NULLABLE параметра поддержки нулевых элементов по умолчанию}.
+     *
+     * @param capacity ожидаемое количество элементов.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого ожидаемого количества элементов).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    public MutableHashSet(final int capacity) throws CollectionException {
+        this(capacity, DEFAULT_LOAD_FACTOR, new ReentrantLock(), DEFAULT_NULLABLE);
+    }
+
+    /**
+     * Создаёт {@linkplain MutableHashSet изменяемое множество на основе хеш-таблицы} на основе переданных ожидаемого
+     * количества элементов и коэффициента заполнения, {@linkplain ReentrantLock инструмента для управления доступом}
+     * и {@linkplain #DEFAULT_NULLABLE параметра поддержки нулевых элементов по умолчанию}.
+     *
+     * @param capacity ожидаемое количество элементов.
+     * @param loadFactor коэффициент заполнения (больше нуля и меньше единицы).
+     *
+     * @throws CollectionException исключение коллекции (недопустимого ожидаемого количества элементов или
+     * коэффициента заполнения).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    public MutableHashSet(final int capacity, final float loadFactor) throws CollectionException {
+        this(capacity, loadFactor, new ReentrantLock(), DEFAULT_NULLABLE);
+    }
+
+    /**
+     * Создаёт {@linkplain MutableHashSet изменяемое множество на основе хеш-таблицы} на основе
+     * {@linkplain #DEFAULT_CAPACITY ожидаемого количества элементов} и {@linkplain #DEFAULT_LOAD_FACTOR коэффициента
+     * заполнения по умолчанию}, переданного {@linkplain Lock инструмента для управления доступом} и параметра
+     * поддержки нулевых элементов.
+     *
+     * @param lock {@linkplain Lock инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain Lock инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null, _ -> new; _, _ -> fail")
+    public MutableHashSet(final @NotNull Lock lock, final boolean nullable) throws NullException {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, lock, nullable);
+    }
+
+    /**
+     * Создаёт {@linkplain MutableHashSet изменяемое множество на основе хеш-таблицы} на основе переданных ожидаемого
+     * количества элементов, коэффициента заполнения, {@linkplain Lock инструмента для управления доступом} и
+     * параметра поддержки нулевых элементов.
+     *
+     * @param capacity ожидаемое количество элементов.
+     * @param loadFactor коэффициент заполнения (больше нуля и меньше единицы).
+     * @param lock {@linkplain Lock инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого ожидаемого количества элементов или
+     * коэффициента заполнения).
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain Lock инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _, !null, _ -> new; _, _, _, _ -> fail")
+    public MutableHashSet(final int capacity, final float loadFactor, final @NotNull Lock lock,
+                          final boolean nullable) throws CollectionException, NullException {
+        super(lock, nullable);
+        this.loadFactor = loadFactor(loadFactor);
+        allocate(size(capacity, loadFactor));
+    }
+
+    /**
+     * Создаёт {@linkplain MutableHashSet изменяемое множество на основе хеш-таблицы} на основе переданных ожидаемого
+     * количества элементов, коэффициента заполнения,
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись} и параметра поддержки нулевых
+     * элементов.
+     *
+     * @param capacity ожидаемое количество элементов.
+     * @param loadFactor коэффициент заполнения (больше нуля и меньше единицы).
+     * @param lock {@linkplain ReadWriteLock инструмент для управления доступом на чтение и запись}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого ожидаемого количества элементов или
+     * коэффициента заполнения).
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _, !null, _ -> new; _, _, _, _ -> fail")
+    public MutableHashSet(final int capacity, final float loadFactor, final @NotNull ReadWriteLock lock,
+                          final boolean nullable) throws CollectionException, NullException {
+        super(lock, nullable);
+        this.loadFactor = loadFactor(loadFactor);
+        allocate(size(capacity, loadFactor));
+    }
+
+    /**
+     * Создаёт {@linkplain MutableHashSet изменяемое множество на основе хеш-таблицы} на основе переданных ожидаемого
+     * количества элементов, коэффициента заполнения,
+     * {@linkplain StampedLock штампованного инструмента для управления доступом} и параметра поддержки нулевых
+     * элементов. Итерация такого множества читает элементы оптимистично.
+     *
+     * @param capacity ожидаемое количество элементов.
+     * @param loadFactor коэффициент заполнения (больше нуля и меньше единицы).
+     * @param lock {@linkplain StampedLock штампованный инструмент для управления доступом}.
+     * @param nullable параметр поддержки нулевых элементов.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого ожидаемого количества элементов или
+     * коэффициента заполнения).
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _, !null, _ -> new; _, _, _, _ -> fail")
+    public MutableHashSet(final int capacity, final float loadFactor, final @NotNull StampedLock lock,
+                          final boolean nullable) throws CollectionException, NullException {
+        super(lock, nullable);
+        this.loadFactor = loadFactor(loadFactor);
+        allocate(size(capacity, loadFactor));
+    }
+
+    /**
+     * Если переданный элемент нулевой и {@linkplain #nullable() параметр поддержки нулевых элементов} ложный,
+     * генерирует {@linkplain NullException исключение проверки нулевого объекта} (переданного элемента). Если
+     * переданный элемент отсутствует, добавляет его в текущее множество. Возвращает текущее множество.
+     *
+     * @param element элемент.
+     *
+     * @return Текущее множество.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного элемента).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> this")
+    public @NotNull MutableHashSet<T> add(final @Nullable T element) throws NullException, CollectionException {
+        if (!nullable()) Validator.notNull(element, "The element");
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            final var masked = mask(element);
+            if (size >= threshold) {
+                if (find(masked) >= 0) return this;
+                grow();
+            }
+            insert(masked);
+            return this;
+        } catch (final @NotNull CollectionException failure) {
+            throw failure;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Если переданный элемент присутствует, удаляет его из текущего множества. Возвращает текущее множество.
+     *
+     * @param element элемент.
+     *
+     * @return Текущее множество.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> this")
+    public @NotNull MutableHashSet<T> remove(final @Nullable T element) throws CollectionException {
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            final var slot = find(mask(element));
+            if (slot >= 0) shift(slot, null);
+            return this;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает параметр присутствия переданного элемента в текущем множестве.
+     *
+     * @param element элемент.
+     *
+     * @return Параметр присутствия переданного элемента.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public boolean contains(final @Nullable T element) throws CollectionException {
+        final @NotNull var lock = readLock();
+        try {
+            lock.lockInterruptibly();
+            return find(mask(element)) >= 0;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain MutableIterator итератор} текущего множества. Порядок итерации не зависит от
+     * переданного {@linkplain SequentialIterationDirection направления последовательной итерации}.
+     *
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return {@linkplain MutableIterator Итератор} текущего множества.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull MutableIterator<T> iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException {
+        Validator.notNull(direction, "The direction");
+        return new HashIterator();
+    }
+
+    /**
+     * Возвращает текущий размер.
+     *
+     * @return Текущий размер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public @Range(from = 0, to = Integer.MAX_VALUE) int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает переданный коэффициент заполнения, если он больше нуля и меньше единицы, в противном случае генерирует
+     * {@linkplain CollectionException исключение коллекции} (недопустимого коэффициента заполнения).
+     *
+     * @param loadFactor коэффициент заполнения.
+     *
+     * @return Переданный коэффициент заполнения.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого коэффициента заполнения).
+     * @since 1.0.0-RC1
+     */
+    private static float loadFactor(final float loadFactor) throws CollectionException {
+        if (!(loadFactor > 0f && loadFactor < 1f)) throw new CollectionException("Illegal load factor: " + loadFactor);
+        return loadFactor;
+    }
+
+    /**
+     * Возвращает размер таблицы (степень двойки), достаточный для переданного ожидаемого количества элементов при
+     * переданном коэффициенте заполнения.
+     *
+     * @param capacity ожидаемое количество элементов.
+     * @param loadFactor коэффициент заполнения.
+     *
+     * @return Размер таблицы.
+     *
+     * @throws CollectionException исключение коллекции (недопустимого ожидаемого количества элементов).
+     * @since 1.0.0-RC1
+     */
+    private static int size(final int capacity, final float loadFactor) throws CollectionException {
+        final var required = capacity < 0 ? -1L : (long) Math.ceil(capacity / (double) loadFactor);
+        if (required < 0L || required > MAX_TABLE_SIZE) throw new CollectionException("Illegal capacity: " + capacity);
+        return Math.max(Integer.highestOneBit((int) Math.max(required - 1L, 1L)) << 1, 2);
+    }
+
+    /**
+     * Возвращает начальную позицию переданного элемента в таблице с переданной маской.
+     *
+     * @param element элемент (после {@linkplain #mask(Object) замены нулевого}).
+     * @param mask маска таблицы.
+     *
+     * @return Начальная позиция элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static int slot(final @NotNull Object element, final int mask) {
+        final var hash = element.hashCode() * 0x9E3779B9;
+        return (hash ^ hash >>> 16) & mask;
+    }
+
+    /**
+     * Возвращает переданный элемент или его {@linkplain #NULL замену}, если элемент нулевой.
+     *
+     * @param element элемент.
+     *
+     * @return Элемент или его замена.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static @NotNull Object mask(final @Nullable Object element) {
+        return element == null ? NULL : element;
+    }
+
+    /**
+     * Возвращает элемент по переданному значению ячейки таблицы.
+     *
+     * @param element значение ячейки таблицы.
+     *
+     * @return Элемент.
+     *
+     * @since 1.0.0-RC1
+     */
+    @SuppressWarnings("unchecked")
+    private @Nullable T unmask(final @NotNull Object element) {
+        return element == NULL ? null : (T) element;
+    }
+
+    /**
+     * Создаёт таблицу переданного размера и вычисляет {@linkplain #threshold порог увеличения}. Порог всегда меньше
+     * размера таблицы, поэтому в таблице остаётся хотя бы одна свободная ячейка, и пробирование завершается.
+     *
+     * @param length размер таблицы.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void allocate(final int length) {
+        table = new Object[length];
+        threshold = Math.min((int) (length * (double) loadFactor), length - 1);
+    }
+
+    /**
+     * Возвращает позицию переданного элемента в таблице или {@code -1}, если элемент отсутствует.
+     *
+     * @param element элемент (после {@linkplain #mask(Object) замены нулевого}).
+     *
+     * @return Позиция элемента или {@code -1}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int find(final @NotNull Object element) {
+        final var table = this.table;
+        final var mask = table.length - 1;
+        for (var slot = slot(element, mask); ; slot = slot + 1 & mask) {
+            final var current = table[slot];
+            if (current == null) return -1;
+            if (current.equals(element)) return slot;
+        }
+    }
+
+    /**
+     * Если переданный элемент отсутствует, вставляет его в первую свободную ячейку его цепочки.
+     *
+     * @param element элемент (после {@linkplain #mask(Object) замены нулевого}).
+     *
+     * @since 1.0.0-RC1
+     */
+    private void insert(final @NotNull Object element) {
+        final var table = this.table;
+        final var mask = table.length - 1;
+        var slot = slot(element, mask);
+        for (Object current; (current = table[slot]) != null; slot = slot + 1 & mask)
+            if (current.equals(element)) return;
+        table[slot] = element;
+        size++;
+    }
+
+    /**
+     * Удаляет элемент из переданной ячейки и сдвигает назад последующие элементы цепочки, которые могут занять
+     * освободившуюся ячейку. Если передан итератор, сообщает ему об элементах, перенесённых через конец таблицы в
+     * уже пройденную им часть.
+     *
+     * @param slot ячейка.
+     * @param iterator итератор, удаляющий элемент, или нулевой объект.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void shift(final int slot, final @Nullable HashIterator iterator) {
+        final var table = this.table;
+        final var mask = table.length - 1;
+        var gap = slot;
+        for (var next = slot + 1 & mask; ; next = next + 1 & mask) {
+            final var element = table[next];
+            if (element == null) break;
+            if ((next - slot(element, mask) & mask) < (next - gap & mask)) continue;
+            table[gap] = element;
+            if (iterator != null && next < slot && gap >= slot) iterator.wrap(element);
+            gap = next;
+        }
+        table[gap] = null;
+        size--;
+    }
+
+    /**
+     * Увеличивает таблицу вдвое и перераспределяет элементы.
+     *
+     * @throws CollectionException исключение коллекции (превышения максимального размера таблицы).
+     * @since 1.0.0-RC1
+     */
+    private void grow() throws CollectionException {
+        final var previous = table;
+        if (previous.length == MAX_TABLE_SIZE) throw new CollectionException("Maximum capacity exceeded");
+        allocate(previous.length << 1);
+        size = 0;
+        for (final var element : previous) if (element != null) insert(element);
+    }
+
+    /**
+     * Итератор {@linkplain MutableHashSet изменяемого множества на основе хеш-таблицы}.
+     * <p>
+     * Проходит ячейки таблицы от последней к первой, после чего — элементы, перенесённые при
+     * {@linkplain #delete() удалении} через конец таблицы в уже пройденные ячейки. Логическая позиция {@code c} меньше
+     * размера таблицы соответствует ячейке {@code length - 1 - c}, остальные — перенесённым элементам. Такой порядок
+     * гарантирует, что сдвиг назад перемещает элементы из пройденных ячеек только в пройденные.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class HashIterator extends AbstractMutableIterator<T> {
+
+        /**
+         * Логическая позиция.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int cursor = -1;
+
+        /**
+         * Параметр удаления элемента в текущей позиции.
+         *
+         * @since 1.0.0-RC1
+         */
+        private boolean deleted;
+
+        /**
+         * Элементы, перенесённые через конец таблицы в пройденные ячейки, или нулевой объект.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable Object @Nullable [] wrapped;
+
+        /**
+         * Количество перенесённых элементов.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int wrappedSize;
+
+        /**
+         * Кэшированный элемент.
+         *
+         * @since 1.0.0-RC1
+         */
+        private @Nullable T cached;
+
+        /**
+         * Параметр существования кэшированного элемента.
+         *
+         * @since 1.0.0-RC1
+         */
+        private boolean hasCached;
+
+        /**
+         * Создаёт итератор в начальной позиции.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("-> new")
+        private HashIterator() {
+            super(MutableHashSet.this.lock(), MutableHashSet.this.readLock(), MutableHashSet.this.nullable(),
+                  MutableHashSet.this.stackless());
+        }
+
+        @Override
+        public @Nullable T current() throws IteratorElementGettingException {
+            if (!hasCurrent()) throw IteratorElementGettingException.create(stackless());
+            return unmask(element(cursor));
+        }
+
+        @Override
+        public @Nullable T cached() throws IteratorElementGettingException {
+            if (!hasCached) throw IteratorElementGettingException.create(stackless());
+            return cached;
+        }
+
+        @Override
+        @Contract("_ -> this")
+        public @NotNull MutableIterator<T> cache(final @Nullable T element) throws NullException {
+            if (!nullable()) Validator.notNull(element, "The element");
+            cached = element;
+            hasCached = true;
+            return this;
+        }
+
+        /**
+         * Генерирует {@linkplain IteratorElementChangingException исключение изменения элемента итератора на другой},
+         * поскольку позиция элемента множества определяется его хешем.
+         *
+         * @param element элемент.
+         *
+         * @return Ничего.
+         *
+         * @throws IteratorElementChangingException исключение изменения элемента итератора на другой.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("_ -> fail")
+        public @NotNull MutableIterator<T> change(
+                final @Nullable T element) throws IteratorElementChangingException {
+            throw new IteratorElementChangingException("Hash set elements cannot be changed in place");
+        }
+
+        /**
+         * Если {@linkplain #hasCurrent() параметр существования текущего элемента} истинный, удаляет текущий элемент со
+         * сдвигом назад последующих элементов его цепочки, в противном случае генерирует
+         * {@linkplain IteratorElementDeletingException исключение удаления элемента итератора}. Позиция итератора не
+         * изменяется, а {@linkplain #next() следующий переход} возвращает элемент, следующий за удалённым.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorElementDeletingException исключение удаления элемента итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> delete() throws IteratorElementDeletingException {
+            if (!hasCurrent()) throw IteratorElementDeletingException.create(stackless());
+            final var length = table.length;
+            if (cursor < length) shift(length - 1 - cursor, this);
+            else {
+                final var wrapped = this.wrapped;
+                final var index = cursor - length;
+                final var slot = find(wrapped[index]);
+                if (slot >= 0) shift(slot, null);
+                System.arraycopy(wrapped, index + 1, wrapped, index, --wrappedSize - index);
+                wrapped[wrappedSize] = null;
+                cursor--;
+            }
+            deleted = true;
+            return this;
+        }
+
+        /**
+         * Генерирует {@linkplain IteratorElementPastingException исключение вставки элемента итератора}, поскольку
+         * позиция элемента множества определяется его хешем.
+         *
+         * @param element элемент.
+         *
+         * @return Ничего.
+         *
+         * @throws IteratorElementPastingException исключение вставки элемента итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("_ -> fail")
+        public @NotNull MutableIterator<T> paste(final @Nullable T element) throws IteratorElementPastingException {
+            throw new IteratorElementPastingException("Hash set elements cannot be pasted at a position");
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> next() throws IteratorPositionChangingException {
+            final var next = following(cursor + 1);
+            if (next < 0) throw IteratorPositionChangingException.create(stackless());
+            cursor = next;
+            deleted = false;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> previous() throws IteratorPositionChangingException {
+            final var previous = preceding(Math.min(cursor, limit()) - 1);
+            if (previous < 0) throw IteratorPositionChangingException.create(stackless());
+            cursor = previous;
+            deleted = false;
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #hasFirst() параметр существования первого элемента} истинный, изменяет текущую позицию
+         * итератора на первую, в противном случае генерирует
+         * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+         * итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> first() throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            return seek(true, false);
+        }
+
+        /**
+         * Если {@linkplain #hasLast() параметр существования последнего элемента} истинный, изменяет текущую позицию
+         * итератора на последнюю, в противном случае генерирует
+         * {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}. Возвращает текущий
+         * итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> last() throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            return seek(true, true);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на начальную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> start() throws IteratorAuxiliaryException {
+            return seek(false, false);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на конечную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull MutableIterator<T> end() throws IteratorAuxiliaryException {
+            return seek(false, true);
+        }
+
+        @Override
+        public boolean hasCurrent() {
+            return !deleted && cursor >= 0 && cursor < limit() && present(cursor);
+        }
+
+        @Override
+        public boolean hasCached() {
+            return hasCached;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return following(cursor + 1) >= 0;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return preceding(Math.min(cursor, limit()) - 1) >= 0;
+        }
+
+        @Override
+        public boolean hasFirst() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean hasCentral() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean hasLast() {
+            return size > 0;
+        }
+
+        @Override
+        public boolean starting() {
+            return cursor < 0;
+        }
+
+        @Override
+        public boolean iterating() {
+            return cursor >= 0 && cursor < limit();
+        }
+
+        @Override
+        public boolean ending() {
+            return cursor >= 0 && cursor >= limit();
+        }
+
+        /**
+         * Добавляет переданный элемент в список элементов, перенесённых через конец таблицы в пройденные ячейки.
+         *
+         * @param element элемент (после {@linkplain #mask(Object) замены нулевого}).
+         *
+         * @since 1.0.0-RC1
+         */
+        private void wrap(final @NotNull Object element) {
+            var wrapped = this.wrapped;
+            if (wrapped == null) this.wrapped = wrapped = new Object[4];
+            else if (wrappedSize == wrapped.length) this.wrapped = wrapped = Arrays.copyOf(wrapped, wrappedSize << 1);
+            wrapped[wrappedSize++] = element;
+        }
+
+        /**
+         * Возвращает логическую позицию, следующую за последней.
+         *
+         * @return Логическая позиция, следующая за последней.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int limit() {
+            return table.length + wrappedSize;
+        }
+
+        /**
+         * Возвращает параметр существования элемента в переданной логической позиции, которая не меньше нуля и меньше
+         * {@linkplain #limit() предельной}.
+         *
+         * @param position логическая позиция.
+         *
+         * @return Параметр существования элемента.
+         *
+         * @since 1.0.0-RC1
+         */
+        private boolean present(final int position) {
+            final var table = MutableHashSet.this.table;
+            return position >= table.length || table[table.length - 1 - position] != null;
+        }
+
+        /**
+         * Возвращает значение в переданной логической позиции.
+         *
+         * @param position логическая позиция.
+         *
+         * @return Значение ячейки таблицы или перенесённый элемент.
+         *
+         * @since 1.0.0-RC1
+         */
+        @SuppressWarnings("DataFlowIssue")
+        private @NotNull Object element(final int position) {
+            final var table = MutableHashSet.this.table;
+            return position < table.length ? table[table.length - 1 - position] : wrapped[position - table.length];
+        }
+
+        /**
+         * Возвращает первую логическую позицию элемента, не меньшую переданной, или {@code -1}.
+         *
+         * @param from логическая позиция.
+         *
+         * @return Логическая позиция элемента или {@code -1}.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int following(final int from) {
+            final var end = limit();
+            for (var position = Math.max(from, 0); position < end; position++) if (present(position)) return position;
+            return -1;
+        }
+
+        /**
+         * Возвращает последнюю логическую позицию элемента, не большую переданной, или {@code -1}.
+         *
+         * @param from логическая позиция.
+         *
+         * @return Логическая позиция элемента или {@code -1}.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int preceding(final int from) {
+            for (var position = from; position >= 0; position--) if (present(position)) return position;
+            return -1;
+        }
+
+        /**
+         * Изменяет текущую позицию итератора под {@linkplain #readLock() инструментом для управления доступом на чтение}
+         * на первый или последний элемент, либо на начальную или конечную позицию.
+         *
+         * @param element параметр позиции элемента (первого или последнего), а не начальной или конечной позиции.
+         * @param tail параметр позиции в конце (последнего элемента или конечной позиции).
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора (отсутствия элементов).
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        private @NotNull MutableIterator<T> seek(final boolean element,
+                                                 final boolean tail) throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            final @NotNull var lock = readLock();
+            try {
+                lock.lockInterruptibly();
+                final var end = limit();
+                final var position = element ? tail ? preceding(end - 1) : following(0) : tail ? end : -1;
+                if (element && position < 0) throw IteratorPositionChangingException.create(stackless());
+                cursor = position;
+                deleted = false;
+                return this;
+            } catch (final @NotNull IteratorPositionChangingException failure) {
+                throw failure;
+            } catch (final @NotNull Exception failure) {
+                throw new IteratorAuxiliaryException(failure);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+    }
+
+}
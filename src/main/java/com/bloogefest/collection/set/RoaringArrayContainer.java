@@ -0,0 +1,225 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.set;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * {@linkplain RoaringContainer Контейнер} на основе отсортированного массива младших частей элементов. Хранит не
+ * больше {@linkplain #MAX_ARRAY 4096} элементов по два байта, при превышении заменяется
+ * {@linkplain RoaringBitmapContainer битовой картой}.
+ *
+ * @since 1.0.0-RC1
+ */
+final class RoaringArrayContainer extends RoaringContainer {
+
+    /**
+     * Отсортированные младшие части элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    char @NotNull [] values;
+
+    /**
+     * Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    int size;
+
+    /**
+     * Создаёт пустой контейнер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    RoaringArrayContainer() {
+        this(new char[4], 0);
+    }
+
+    /**
+     * Создаёт контейнер на основе переданных отсортированных младших частей элементов и их количества.
+     *
+     * @param values отсортированные младшие части элементов.
+     * @param size количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    private RoaringArrayContainer(final char @NotNull [] values, final int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Создаёт контейнер на основе массива с элементами переданного контейнера, содержащего не больше
+     * {@linkplain #MAX_ARRAY 4096} элементов.
+     *
+     * @param container {@linkplain RoaringContainer контейнер}.
+     *
+     * @return Новый контейнер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    static @NotNull RoaringArrayContainer of(final @NotNull RoaringContainer container) {
+        final var lows = new int[container.cardinality()];
+        final var size = container.values(0, lows);
+        final var values = new char[Math.max(size, 4)];
+        for (var index = 0; index < size; index++) values[index] = (char) lows[index];
+        return new RoaringArrayContainer(values, size);
+    }
+
+    /**
+     * Создаёт контейнер на основе массива или, если переданное количество больше {@linkplain #MAX_ARRAY 4096},
+     * битовой карты с переданными отсортированными младшими частями элементов.
+     *
+     * @param lows отсортированные младшие части элементов.
+     * @param size количество элементов.
+     *
+     * @return Новый контейнер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    static @NotNull RoaringContainer of(final int @NotNull [] lows, final int size) {
+        if (size > MAX_ARRAY) {
+            final var bitmap = new RoaringBitmapContainer();
+            for (var index = 0; index < size; index++) bitmap.add(lows[index]);
+            return bitmap;
+        }
+        final var values = new char[Math.max(size, 4)];
+        for (var index = 0; index < size; index++) values[index] = (char) lows[index];
+        return new RoaringArrayContainer(values, size);
+    }
+
+    @Override
+    int cardinality() {
+        return size;
+    }
+
+    @Override
+    boolean contains(final int low) {
+        return Arrays.binarySearch(values, 0, size, (char) low) >= 0;
+    }
+
+    @Override
+    @NotNull RoaringContainer add(final int low) {
+        final var index = Arrays.binarySearch(values, 0, size, (char) low);
+        if (index >= 0) return this;
+        if (size == MAX_ARRAY) return RoaringBitmapContainer.of(this).add(low);
+        final var insertion = -index - 1;
+        if (size == values.length) values = Arrays.copyOf(values, Math.min(size + (size >> 1), MAX_ARRAY));
+        System.arraycopy(values, insertion, values, insertion + 1, size - insertion);
+        values[insertion] = (char) low;
+        size++;
+        return this;
+    }
+
+    @Override
+    @NotNull RoaringContainer remove(final int low) {
+        final var index = Arrays.binarySearch(values, 0, size, (char) low);
+        if (index < 0) return this;
+        System.arraycopy(values, index + 1, values, index, --size - index);
+        return this;
+    }
+
+    @Override
+    int next(final int low) {
+        final var index = Arrays.binarySearch(values, 0, size, (char) low);
+        if (index >= 0) return low;
+        final var insertion = -index - 1;
+        return insertion < size ? values[insertion] : -1;
+    }
+
+    @Override
+    int previous(final int low) {
+        final var index = Arrays.binarySearch(values, 0, size, (char) low);
+        if (index >= 0) return low;
+        final var insertion = -index - 1;
+        return insertion > 0 ? values[insertion - 1] : -1;
+    }
+
+    @Override
+    int values(final int high, final int @NotNull [] elements) {
+        for (var index = 0; index < size; index++) elements[index] = high | values[index];
+        return size;
+    }
+
+    @Override
+    int runs() {
+        var runs = 0;
+        for (var index = 0; index < size; index++) if (index == 0 || values[index] != values[index - 1] + 1) runs++;
+        return runs;
+    }
+
+    @Override
+    @Contract("-> new")
+    @NotNull RoaringArrayContainer copy() {
+        return new RoaringArrayContainer(Arrays.copyOf(values, Math.max(size, 4)), size);
+    }
+
+    /**
+     * Выполняет переданную операцию над текущим и переданным контейнерами слиянием отсортированных массивов и
+     * возвращает результат.
+     *
+     * @param other {@linkplain RoaringArrayContainer контейнер на основе массива}.
+     * @param operation операция.
+     *
+     * @return Новый контейнер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    @NotNull RoaringContainer merge(final @NotNull RoaringArrayContainer other, final int operation) {
+        final var lows = new int[size + other.size];
+        var left = 0;
+        var right = 0;
+        var length = 0;
+        while (left < size || right < other.size) {
+            final int value = left < size ? values[left] : SPAN;
+            final int otherValue = right < other.size ? other.values[right] : SPAN;
+            if (value == otherValue) {
+                if (operation == AND || operation == OR) lows[length++] = value;
+                left++;
+                right++;
+            } else if (value < otherValue) {
+                if (operation != AND) lows[length++] = value;
+                left++;
+            } else {
+                if (operation == OR || operation == XOR) lows[length++] = otherValue;
+                right++;
+            }
+        }
+        return of(lows, length);
+    }
+
+    /**
+     * Возвращает новый контейнер с элементами текущего, присутствие которых в переданном контейнере совпадает с
+     * переданным параметром, — пересечение или разность.
+     *
+     * @param other {@linkplain RoaringContainer контейнер}.
+     * @param retain параметр сохранения присутствующих (пересечения), а не отсутствующих (разности) элементов.
+     *
+     * @return Новый контейнер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    @NotNull RoaringArrayContainer filter(final @NotNull RoaringContainer other, final boolean retain) {
+        final var filtered = new char[Math.max(size, 4)];
+        var length = 0;
+        for (var index = 0; index < size; index++) {
+            if (other.contains(values[index]) == retain) filtered[length++] = values[index];
+        }
+        return new RoaringArrayContainer(filtered, length);
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.set;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+
+/**
+ * {@linkplain RoaringContainer Контейнер} на основе битовой карты из 1024 слов типа {@code long} — по биту на каждую
+ * возможную младшую часть элемента. Кэширует количество элементов, а операции над двумя битовыми картами выполняет по
+ * словам. Если количество элементов не больше {@linkplain #MAX_ARRAY 4096}, заменяется
+ * {@linkplain RoaringArrayContainer массивом}.
+ *
+ * @since 1.0.0-RC1
+ */
+final class RoaringBitmapContainer extends RoaringContainer {
+
+    /**
+     * Слова битовой карты.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final long @NotNull [] words;
+
+    /**
+     * Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int cardinality;
+
+    /**
+     * Создаёт пустой контейнер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    RoaringBitmapContainer() {
+        this(new long[SPAN / Long.SIZE], 0);
+    }
+
+    /**
+     * Создаёт контейнер на основе переданных слов битовой карты и количества элементов.
+     *
+     * @param words слова битовой карты.
+     * @param cardinality количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    private RoaringBitmapContainer(final long @NotNull [] words, final int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Создаёт контейнер на основе битовой карты с элементами переданного контейнера.
+     *
+     * @param container {@linkplain RoaringContainer контейнер}.
+     *
+     * @return Новый контейнер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    static @NotNull RoaringBitmapContainer of(final @NotNull RoaringContainer container) {
+        final var bitmap = new RoaringBitmapContainer();
+        final var lows = new int[container.cardinality()];
+        final var size = container.values(0, lows);
+        for (var index = 0; index < size; index++) bitmap.add(lows[index]);
+        return bitmap;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    boolean contains(final int low) {
+        return (words[low >>> 6] & 1L << low) != 0;
+    }
+
+    @Override
+    @NotNull RoaringContainer add(final int low) {
+        final var index = low >>> 6;
+        final var word = words[index];
+        final var bit = 1L << low;
+        if ((word & bit) != 0) return this;
+        words[index] = word | bit;
+        cardinality++;
+        return this;
+    }
+
+    @Override
+    @NotNull RoaringContainer remove(final int low) {
+        final var index = low >>> 6;
+        final var word = words[index];
+        final var bit = 1L << low;
+        if ((word & bit) == 0) return this;
+        words[index] = word & ~bit;
+        cardinality--;
+        return shrink();
+    }
+
+    @Override
+    int next(final int low) {
+        var index = low >>> 6;
+        var word = words[index] & -1L << low;
+        while (word == 0) {
+            if (++index == words.length) return -1;
+            word = words[index];
+        }
+        return index << 6 | Long.numberOfTrailingZeros(word);
+    }
+
+    @Override
+    int previous(final int low) {
+        var index = low >>> 6;
+        var word = words[index] & -1L >>> 63 - (low & 63);
+        while (word == 0) {
+            if (--index < 0) return -1;
+            word = words[index];
+        }
+        return index << 6 | 63 - Long.numberOfLeadingZeros(word);
+    }
+
+    @Override
+    int values(final int high, final int @NotNull [] elements) {
+        var length = 0;
+        for (var index = 0; index < words.length; index++) {
+            var word = words[index];
+            while (word != 0) {
+                elements[length++] = high | index << 6 | Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return length;
+    }
+
+    @Override
+    int runs() {
+        var runs = 0;
+        var carry = 0L;
+        for (final var word : words) {
+            runs += Long.bitCount(word & ~(word << 1 | carry));
+            carry = word >>> 63;
+        }
+        return runs;
+    }
+
+    @Override
+    @Contract("-> new")
+    @NotNull RoaringBitmapContainer copy() {
+        return new RoaringBitmapContainer(words.clone(), cardinality);
+    }
+
+    /**
+     * Выполняет переданную операцию над текущим и переданным контейнерами, изменяя текущий, и возвращает его.
+     * Операция над двумя битовыми картами выполняется по словам, а с {@linkplain RoaringArrayContainer массивом} — по
+     * его элементам. Пересечение с массивом не поддерживается — его выполняет
+     * {@linkplain RoaringArrayContainer#filter(RoaringContainer, boolean) фильтрация массива}.
+     *
+     * @param other {@linkplain RoaringContainer контейнер} на основе массива или битовой карты.
+     * @param operation операция.
+     *
+     * @return Текущий контейнер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> this")
+    @NotNull RoaringBitmapContainer apply(final @NotNull RoaringContainer other, final int operation) {
+        if (other instanceof final RoaringBitmapContainer bitmap) {
+            final var otherWords = bitmap.words;
+            var cardinality = 0;
+            for (var index = 0; index < words.length; index++) {
+                final var word = switch (operation) {
+                    case AND -> words[index] & otherWords[index];
+                    case OR -> words[index] | otherWords[index];
+                    case AND_NOT -> words[index] & ~otherWords[index];
+                    default -> words[index] ^ otherWords[index];
+                };
+                words[index] = word;
+                cardinality += Long.bitCount(word);
+            }
+            this.cardinality = cardinality;
+            return this;
+        }
+        final var array = (RoaringArrayContainer) other;
+        for (var index = 0; index < array.size; index++) {
+            final int low = array.values[index];
+            final var bit = 1L << low;
+            final var present = (words[low >>> 6] & bit) != 0;
+            if (operation == AND_NOT ? !present : operation == OR && present) continue;
+            words[low >>> 6] ^= bit;
+            cardinality += present ? -1 : 1;
+        }
+        return this;
+    }
+
+    /**
+     * Возвращает контейнер на основе {@linkplain RoaringArrayContainer массива}, если количество элементов не больше
+     * {@linkplain #MAX_ARRAY 4096}, в противном случае — текущий контейнер.
+     *
+     * @return Текущий контейнер или новый контейнер на основе массива.
+     *
+     * @since 1.0.0-RC1
+     */
+    @NotNull RoaringContainer shrink() {
+        return cardinality > MAX_ARRAY ? this : RoaringArrayContainer.of(this);
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.set;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+
+/**
+ * Контейнер {@linkplain RoaringIntSet сжатого множества элементов типа {@code int}} — хранит младшие 16 бит
+ * элементов с общими старшими 16 битами. Существует в трёх представлениях:
+ * {@linkplain RoaringArrayContainer отсортированного массива} для разреженных контейнеров,
+ * {@linkplain RoaringBitmapContainer битовой карты} для плотных и {@linkplain RoaringRunContainer серий} для
+ * контейнеров из длинных последовательностей. Изменяющие операции могут вернуть контейнер другого представления,
+ * поэтому их результат заменяет исходный контейнер.
+ *
+ * @since 1.0.0-RC1
+ */
+abstract class RoaringContainer {
+
+    /**
+     * Количество возможных младших частей элементов контейнера.
+     *
+     * @since 1.0.0-RC1
+     */
+    static final int SPAN = 1 << 16;
+
+    /**
+     * Максимальное количество элементов {@linkplain RoaringArrayContainer контейнера на основе массива}, больше
+     * которого {@linkplain RoaringBitmapContainer битовая карта} занимает меньше памяти.
+     *
+     * @since 1.0.0-RC1
+     */
+    static final int MAX_ARRAY = 4096;
+
+    /**
+     * Операция пересечения.
+     *
+     * @since 1.0.0-RC1
+     */
+    static final int AND = 0;
+
+    /**
+     * Операция объединения.
+     *
+     * @since 1.0.0-RC1
+     */
+    static final int OR = 1;
+
+    /**
+     * Операция разности.
+     *
+     * @since 1.0.0-RC1
+     */
+    static final int AND_NOT = 2;
+
+    /**
+     * Операция симметрической разности.
+     *
+     * @since 1.0.0-RC1
+     */
+    static final int XOR = 3;
+
+    /**
+     * Возвращает количество элементов.
+     *
+     * @return Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    abstract int cardinality();
+
+    /**
+     * Возвращает параметр присутствия переданной младшей части элемента.
+     *
+     * @param low младшая часть элемента.
+     *
+     * @return Параметр присутствия переданной младшей части элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    abstract boolean contains(final int low);
+
+    /**
+     * Добавляет переданную младшую часть элемента и возвращает контейнер с ней.
+     *
+     * @param low младшая часть элемента.
+     *
+     * @return Текущий контейнер или контейнер другого представления.
+     *
+     * @since 1.0.0-RC1
+     */
+    abstract @NotNull RoaringContainer add(final int low);
+
+    /**
+     * Удаляет переданную младшую часть элемента и возвращает контейнер без неё.
+     *
+     * @param low младшая часть элемента.
+     *
+     * @return Текущий контейнер или контейнер другого представления.
+     *
+     * @since 1.0.0-RC1
+     */
+    abstract @NotNull RoaringContainer remove(final int low);
+
+    /**
+     * Возвращает наименьшую младшую часть элемента, не меньшую переданной, или {@code -1}, если её нет.
+     *
+     * @param low младшая часть элемента.
+     *
+     * @return Младшая часть элемента или {@code -1}.
+     *
+     * @since 1.0.0-RC1
+     */
+    abstract int next(final int low);
+
+    /**
+     * Возвращает наибольшую младшую часть элемента, не большую переданной, или {@code -1}, если её нет.
+     *
+     * @param low младшая часть элемента.
+     *
+     * @return Младшая часть элемента или {@code -1}.
+     *
+     * @since 1.0.0-RC1
+     */
+    abstract int previous(final int low);
+
+    /**
+     * Записывает элементы, полученные объединением переданной старшей части с младшими частями, в переданный массив
+     * по возрастанию и возвращает их количество.
+     *
+     * @param high старшая часть элементов (с нулевыми младшими 16 битами).
+     * @param elements массив длиной не меньше {@linkplain #cardinality() количества элементов}.
+     *
+     * @return Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    abstract int values(final int high, final int @NotNull [] elements);
+
+    /**
+     * Возвращает количество серий последовательных младших частей элементов.
+     *
+     * @return Количество серий.
+     *
+     * @since 1.0.0-RC1
+     */
+    abstract int runs();
+
+    /**
+     * Возвращает независимую копию контейнера.
+     *
+     * @return Копия контейнера.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    abstract @NotNull RoaringContainer copy();
+
+    /**
+     * Возвращает контейнер в представлении {@linkplain RoaringArrayContainer массива} или
+     * {@linkplain RoaringBitmapContainer битовой карты}. По умолчанию возвращает текущий контейнер.
+     *
+     * @return Текущий контейнер или новый контейнер на основе массива или битовой карты.
+     *
+     * @since 1.0.0-RC1
+     */
+    @NotNull RoaringContainer plain() {
+        return this;
+    }
+
+    /**
+     * Возвращает контейнер в представлении, занимающем меньше всего памяти: {@linkplain RoaringRunContainer серий},
+     * {@linkplain RoaringArrayContainer массива} или {@linkplain RoaringBitmapContainer битовой карты}.
+     *
+     * @return Текущий контейнер или новый контейнер другого представления.
+     *
+     * @since 1.0.0-RC1
+     */
+    @NotNull RoaringContainer optimize() {
+        final var cardinality = cardinality();
+        final var plain = cardinality <= MAX_ARRAY ? Character.BYTES * cardinality : SPAN / Byte.SIZE;
+        if (2 * Character.BYTES * runs() + Character.BYTES < plain) {
+            return this instanceof RoaringRunContainer ? this : RoaringRunContainer.of(this);
+        }
+        return plain();
+    }
+
+    /**
+     * Выполняет переданную операцию над переданными контейнерами и возвращает результат — новый контейнер, возможно,
+     * пустой. Переданные контейнеры не изменяются.
+     *
+     * @param left левый контейнер.
+     * @param right правый контейнер.
+     * @param operation операция ({@linkplain #AND пересечения}, {@linkplain #OR объединения},
+     * {@linkplain #AND_NOT разности} или {@linkplain #XOR симметрической разности}).
+     *
+     * @return Новый контейнер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _, _ -> new")
+    static @NotNull RoaringContainer combine(final @NotNull RoaringContainer left,
+                                             final @NotNull RoaringContainer right, final int operation) {
+        final @NotNull var plainLeft = left.plain();
+        final @NotNull var plainRight = right.plain();
+        if (plainLeft instanceof final RoaringArrayContainer array) {
+            if (plainRight instanceof final RoaringArrayContainer other) return array.merge(other, operation);
+            if (operation == AND || operation == AND_NOT) return array.filter(plainRight, operation == AND);
+        } else if (plainRight instanceof final RoaringArrayContainer array && operation == AND) {
+            return array.filter(plainLeft, true);
+        }
+        final var swapped = plainLeft instanceof RoaringArrayContainer;
+        final @NotNull var target = (RoaringBitmapContainer) (swapped ? plainRight : plainLeft);
+        final @NotNull var result = target == left || target == right ? target.copy() : target;
+        return result.apply(swapped ? plainLeft : plainRight, operation).shrink();
+    }
+
+}
@@ -0,0 +1,1092 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.set;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+import com.bloogefest.annotation.analysis.Range;
+import com.bloogefest.collection.CollectionException;
+import com.bloogefest.collection.IntAbstractMutableCollection;
+import com.bloogefest.collection.function.IntChunkHandler;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.SequentialIterationException;
+import com.bloogefest.collection.iteration.iterator.IntAbstractMutableIterator;
+import com.bloogefest.collection.iteration.iterator.IntMutableIterator;
+import com.bloogefest.collection.iteration.iterator.IteratorAuxiliaryException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementChangingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementDeletingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementGettingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementPastingException;
+import com.bloogefest.collection.iteration.iterator.IteratorPositionChangingException;
+import com.bloogefest.common.validation.NullException;
+import com.bloogefest.common.validation.Validator;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Изменяемое сжатое множество элементов типа {@code int} на основе сжатой битовой карты (roaring bitmap).
+ * <p>
+ * Элементы разбиваются по старшим 16 битам на {@linkplain RoaringContainer контейнеры}, отсортированные по старшим
+ * битам. Каждый контейнер хранит младшие 16 бит в одном из трёх представлений: отсортированного массива для
+ * разреженных контейнеров (не больше 4096 элементов), битовой карты для плотных и серий последовательных элементов,
+ * в которые контейнеры переводятся {@linkplain #addRange(int, int) добавлением диапазона} и
+ * {@linkplain #optimize() оптимизацией}. Представление меняется автоматически при добавлении и удалении элементов.
+ * <p>
+ * Операции {@linkplain #and(RoaringIntSet) пересечения}, {@linkplain #or(RoaringIntSet) объединения},
+ * {@linkplain #andNot(RoaringIntSet) разности} и {@linkplain #xor(RoaringIntSet) симметрической разности} изменяют
+ * текущее множество, обходя контейнеры слиянием по старшим битам; две битовые карты обрабатываются по словам, а массив
+ * с битовой картой — по элементам массива. Количество элементов кэшируется, поэтому {@linkplain #size()} и
+ * {@linkplain #cardinality()} выполняются за постоянное время.
+ * <p>
+ * Итерация выполняется по возрастанию элементов в {@linkplain SequentialIterationDirection#FORWARD прямом}
+ * направлении и по убыванию — в {@linkplain SequentialIterationDirection#BACKWARD обратном}. Итератор хранит текущий
+ * элемент, а не позицию в контейнере, поэтому {@linkplain IntMutableIterator#delete() удаление} через итератор не
+ * нарушает обход.
+ * <p>
+ * Изменяющие операции множества захватывают {@linkplain #lock() инструмент для управления доступом}, а читающие —
+ * {@linkplain #readLock() инструмент для управления доступом на чтение}. Операции над двумя множествами также
+ * захватывают инструмент для управления доступом на чтение переданного множества, поэтому встречные операции над
+ * одной парой множеств в разных потоках следует упорядочивать. Элементарные операции
+ * {@linkplain IntMutableIterator итератора} его не захватывают, поэтому их следует выполнять под
+ * {@linkplain #lock() инструментом для управления доступом} или через составные операции итератора.
+ *
+ * @see MutableHashSet
+ * @since 1.0.0-RC1
+ */
+public class RoaringIntSet extends IntAbstractMutableCollection {
+
+    /**
+     * Отсутствие элемента при поиске.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static final long NONE = Long.MAX_VALUE;
+
+    /**
+     * Отсортированные ключи контейнеров — старшие 16 бит элементов с инвертированным знаковым битом.
+     *
+     * @since 1.0.0-RC1
+     */
+    private char @NotNull [] keys = new char[4];
+
+    /**
+     * Непустые {@linkplain RoaringContainer контейнеры}, соответствующие ключам.
+     *
+     * @since 1.0.0-RC1
+     */
+    private @NotNull RoaringContainer @NotNull [] containers = new RoaringContainer[4];
+
+    /**
+     * Количество контейнеров.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int count;
+
+    /**
+     * Кэшированное количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private long cardinality;
+
+    /**
+     * Создаёт {@linkplain RoaringIntSet изменяемое сжатое множество элементов типа {@code int}} на основе
+     * {@linkplain ReentrantLock инструмента для управления доступом}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> new")
+    public RoaringIntSet() {
+        this(new ReentrantLock());
+    }
+
+    /**
+     * Создаёт {@linkplain RoaringIntSet изменяемое сжатое множество элементов типа {@code int}} на основе переданного
+     * {@linkplain Lock инструмента для управления доступом}.
+     *
+     * @param lock {@linkplain Lock инструмент для управления доступом}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain Lock инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    public RoaringIntSet(final @NotNull Lock lock) throws NullException {
+        super(lock);
+    }
+
+    /**
+     * Создаёт {@linkplain RoaringIntSet изменяемое сжатое множество элементов типа {@code int}} на основе переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}.
+     *
+     * @param lock {@linkplain ReadWriteLock инструмент для управления доступом на чтение и запись}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain ReadWriteLock инструмента для управления доступом на чтение и запись}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    public RoaringIntSet(final @NotNull ReadWriteLock lock) throws NullException {
+        super(lock);
+    }
+
+    /**
+     * Создаёт {@linkplain RoaringIntSet изменяемое сжатое множество элементов типа {@code int}} на основе переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}.
+     *
+     * @param lock {@linkplain StampedLock штампованный инструмент для управления доступом}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}).
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    public RoaringIntSet(final @NotNull StampedLock lock) throws NullException {
+        super(lock);
+    }
+
+    /**
+     * Создаёт {@linkplain RoaringIntSet изменяемое сжатое множество элементов типа {@code int}} с копиями
+     * контейнеров переданного множества, полученными под его
+     * {@linkplain #readLock() инструментом для управления доступом на чтение}, на основе
+     * {@linkplain ReentrantLock инструмента для управления доступом}.
+     *
+     * @param set {@linkplain RoaringIntSet множество}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного множества).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> new; _ -> fail")
+    public RoaringIntSet(final @NotNull RoaringIntSet set) throws NullException, CollectionException {
+        this();
+        final @NotNull var lock = Validator.notNull(set, "The set").readLock();
+        try {
+            lock.lockInterruptibly();
+            keys = Arrays.copyOf(set.keys, Math.max(set.count, 4));
+            containers = new RoaringContainer[keys.length];
+            for (var slot = 0; slot < set.count; slot++) containers[slot] = set.containers[slot].copy();
+            count = set.count;
+            cardinality = set.cardinality;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Если переданный элемент отсутствует, добавляет его в текущее множество. Возвращает текущее множество.
+     *
+     * @param element элемент.
+     *
+     * @return Текущее множество.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> this")
+    public @NotNull RoaringIntSet add(final int element) throws CollectionException {
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            final var key = key(element);
+            final var slot = search(key);
+            if (slot < 0) {
+                insert(-slot - 1, key, new RoaringArrayContainer().add(element & 0xFFFF));
+                cardinality++;
+                return this;
+            }
+            final @NotNull var container = containers[slot];
+            final var before = container.cardinality();
+            final @NotNull var added = containers[slot] = container.add(element & 0xFFFF);
+            cardinality += added.cardinality() - before;
+            return this;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Если переданный первый элемент не больше переданного последнего, добавляет в текущее множество все элементы
+     * между ними включительно, в противном случае генерирует {@linkplain CollectionException исключение коллекции}
+     * (недопустимого диапазона). Полностью покрытые диапазоном контейнеры хранятся одной серией. Возвращает текущее
+     * множество.
+     *
+     * @param first первый элемент.
+     * @param last последний элемент.
+     *
+     * @return Текущее множество.
+     *
+     * @throws CollectionException исключение коллекции (в том числе недопустимого диапазона).
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> this")
+    public @NotNull RoaringIntSet addRange(final int first, final int last) throws CollectionException {
+        if (first > last) throw new CollectionException("Illegal range: " + first + ", " + last);
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            final var firstKey = key(first);
+            final var lastKey = key(last);
+            for (var key = firstKey; key <= lastKey; key++) {
+                final var low = key == firstKey ? first & 0xFFFF : 0;
+                final var high = key == lastKey ? last & 0xFFFF : 0xFFFF;
+                final var run = new RoaringRunContainer(low, high);
+                final var slot = search(key);
+                if (slot < 0) {
+                    insert(-slot - 1, key, run);
+                    cardinality += high - low + 1;
+                    continue;
+                }
+                final var before = containers[slot].cardinality();
+                final @NotNull var combined = RoaringContainer.combine(containers[slot], run, RoaringContainer.OR);
+                containers[slot] = combined;
+                cardinality += combined.cardinality() - before;
+            }
+            return this;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Если переданный элемент присутствует, удаляет его из текущего множества. Возвращает текущее множество.
+     *
+     * @param element элемент.
+     *
+     * @return Текущее множество.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> this")
+    public @NotNull RoaringIntSet remove(final int element) throws CollectionException {
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            delete(element);
+            return this;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает параметр присутствия переданного элемента в текущем множестве.
+     *
+     * @param element элемент.
+     *
+     * @return Параметр присутствия переданного элемента.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public boolean contains(final int element) throws CollectionException {
+        final @NotNull var lock = readLock();
+        try {
+            lock.lockInterruptibly();
+            final var slot = search(key(element));
+            return slot >= 0 && containers[slot].contains(element & 0xFFFF);
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет все элементы текущего множества. Возвращает текущее множество.
+     *
+     * @return Текущее множество.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> this")
+    public @NotNull RoaringIntSet clear() throws CollectionException {
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            reset();
+            return this;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Оставляет в текущем множестве только элементы, присутствующие в переданном множестве. Возвращает текущее
+     * множество.
+     *
+     * @param set {@linkplain RoaringIntSet множество}.
+     *
+     * @return Текущее множество.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного множества).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull RoaringIntSet and(final @NotNull RoaringIntSet set) throws NullException, CollectionException {
+        return combine(set, RoaringContainer.AND);
+    }
+
+    /**
+     * Добавляет в текущее множество элементы переданного множества. Возвращает текущее множество.
+     *
+     * @param set {@linkplain RoaringIntSet множество}.
+     *
+     * @return Текущее множество.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного множества).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull RoaringIntSet or(final @NotNull RoaringIntSet set) throws NullException, CollectionException {
+        return combine(set, RoaringContainer.OR);
+    }
+
+    /**
+     * Удаляет из текущего множества элементы, присутствующие в переданном множестве. Возвращает текущее множество.
+     *
+     * @param set {@linkplain RoaringIntSet множество}.
+     *
+     * @return Текущее множество.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного множества).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull RoaringIntSet andNot(final @NotNull RoaringIntSet set) throws NullException, CollectionException {
+        return combine(set, RoaringContainer.AND_NOT);
+    }
+
+    /**
+     * Оставляет в текущем множестве элементы, присутствующие ровно в одном из текущего и переданного множеств.
+     * Возвращает текущее множество.
+     *
+     * @param set {@linkplain RoaringIntSet множество}.
+     *
+     * @return Текущее множество.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного множества).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("!null -> this; _ -> fail")
+    public @NotNull RoaringIntSet xor(final @NotNull RoaringIntSet set) throws NullException, CollectionException {
+        return combine(set, RoaringContainer.XOR);
+    }
+
+    /**
+     * Переводит каждый контейнер текущего множества в представление, занимающее меньше всего памяти, — в том числе в
+     * серии последовательных элементов. Возвращает текущее множество.
+     *
+     * @return Текущее множество.
+     *
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    @Contract("-> this")
+    public @NotNull RoaringIntSet optimize() throws CollectionException {
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            for (var slot = 0; slot < count; slot++) containers[slot] = containers[slot].optimize();
+            return this;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Последовательно итерирует переданный {@linkplain IntChunkHandler обработчик блоков} по возрастанию элементов под
+     * {@linkplain #readLock() инструментом для управления доступом на чтение}, распаковывая контейнеры в один
+     * переиспользуемый массив без упаковки.
+     *
+     * @param handler {@linkplain IntChunkHandler обработчик блоков}.
+     * @param size максимальное количество элементов блока.
+     *
+     * @return Текущее множество.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain IntChunkHandler обработчика}).
+     * @throws SequentialIterationException исключение последовательной итерации (в том числе неположительного
+     * количества элементов блока).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null, _ -> this; _, _ -> fail")
+    public @NotNull RoaringIntSet iterateChunks(final @NotNull IntChunkHandler handler,
+                                                final int size) throws NullException, SequentialIterationException {
+        Validator.notNull(handler, "The handler");
+        if (size <= 0) throw new SequentialIterationException("Illegal chunk size: " + size);
+        final @NotNull var lock = readLock();
+        try {
+            lock.lockInterruptibly();
+            var maximum = 0;
+            for (var slot = 0; slot < count; slot++) maximum = Math.max(maximum, containers[slot].cardinality());
+            final var values = new int[maximum];
+            final var chunk = new int[(int) Math.min(size, cardinality)];
+            var length = 0;
+            for (var slot = 0; slot < count; slot++) {
+                final var decoded = containers[slot].values(high(keys[slot]), values);
+                var offset = 0;
+                while (offset < decoded) {
+                    final var copied = Math.min(decoded - offset, chunk.length - length);
+                    System.arraycopy(values, offset, chunk, length, copied);
+                    offset += copied;
+                    length += copied;
+                    if (length < chunk.length) continue;
+                    handler.handle(chunk, 0, length);
+                    length = 0;
+                }
+            }
+            if (length > 0) handler.handle(chunk, 0, length);
+            return this;
+        } catch (final Throwable failure) {
+            throw new SequentialIterationException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Создаёт и возвращает {@linkplain IntMutableIterator итератор} текущего множества в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}: по возрастанию элементов в
+     * прямом направлении и по убыванию — в обратном.
+     *
+     * @param direction {@linkplain SequentialIterationDirection направление последовательной итерации}.
+     *
+     * @return {@linkplain IntMutableIterator Итератор} текущего множества в переданном
+     * {@linkplain SequentialIterationDirection направлении последовательной итерации}.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного
+     * {@linkplain SequentialIterationDirection направления последовательной итерации}).
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("!null -> new; _ -> fail")
+    public @NotNull IntMutableIterator iterator(
+            final @NotNull SequentialIterationDirection direction) throws NullException {
+        Validator.notNull(direction, "The direction");
+        return new RoaringIterator(direction == SequentialIterationDirection.FORWARD);
+    }
+
+    /**
+     * Устанавливает параметр генерации исключений итераторов без трассировки стека. Действует на итераторы, созданные
+     * после установки. Возвращает текущее множество.
+     *
+     * @param stackless параметр генерации исключений итераторов без трассировки стека.
+     *
+     * @return Текущее множество.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("_ -> this")
+    public @NotNull RoaringIntSet stackless(final boolean stackless) {
+        super.stackless(stackless);
+        return this;
+    }
+
+    /**
+     * Возвращает текущий размер, ограниченный {@linkplain Integer#MAX_VALUE максимальным значением типа {@code int}},
+     * за постоянное время.
+     *
+     * @return Текущий размер.
+     *
+     * @see #cardinality()
+     * @since 1.0.0-RC1
+     */
+    @Override
+    public @Range(from = 0, to = Integer.MAX_VALUE) int size() {
+        return (int) Math.min(cardinality, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Возвращает точное количество элементов, которое может превышать
+     * {@linkplain Integer#MAX_VALUE максимальное значение типа {@code int}}, за постоянное время.
+     *
+     * @return Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    public @Range(from = 0, to = 1L << 32) long cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Возвращает ключ контейнера переданного элемента — старшие 16 бит с инвертированным знаковым битом, поэтому
+     * порядок ключей совпадает с порядком элементов.
+     *
+     * @param element элемент.
+     *
+     * @return Ключ контейнера.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static int key(final int element) {
+        return element >>> 16 ^ 0x8000;
+    }
+
+    /**
+     * Возвращает старшую часть элементов контейнера по переданному ключу (с нулевыми младшими 16 битами).
+     *
+     * @param key ключ контейнера.
+     *
+     * @return Старшая часть элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static int high(final int key) {
+        return (key ^ 0x8000) << 16;
+    }
+
+    /**
+     * Возвращает индекс контейнера по переданному ключу или {@code -(индекс вставки + 1)}, если его нет.
+     *
+     * @param key ключ контейнера.
+     *
+     * @return Индекс контейнера или {@code -(индекс вставки + 1)}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int search(final int key) {
+        return Arrays.binarySearch(keys, 0, count, (char) key);
+    }
+
+    /**
+     * Вставляет переданный контейнер с переданным ключом по переданному индексу.
+     *
+     * @param slot индекс контейнера.
+     * @param key ключ контейнера.
+     * @param container {@linkplain RoaringContainer контейнер}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void insert(final int slot, final int key, final @NotNull RoaringContainer container) {
+        if (count == keys.length) {
+            final var length = Math.min(count + (count >> 1), RoaringContainer.SPAN);
+            keys = Arrays.copyOf(keys, length);
+            containers = Arrays.copyOf(containers, length);
+        }
+        System.arraycopy(keys, slot, keys, slot + 1, count - slot);
+        System.arraycopy(containers, slot, containers, slot + 1, count - slot);
+        keys[slot] = (char) key;
+        containers[slot] = container;
+        count++;
+    }
+
+    /**
+     * Удаляет все контейнеры.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void reset() {
+        Arrays.fill(containers, 0, count, null);
+        count = 0;
+        cardinality = 0;
+    }
+
+    /**
+     * Если переданный элемент присутствует, удаляет его, а также его контейнер, если тот становится пустым.
+     *
+     * @param element элемент.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void delete(final int element) {
+        final var slot = search(key(element));
+        if (slot < 0) return;
+        final @NotNull var container = containers[slot];
+        final var before = container.cardinality();
+        final @NotNull var removed = container.remove(element & 0xFFFF);
+        cardinality += removed.cardinality() - before;
+        if (removed.cardinality() > 0) {
+            containers[slot] = removed;
+            return;
+        }
+        System.arraycopy(keys, slot + 1, keys, slot, count - slot - 1);
+        System.arraycopy(containers, slot + 1, containers, slot, count - slot - 1);
+        containers[--count] = null;
+    }
+
+    /**
+     * Выполняет переданную операцию над текущим и переданным множествами под
+     * {@linkplain #lock() инструментом для управления доступом} текущего множества и
+     * {@linkplain #readLock() инструментом для управления доступом на чтение} переданного, сливая их контейнеры по
+     * ключам и сохраняя результат в текущем множестве. Возвращает текущее множество.
+     *
+     * @param set {@linkplain RoaringIntSet множество}.
+     * @param operation операция.
+     *
+     * @return Текущее множество.
+     *
+     * @throws NullException исключение проверки нулевого объекта (переданного множества).
+     * @throws CollectionException исключение коллекции.
+     * @since 1.0.0-RC1
+     */
+    private @NotNull RoaringIntSet combine(final @NotNull RoaringIntSet set,
+                                           final int operation) throws NullException, CollectionException {
+        Validator.notNull(set, "The set");
+        final @NotNull var lock = lock();
+        try {
+            lock.lockInterruptibly();
+            if (set == this) {
+                if (operation == RoaringContainer.AND_NOT || operation == RoaringContainer.XOR) reset();
+                return this;
+            }
+            final @NotNull var readLock = set.readLock();
+            readLock.lockInterruptibly();
+            try {
+                merge(set, operation);
+            } finally {
+                readLock.unlock();
+            }
+            return this;
+        } catch (final @NotNull CollectionException failure) {
+            throw failure;
+        } catch (final @NotNull Exception failure) {
+            throw new CollectionException(failure);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Сливает контейнеры текущего и переданного множеств по ключам, выполняя переданную операцию над контейнерами с
+     * общим ключом и отбрасывая пустые результаты. Контейнеры переданного множества копируются.
+     *
+     * @param set {@linkplain RoaringIntSet множество}.
+     * @param operation операция.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void merge(final @NotNull RoaringIntSet set, final int operation) {
+        final var length = Math.max(Math.min(count + set.count, RoaringContainer.SPAN), 4);
+        final var keys = new char[length];
+        final var containers = new RoaringContainer[length];
+        var slot = 0;
+        var left = 0;
+        var right = 0;
+        var cardinality = 0L;
+        while (left < count || right < set.count) {
+            final int key = left < count ? this.keys[left] : RoaringContainer.SPAN;
+            final int otherKey = right < set.count ? set.keys[right] : RoaringContainer.SPAN;
+            final RoaringContainer container;
+            if (key == otherKey) {
+                container = RoaringContainer.combine(this.containers[left++], set.containers[right++], operation);
+            } else if (key < otherKey) {
+                container = operation == RoaringContainer.AND ? null : this.containers[left];
+                left++;
+            } else {
+                final var copied = operation == RoaringContainer.OR || operation == RoaringContainer.XOR;
+                container = copied ? set.containers[right].copy() : null;
+                right++;
+            }
+            if (container == null || container.cardinality() == 0) continue;
+            keys[slot] = (char) Math.min(key, otherKey);
+            containers[slot++] = container;
+            cardinality += container.cardinality();
+        }
+        this.keys = keys;
+        this.containers = containers;
+        this.count = slot;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Возвращает ближайший к переданному значению элемент текущего множества в переданном направлении (не меньший при
+     * поиске по возрастанию или не больший при поиске по убыванию) или {@linkplain #NONE отсутствие элемента}.
+     *
+     * @param from значение, с которого начинается поиск.
+     * @param ascending параметр поиска по возрастанию.
+     *
+     * @return Элемент или {@linkplain #NONE отсутствие элемента}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private long find(final long from, final boolean ascending) {
+        if (from < Integer.MIN_VALUE || from > Integer.MAX_VALUE) return NONE;
+        final var element = (int) from;
+        final var key = key(element);
+        var slot = search(key);
+        if (slot >= 0) {
+            final @NotNull var container = containers[slot];
+            final var low = ascending ? container.next(element & 0xFFFF) : container.previous(element & 0xFFFF);
+            if (low >= 0) return high(key) | low;
+            slot = ascending ? slot + 1 : slot - 1;
+        } else {
+            slot = ascending ? -slot - 1 : -slot - 2;
+        }
+        if (slot < 0 || slot >= count) return NONE;
+        final @NotNull var container = containers[slot];
+        return high(keys[slot]) | (ascending ? container.next(0) : container.previous(RoaringContainer.SPAN - 1));
+    }
+
+    /**
+     * Итератор {@linkplain RoaringIntSet изменяемого сжатого множества элементов типа {@code int}}.
+     * <p>
+     * Хранит текущий элемент и находит соседние {@linkplain #find(long, boolean) поиском} по ключам контейнеров,
+     * поэтому {@linkplain #delete() удаление} и изменение множества между переходами не нарушают обход.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final class RoaringIterator extends IntAbstractMutableIterator {
+
+        /**
+         * Начальная позиция.
+         *
+         * @since 1.0.0-RC1
+         */
+        private static final long STARTING = Long.MIN_VALUE;
+
+        /**
+         * Конечная позиция.
+         *
+         * @since 1.0.0-RC1
+         */
+        private static final long ENDING = Long.MAX_VALUE;
+
+        /**
+         * Параметр прямого направления итерации (по возрастанию элементов).
+         *
+         * @since 1.0.0-RC1
+         */
+        private final boolean forward;
+
+        /**
+         * Текущий элемент, {@linkplain #STARTING начальная} или {@linkplain #ENDING конечная} позиция.
+         *
+         * @since 1.0.0-RC1
+         */
+        private long position = STARTING;
+
+        /**
+         * Параметр удаления элемента в текущей позиции.
+         *
+         * @since 1.0.0-RC1
+         */
+        private boolean deleted;
+
+        /**
+         * Кэшированный элемент.
+         *
+         * @since 1.0.0-RC1
+         */
+        private int cached;
+
+        /**
+         * Параметр существования кэшированного элемента.
+         *
+         * @since 1.0.0-RC1
+         */
+        private boolean hasCached;
+
+        /**
+         * Создаёт итератор на основе переданного параметра прямого направления итерации.
+         *
+         * @param forward параметр прямого направления итерации.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Contract("_ -> new")
+        private RoaringIterator(final boolean forward) {
+            super(RoaringIntSet.this.lock(), RoaringIntSet.this.readLock(), RoaringIntSet.this.stackless());
+            this.forward = forward;
+        }
+
+        @Override
+        public int current() throws IteratorElementGettingException {
+            if (!hasCurrent()) throw IteratorElementGettingException.create(stackless());
+            return (int) position;
+        }
+
+        @Override
+        public int cached() throws IteratorElementGettingException {
+            if (!hasCached) throw IteratorElementGettingException.create(stackless());
+            return cached;
+        }
+
+        @Override
+        @Contract("_ -> this")
+        public @NotNull IntMutableIterator cache(final int element) {
+            cached = element;
+            hasCached = true;
+            return this;
+        }
+
+        /**
+         * Генерирует {@linkplain IteratorElementChangingException исключение изменения элемента итератора на другой},
+         * поскольку позиция элемента множества определяется его значением.
+         *
+         * @param element элемент.
+         *
+         * @return Ничего.
+         *
+         * @throws IteratorElementChangingException исключение изменения элемента итератора на другой.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("_ -> fail")
+        public @NotNull IntMutableIterator change(final int element) throws IteratorElementChangingException {
+            throw new IteratorElementChangingException("Roaring set elements cannot be changed in place");
+        }
+
+        /**
+         * Если {@linkplain #hasCurrent() параметр существования текущего элемента} истинный, удаляет текущий элемент,
+         * в противном случае генерирует {@linkplain IteratorElementDeletingException исключение удаления элемента
+         * итератора}. Позиция итератора не изменяется, а {@linkplain #next() следующий переход} возвращает элемент,
+         * следующий за удалённым.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorElementDeletingException исключение удаления элемента итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator delete() throws IteratorElementDeletingException {
+            if (!hasCurrent()) throw IteratorElementDeletingException.create(stackless());
+            RoaringIntSet.this.delete((int) position);
+            deleted = true;
+            return this;
+        }
+
+        /**
+         * Генерирует {@linkplain IteratorElementPastingException исключение вставки элемента итератора}, поскольку
+         * позиция элемента множества определяется его значением.
+         *
+         * @param element элемент.
+         *
+         * @return Ничего.
+         *
+         * @throws IteratorElementPastingException исключение вставки элемента итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("_ -> fail")
+        public @NotNull IntMutableIterator paste(final int element) throws IteratorElementPastingException {
+            throw new IteratorElementPastingException("Roaring set elements cannot be pasted at a position");
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator next() throws IteratorPositionChangingException {
+            final var next = following();
+            if (next == NONE) throw IteratorPositionChangingException.create(stackless());
+            position = next;
+            deleted = false;
+            return this;
+        }
+
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator previous() throws IteratorPositionChangingException {
+            final var previous = preceding();
+            if (previous == NONE) throw IteratorPositionChangingException.create(stackless());
+            position = previous;
+            deleted = false;
+            return this;
+        }
+
+        /**
+         * Если {@linkplain #hasFirst() параметр существования первого элемента} истинный, изменяет текущую позицию
+         * итератора на первую — наименьший элемент в прямом направлении или наибольший в обратном, в противном случае
+         * генерирует {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}.
+         * Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator first() throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            return seek(forward);
+        }
+
+        /**
+         * Если {@linkplain #hasLast() параметр существования последнего элемента} истинный, изменяет текущую позицию
+         * итератора на последнюю — наибольший элемент в прямом направлении или наименьший в обратном, в противном
+         * случае генерирует {@linkplain IteratorPositionChangingException исключение изменения позиции итератора}.
+         * Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора.
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator last() throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            return seek(!forward);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на начальную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator start() {
+            position = STARTING;
+            deleted = false;
+            return this;
+        }
+
+        /**
+         * Изменяет текущую позицию итератора на конечную за постоянное время. Возвращает текущий итератор.
+         *
+         * @return Текущий итератор.
+         *
+         * @since 1.0.0-RC1
+         */
+        @Override
+        @Contract("-> this")
+        public @NotNull IntMutableIterator end() {
+            position = ENDING;
+            deleted = false;
+            return this;
+        }
+
+        @Override
+        public boolean hasCurrent() {
+            return !deleted && position != STARTING && position != ENDING;
+        }
+
+        @Override
+        public boolean hasCached() {
+            return hasCached;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return following() != NONE;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return preceding() != NONE;
+        }
+
+        @Override
+        public boolean hasFirst() {
+            return cardinality > 0;
+        }
+
+        @Override
+        public boolean hasCentral() {
+            return cardinality > 0;
+        }
+
+        @Override
+        public boolean hasLast() {
+            return cardinality > 0;
+        }
+
+        @Override
+        public boolean starting() {
+            return position == STARTING;
+        }
+
+        @Override
+        public boolean iterating() {
+            return hasCurrent();
+        }
+
+        @Override
+        public boolean ending() {
+            return position == ENDING;
+        }
+
+        /**
+         * Возвращает следующий в направлении итерации элемент или {@linkplain #NONE отсутствие элемента}.
+         *
+         * @return Следующий элемент или {@linkplain #NONE отсутствие элемента}.
+         *
+         * @since 1.0.0-RC1
+         */
+        private long following() {
+            if (position == ENDING) return NONE;
+            if (position == STARTING) return find(forward ? Integer.MIN_VALUE : Integer.MAX_VALUE, forward);
+            return find(forward ? position + 1 : position - 1, forward);
+        }
+
+        /**
+         * Возвращает предыдущий в направлении итерации элемент или {@linkplain #NONE отсутствие элемента}.
+         *
+         * @return Предыдущий элемент или {@linkplain #NONE отсутствие элемента}.
+         *
+         * @since 1.0.0-RC1
+         */
+        private long preceding() {
+            if (position == STARTING) return NONE;
+            if (position == ENDING) return find(forward ? Integer.MAX_VALUE : Integer.MIN_VALUE, !forward);
+            return find(forward ? position - 1 : position + 1, !forward);
+        }
+
+        /**
+         * Изменяет текущую позицию итератора под {@linkplain #readLock() инструментом для управления доступом на чтение}
+         * на наименьший или наибольший элемент множества.
+         *
+         * @param ascending параметр наименьшего, а не наибольшего элемента.
+         *
+         * @return Текущий итератор.
+         *
+         * @throws IteratorPositionChangingException исключение изменения позиции итератора (отсутствия элементов).
+         * @throws IteratorAuxiliaryException вспомогательное исключение итератора.
+         * @since 1.0.0-RC1
+         */
+        private @NotNull IntMutableIterator seek(
+                final boolean ascending) throws IteratorPositionChangingException, IteratorAuxiliaryException {
+            final @NotNull var lock = readLock();
+            try {
+                lock.lockInterruptibly();
+                final var element = find(ascending ? Integer.MIN_VALUE : Integer.MAX_VALUE, ascending);
+                if (element == NONE) throw IteratorPositionChangingException.create(stackless());
+                position = element;
+                deleted = false;
+                return this;
+            } catch (final @NotNull IteratorPositionChangingException failure) {
+                throw failure;
+            } catch (final @NotNull Exception failure) {
+                throw new IteratorAuxiliaryException(failure);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+    }
+
+}
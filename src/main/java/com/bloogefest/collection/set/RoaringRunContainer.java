@@ -0,0 +1,256 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.set;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * {@linkplain RoaringContainer Контейнер} на основе отсортированных серий последовательных младших частей элементов,
+ * каждая из которых хранится первым и последним элементом. Кэширует количество элементов. Если серий становится
+ * больше {@linkplain #MAX_RUNS 2048}, заменяется {@linkplain RoaringArrayContainer массивом} или
+ * {@linkplain RoaringBitmapContainer битовой картой}.
+ *
+ * @since 1.0.0-RC1
+ */
+final class RoaringRunContainer extends RoaringContainer {
+
+    /**
+     * Максимальное количество серий, больше которого {@linkplain RoaringBitmapContainer битовая карта} занимает
+     * меньше памяти.
+     *
+     * @since 1.0.0-RC1
+     */
+    static final int MAX_RUNS = 2048;
+
+    /**
+     * Первые и последние элементы серий, чередующиеся попарно.
+     *
+     * @since 1.0.0-RC1
+     */
+    private char @NotNull [] bounds;
+
+    /**
+     * Количество серий.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int count;
+
+    /**
+     * Количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int cardinality;
+
+    /**
+     * Создаёт контейнер из одной серии на основе переданных первой и последней младших частей элементов.
+     *
+     * @param first первая младшая часть элемента.
+     * @param last последняя младшая часть элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _ -> new")
+    RoaringRunContainer(final int first, final int last) {
+        this(new char[]{(char) first, (char) last}, 1, last - first + 1);
+    }
+
+    /**
+     * Создаёт контейнер на основе переданных границ, количества серий и количества элементов.
+     *
+     * @param bounds первые и последние элементы серий, чередующиеся попарно.
+     * @param count количество серий.
+     * @param cardinality количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_, _, _ -> new")
+    private RoaringRunContainer(final char @NotNull [] bounds, final int count, final int cardinality) {
+        this.bounds = bounds;
+        this.count = count;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Создаёт контейнер на основе серий с элементами переданного контейнера.
+     *
+     * @param container {@linkplain RoaringContainer контейнер}.
+     *
+     * @return Новый контейнер.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    static @NotNull RoaringRunContainer of(final @NotNull RoaringContainer container) {
+        final var lows = new int[container.cardinality()];
+        final var size = container.values(0, lows);
+        final var bounds = new char[Math.max(2 * container.runs(), 2)];
+        var count = 0;
+        for (var index = 0; index < size; index++) {
+            if (index > 0 && lows[index] == lows[index - 1] + 1) continue;
+            if (count > 0) bounds[2 * count - 1] = (char) lows[index - 1];
+            bounds[2 * count++] = (char) lows[index];
+        }
+        if (count > 0) bounds[2 * count - 1] = (char) lows[size - 1];
+        return new RoaringRunContainer(bounds, count, size);
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    boolean contains(final int low) {
+        final var index = find(low);
+        return index >= 0 && low <= bounds[2 * index + 1];
+    }
+
+    @Override
+    @NotNull RoaringContainer add(final int low) {
+        final var index = find(low);
+        if (index >= 0 && low <= bounds[2 * index + 1]) return this;
+        final var previous = index >= 0 && bounds[2 * index + 1] + 1 == low;
+        final var next = index + 1 < count && bounds[2 * index + 2] - 1 == low;
+        if (previous && next) {
+            bounds[2 * index + 1] = bounds[2 * index + 3];
+            delete(index + 1);
+        } else if (previous) {
+            bounds[2 * index + 1] = (char) low;
+        } else if (next) {
+            bounds[2 * index + 2] = (char) low;
+        } else {
+            insert(index + 1, low, low);
+        }
+        cardinality++;
+        return count > MAX_RUNS ? plain() : this;
+    }
+
+    @Override
+    @NotNull RoaringContainer remove(final int low) {
+        final var index = find(low);
+        if (index < 0 || low > bounds[2 * index + 1]) return this;
+        final int first = bounds[2 * index];
+        final int last = bounds[2 * index + 1];
+        if (first == last) {
+            delete(index);
+        } else if (low == first) {
+            bounds[2 * index] = (char) (low + 1);
+        } else if (low == last) {
+            bounds[2 * index + 1] = (char) (low - 1);
+        } else {
+            bounds[2 * index + 1] = (char) (low - 1);
+            insert(index + 1, low + 1, last);
+        }
+        cardinality--;
+        return count > MAX_RUNS ? plain() : this;
+    }
+
+    @Override
+    int next(final int low) {
+        final var index = find(low);
+        if (index >= 0 && low <= bounds[2 * index + 1]) return low;
+        return index + 1 < count ? bounds[2 * index + 2] : -1;
+    }
+
+    @Override
+    int previous(final int low) {
+        final var index = find(low);
+        return index < 0 ? -1 : Math.min(low, bounds[2 * index + 1]);
+    }
+
+    @Override
+    int values(final int high, final int @NotNull [] elements) {
+        var length = 0;
+        for (var index = 0; index < count; index++) {
+            final int last = bounds[2 * index + 1];
+            for (int low = bounds[2 * index]; low <= last; low++) elements[length++] = high | low;
+        }
+        return length;
+    }
+
+    @Override
+    int runs() {
+        return count;
+    }
+
+    @Override
+    @Contract("-> new")
+    @NotNull RoaringRunContainer copy() {
+        return new RoaringRunContainer(Arrays.copyOf(bounds, Math.max(2 * count, 2)), count, cardinality);
+    }
+
+    /**
+     * Возвращает новый контейнер на основе {@linkplain RoaringArrayContainer массива}, если количество элементов не
+     * больше {@linkplain #MAX_ARRAY 4096}, в противном случае — на основе
+     * {@linkplain RoaringBitmapContainer битовой карты}.
+     *
+     * @return Новый контейнер на основе массива или битовой карты.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Override
+    @Contract("-> new")
+    @NotNull RoaringContainer plain() {
+        return cardinality > MAX_ARRAY ? RoaringBitmapContainer.of(this) : RoaringArrayContainer.of(this);
+    }
+
+    /**
+     * Возвращает индекс последней серии, первый элемент которой не больше переданной младшей части элемента, находя
+     * её двоичным поиском, или {@code -1}, если такой серии нет.
+     *
+     * @param low младшая часть элемента.
+     *
+     * @return Индекс серии или {@code -1}.
+     *
+     * @since 1.0.0-RC1
+     */
+    private int find(final int low) {
+        var left = 0;
+        var right = count - 1;
+        while (left <= right) {
+            final var middle = left + right >>> 1;
+            if (bounds[2 * middle] <= low) left = middle + 1;
+            else right = middle - 1;
+        }
+        return right;
+    }
+
+    /**
+     * Вставляет серию с переданными первым и последним элементами по переданному индексу.
+     *
+     * @param index индекс серии.
+     * @param first первая младшая часть элемента.
+     * @param last последняя младшая часть элемента.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void insert(final int index, final int first, final int last) {
+        if (2 * count == bounds.length) bounds = Arrays.copyOf(bounds, 2 * (count + (count >> 1) + 1));
+        System.arraycopy(bounds, 2 * index, bounds, 2 * index + 2, 2 * (count - index));
+        bounds[2 * index] = (char) first;
+        bounds[2 * index + 1] = (char) last;
+        count++;
+    }
+
+    /**
+     * Удаляет серию по переданному индексу.
+     *
+     * @param index индекс серии.
+     *
+     * @since 1.0.0-RC1
+     */
+    private void delete(final int index) {
+        System.arraycopy(bounds, 2 * index + 2, bounds, 2 * index, 2 * (count - index - 1));
+        count--;
+    }
+
+}
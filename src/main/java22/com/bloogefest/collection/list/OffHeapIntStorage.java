@@ -0,0 +1,177 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.list;
+
+import com.bloogefest.annotation.analysis.Contract;
+import com.bloogefest.annotation.analysis.NotNull;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Хранилище элементов типа {@code int} вне кучи для {@linkplain OffHeapIntList списка элементов типа {@code int} вне
+ * кучи}. Эта версия из раздела {@code META-INF/versions/22} многоверсионного архива хранит элементы в
+ * {@linkplain MemorySegment сегменте памяти}, выделенном собственной {@linkplain Arena ареной}.
+ * <p>
+ * {@linkplain #close() Закрытие} закрывает {@linkplain Arena арену} и сразу освобождает память сегмента, не дожидаясь
+ * сборки мусора.
+ *
+ * @since 1.0.0-RC1
+ */
+final class OffHeapIntStorage {
+
+    /**
+     * Максимальная вместимость, ограниченная индексами {@linkplain OffHeapIntList списка}.
+     *
+     * @see #maxCapacity()
+     * @since 1.0.0-RC1
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * {@linkplain Arena Арена} сегмента памяти.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull Arena arena;
+
+    /**
+     * {@linkplain MemorySegment Сегмент памяти} элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final @NotNull MemorySegment segment;
+
+    /**
+     * Вместимость.
+     *
+     * @since 1.0.0-RC1
+     */
+    private final int capacity;
+
+    /**
+     * Создаёт хранилище на основе переданной вместимости в собственной
+     * {@linkplain Arena#ofShared() разделяемой арене}.
+     *
+     * @param capacity вместимость.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Contract("_ -> new")
+    OffHeapIntStorage(final int capacity) {
+        final var arena = Arena.ofShared();
+        try {
+            segment = arena.allocate((long) capacity * Integer.BYTES, Integer.BYTES);
+        } catch (final Throwable failure) {
+            arena.close();
+            throw failure;
+        }
+        this.arena = arena;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Возвращает максимальную вместимость. Значение возвращается методом, а не константой, чтобы вызывающий код
+     * использовал значение версии хранилища, выбранной во время выполнения.
+     *
+     * @return Максимальная вместимость.
+     *
+     * @since 1.0.0-RC1
+     */
+    static int maxCapacity() {
+        return MAX_CAPACITY;
+    }
+
+    /**
+     * Возвращает вместимость.
+     *
+     * @return Вместимость.
+     *
+     * @since 1.0.0-RC1
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Возвращает элемент по переданному индексу.
+     *
+     * @param index индекс.
+     *
+     * @return Элемент по переданному индексу.
+     *
+     * @since 1.0.0-RC1
+     */
+    int get(final int index) {
+        return segment.getAtIndex(ValueLayout.JAVA_INT, index);
+    }
+
+    /**
+     * Устанавливает переданный элемент по переданному индексу.
+     *
+     * @param index индекс.
+     * @param element элемент.
+     *
+     * @since 1.0.0-RC1
+     */
+    void set(final int index, final int element) {
+        segment.setAtIndex(ValueLayout.JAVA_INT, index, element);
+    }
+
+    /**
+     * Копирует переданное количество элементов, начиная с переданного индекса, в переданный массив, начиная с
+     * переданного смещения.
+     *
+     * @param index индекс.
+     * @param elements массив.
+     * @param offset смещение.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    void read(final int index, final int @NotNull [] elements, final int offset, final int length) {
+        MemorySegment.copy(segment, ValueLayout.JAVA_INT, (long) index * Integer.BYTES, elements, offset, length);
+    }
+
+    /**
+     * Перемещает переданное количество элементов с переданного индекса на переданный индекс. Диапазоны могут
+     * пересекаться.
+     *
+     * @param from исходный индекс.
+     * @param to целевой индекс.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    void move(final int from, final int to, final int length) {
+        MemorySegment.copy(segment, (long) from * Integer.BYTES, segment, (long) to * Integer.BYTES,
+                           (long) length * Integer.BYTES);
+    }
+
+    /**
+     * Копирует переданное количество первых элементов в переданное хранилище.
+     *
+     * @param target хранилище.
+     * @param length количество элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    void copy(final @NotNull OffHeapIntStorage target, final int length) {
+        MemorySegment.copy(segment, 0, target.segment, 0, (long) length * Integer.BYTES);
+    }
+
+    /**
+     * Закрывает хранилище, закрывая {@linkplain Arena арену} и освобождая память сегмента.
+     *
+     * @since 1.0.0-RC1
+     */
+    void close() {
+        arena.close();
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.list;
+
+import com.bloogefest.collection.CollectionException;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Тесты {@linkplain CompressedSortedIntList неизменяемого сжатого списка элементов типа {@code int}}.
+ *
+ * @since 1.0.0-RC1
+ */
+class CompressedSortedIntListTest {
+
+    /**
+     * Проверяет получение элементов, разности которых лежат на границах длин кода переменной длины, и занимаемые ими
+     * байты.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void varintBoundaries() {
+        final var deltas = new int[]{0, 127, 128, 16_383, 16_384, (1 << 21) - 1, 1 << 21, (1 << 28) - 1, 1 << 28};
+        final var elements = new int[deltas.length + 1];
+        for (var index = 0; index < deltas.length; index++) elements[index + 1] = elements[index] + deltas[index];
+        final var list = new CompressedSortedIntList(elements);
+        assertEquals(elements.length, list.size());
+        for (var index = 0; index < elements.length; index++) assertEquals(elements[index], list.get(index));
+        assertEquals(1 + 1 + 2 + 2 + 3 + 3 + 4 + 4 + 5 + Integer.BYTES * 2, list.bytes());
+    }
+
+    /**
+     * Проверяет разность, не помещающуюся в {@code int} со знаком, между наименьшим и наибольшим элементами.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void fullRangeDelta() {
+        final var list = new CompressedSortedIntList(new int[]{Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE});
+        assertEquals(Integer.MIN_VALUE, list.get(0));
+        assertEquals(-1, list.get(1));
+        assertEquals(0, list.get(2));
+        assertEquals(Integer.MAX_VALUE, list.get(3));
+        assertTrue(list.contains(Integer.MAX_VALUE));
+        assertFalse(list.contains(1));
+    }
+
+    /**
+     * Проверяет, что малые разности занимают по одному байту, а индекс пропусков — по два числа на блок.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void smallDeltasTakeOneByte() {
+        final var elements = new int[1_000];
+        for (var index = 0; index < elements.length; index++) elements[index] = index;
+        final var list = new CompressedSortedIntList(elements);
+        final var blocks = (elements.length - 1) / CompressedSortedIntList.BLOCK_SIZE + 1;
+        assertEquals(elements.length - blocks + (long) Integer.BYTES * 2 * blocks, list.bytes());
+    }
+
+    /**
+     * Проверяет получение, наличие и итерацию в обоих направлениях на случайных элементах нескольких блоков в
+     * сравнении с исходным массивом.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void getContainsAndIterationMatchSource() {
+        final var elements = sorted(new Random(1), 1_000);
+        final var list = new CompressedSortedIntList(elements);
+        for (var index = 0; index < elements.length; index++) assertEquals(elements[index], list.get(index));
+        for (final var element : elements) {
+            assertTrue(list.contains(element));
+            assertEquals(Arrays.binarySearch(elements, element + 1) >= 0, list.contains(element + 1));
+        }
+        final var forward = list.iterator(SequentialIterationDirection.FORWARD);
+        for (final var element : elements) assertEquals(element, forward.next().current());
+        assertFalse(forward.hasNext());
+        final var backward = list.iterator(SequentialIterationDirection.BACKWARD);
+        for (var index = elements.length - 1; index >= 0; index--) {
+            assertEquals(elements[index], backward.next().current());
+        }
+        assertFalse(backward.hasNext());
+    }
+
+    /**
+     * Проверяет переход итератора к первому не меньшему элементу в прямом направлении и к первому не большему — в
+     * обратном, в том числе за пределами элементов и на границах блоков.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void seekMatchesBinarySearch() {
+        final var random = new Random(2);
+        final var elements = sorted(random, 1_000);
+        final var list = new CompressedSortedIntList(elements);
+        final var forward = list.iterator(SequentialIterationDirection.FORWARD);
+        final var backward = list.iterator(SequentialIterationDirection.BACKWARD);
+        final var targets = new int[3 * elements.length + 4];
+        for (var index = 0; index < elements.length; index++) {
+            targets[3 * index] = elements[index];
+            targets[3 * index + 1] = elements[index] - 1;
+            targets[3 * index + 2] = elements[index] + 1;
+        }
+        targets[targets.length - 4] = Integer.MIN_VALUE;
+        targets[targets.length - 3] = Integer.MAX_VALUE;
+        targets[targets.length - 2] = elements[0] - 1;
+        targets[targets.length - 1] = elements[elements.length - 1] + 1;
+        for (final var target : targets) {
+            final var search = Arrays.binarySearch(elements, target);
+            final var ceiling = search >= 0 ? search : -search - 1;
+            final var floor = search >= 0 ? search : -search - 2;
+            forward.seek(target);
+            if (ceiling < elements.length) assertEquals(elements[ceiling], forward.current());
+            else assertTrue(forward.ending());
+            backward.seek(target);
+            if (floor >= 0) assertEquals(elements[floor], backward.current());
+            else assertTrue(backward.ending());
+        }
+    }
+
+    /**
+     * Проверяет, что после перехода итерация продолжается со следующего элемента, в том числе в следующем блоке.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void iterationContinuesAfterSeek() {
+        final var elements = new int[3 * CompressedSortedIntList.BLOCK_SIZE];
+        for (var index = 0; index < elements.length; index++) elements[index] = index * 10;
+        final var list = new CompressedSortedIntList(elements);
+        final var forward = list.iterator(SequentialIterationDirection.FORWARD);
+        forward.seek(elements[CompressedSortedIntList.BLOCK_SIZE - 1] - 5);
+        assertEquals(elements[CompressedSortedIntList.BLOCK_SIZE - 1], forward.current());
+        assertEquals(elements[CompressedSortedIntList.BLOCK_SIZE], forward.next().current());
+        final var backward = list.iterator(SequentialIterationDirection.BACKWARD);
+        backward.seek(elements[CompressedSortedIntList.BLOCK_SIZE] + 5);
+        assertEquals(elements[CompressedSortedIntList.BLOCK_SIZE], backward.current());
+        assertEquals(elements[CompressedSortedIntList.BLOCK_SIZE - 1], backward.next().current());
+    }
+
+    /**
+     * Проверяет отклонение неотсортированных элементов и недопустимых индексов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void unsortedElementsAndIllegalIndex() {
+        assertThrows(CollectionException.class, () -> new CompressedSortedIntList(new int[]{1, 3, 2}));
+        final var list = new CompressedSortedIntList(new int[]{1, 1, 2});
+        assertThrows(CollectionException.class, () -> list.get(-1));
+        assertThrows(CollectionException.class, () -> list.get(3));
+        final var empty = new CompressedSortedIntList(new int[0]);
+        assertEquals(0, empty.size());
+        assertFalse(empty.contains(0));
+        assertTrue(empty.iterator().seek(0).ending());
+    }
+
+    /**
+     * Создаёт и возвращает отсортированный массив случайных элементов с разностями разной длины кода.
+     *
+     * @param random генератор случайных чисел.
+     * @param length длина массива.
+     *
+     * @return Отсортированный массив случайных элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static int[] sorted(final Random random, final int length) {
+        final var elements = new int[length];
+        var element = -1_000_000;
+        for (var index = 0; index < length; index++) {
+            element += random.nextInt(1 << random.nextInt(20));
+            elements[index] = element;
+        }
+        return elements;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.list;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.StampedLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Тесты {@linkplain MutableArrayList изменяемого списка на основе массива}.
+ *
+ * @since 1.0.0-RC1
+ */
+class MutableArrayListTest {
+
+    /**
+     * Проверяет, что разделитель обходит снимок элементов, не затронутый сдвигом и заменой элементов списка после его
+     * создания.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void spliteratorTraversesSnapshot() {
+        final var list = list(100);
+        final var spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL));
+        final var iterator = list.iterator();
+        while (iterator.hasNext()) {
+            final var element = iterator.next().current();
+            if (element % 2 == 0) iterator.delete();
+            else iterator.change(-element);
+        }
+        final var elements = new ArrayList<Integer>();
+        spliterator.forEachRemaining(elements::add);
+        assertEquals(100, elements.size());
+        for (var index = 0; index < 100; index++) assertEquals(index, elements.get(index));
+    }
+
+    /**
+     * Проверяет, что оптимистичная итерация списка на основе {@linkplain StampedLock штампованного инструмента для
+     * управления доступом} посещает исходные элементы по порядку и ровно один раз, пока другой поток добавляет
+     * элементы в конец списка и увеличивает массив, а предикат останавливает итерацию.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void optimisticIterationUnderConcurrentAdds() throws InterruptedException {
+        final var list = new MutableArrayList<Integer>(1, new StampedLock(), false);
+        for (var element = 0; element < 10_000; element++) list.add(element);
+        final var failure = new AtomicReference<Throwable>();
+        final var writer = new Thread(() -> {
+            try {
+                for (var element = 0; element < 200_000; element++) list.add(-1);
+            } catch (final Throwable throwable) {
+                failure.set(throwable);
+            }
+        });
+        writer.start();
+        final var visited = new ArrayList<Integer>();
+        try {
+            list.iterate(element -> {
+                if (element < 0) return false;
+                visited.add(element);
+                return true;
+            });
+        } finally {
+            writer.join();
+        }
+        assertNull(failure.get());
+        assertEquals(10_000, visited.size());
+        for (var index = 0; index < 10_000; index++) assertEquals(index, visited.get(index));
+    }
+
+    /**
+     * Создаёт и возвращает список последовательных элементов от нуля.
+     *
+     * @param size размер списка.
+     *
+     * @return Список последовательных элементов от нуля.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static MutableArrayList<Integer> list(final int size) {
+        final var list = new MutableArrayList<Integer>(size);
+        for (var element = 0; element < size; element++) list.add(element);
+        return list;
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.list;
+
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import com.bloogefest.collection.iteration.SequentialIterationException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementChangingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementDeletingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementGettingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementPastingException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Тесты {@linkplain MutableLinkedList изменяемого связного списка}.
+ *
+ * @since 1.0.0-RC1
+ */
+class MutableLinkedListTest {
+
+    /**
+     * Проверяет, что разделитель обходит снимок элементов, не затронутый удалением узлов другим итератором, и
+     * сообщает точный размер частей.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void spliteratorTraversesSnapshot() {
+        final var list = list(9);
+        final var spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(9, spliterator.estimateSize());
+        final var iterator = list.iterator();
+        while (iterator.hasNext()) iterator.next().delete();
+        assertEquals(0, list.size());
+        final var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(9, prefix.estimateSize() + spliterator.estimateSize());
+        final var elements = new ArrayList<Integer>();
+        prefix.forEachRemaining(elements::add);
+        spliterator.forEachRemaining(elements::add);
+        assertEquals(9, elements.size());
+        for (var index = 0; index < 9; index++) assertEquals(index, elements.get(index));
+    }
+
+    /**
+     * Проверяет, что итератор, стоящий на узле, удалённом другим итератором, теряет текущий, следующий и предыдущий
+     * элементы, отклоняет операции с элементом и не затрагивает узел после его переиспользования, а другие итераторы
+     * продолжают работу.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void iteratorOnUnlinkedNodeIsInvalidated() {
+        final var list = list(5);
+        final var parked = list.iterator().next().next();
+        final var other = list.iterator().next().next().next();
+        final var deleter = list.iterator().next().next();
+        deleter.delete();
+        assertFalse(parked.hasCurrent());
+        assertFalse(parked.hasNext());
+        assertFalse(parked.hasPrevious());
+        assertThrows(IteratorElementGettingException.class, parked::current);
+        assertThrows(IteratorElementDeletingException.class, parked::delete);
+        assertThrows(IteratorElementChangingException.class, () -> parked.change(-1));
+        assertThrows(IteratorElementPastingException.class, () -> parked.paste(-1));
+        list.add(5);
+        assertFalse(parked.hasCurrent());
+        assertThrows(IteratorElementDeletingException.class, parked::delete);
+        assertEquals(List.of(0, 2, 3, 4, 5), elements(list));
+        assertEquals(2, other.current());
+        assertEquals(3, other.next().current());
+        assertEquals(0, parked.first().current());
+        assertEquals(2, parked.next().current());
+    }
+
+    /**
+     * Проверяет, что удаление через итератор оставляет его самого на допустимой позиции, а удаление всех элементов
+     * двумя итераторами по очереди сохраняет связи списка.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void deleteThroughTwoIteratorsKeepsLinks() {
+        final var list = list(6);
+        final var forward = list.iterator(SequentialIterationDirection.FORWARD);
+        final var backward = list.iterator(SequentialIterationDirection.BACKWARD);
+        for (var step = 0; step < 3; step++) {
+            forward.next().delete();
+            backward.next().delete();
+        }
+        assertEquals(0, list.size());
+        assertFalse(forward.hasNext());
+        assertFalse(backward.hasNext());
+        list.add(7).add(8);
+        assertEquals(List.of(7, 8), elements(list));
+        assertEquals(7, forward.next().current());
+        assertEquals(8, backward.next().current());
+    }
+
+    /**
+     * Проверяет, что параллельная итерация посещает каждый элемент ровно один раз при разных уровнях параллелизма.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void parallelIterateVisitsEveryElement() {
+        final var list = list(100_000);
+        for (final var parallelism : new int[]{1, 2, 4, 7}) {
+            final var count = new AtomicInteger();
+            final var sum = new LongAdder();
+            list.parallelIterate(element -> {
+                count.incrementAndGet();
+                sum.add(element);
+            }, parallelism);
+            assertEquals(100_000, count.get());
+            assertEquals(100_000L * 99_999 / 2, sum.sum());
+        }
+        assertEquals(100_000L * 99_999 / 2, list.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    /**
+     * Проверяет, что первая неудача параллельной итерации передаётся в исключении последовательной итерации, а
+     * недопустимый уровень параллелизма отклоняется.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void parallelIterateFailures() {
+        final var list = list(10_000);
+        final var exception = assertThrows(SequentialIterationException.class, () -> list.parallelIterate(element -> {
+            if (element % 1_000 == 0) throw new IllegalStateException(Integer.toString(element));
+        }, 4));
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+        assertThrows(SequentialIterationException.class, () -> list.parallelIterate(element -> {}, 0));
+    }
+
+    /**
+     * Создаёт и возвращает список последовательных элементов от нуля.
+     *
+     * @param size размер списка.
+     *
+     * @return Список последовательных элементов от нуля.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static MutableLinkedList<Integer> list(final int size) {
+        final var list = new MutableLinkedList<Integer>();
+        for (var element = 0; element < size; element++) list.add(element);
+        return list;
+    }
+
+    /**
+     * Создаёт и возвращает копию элементов переданного списка в прямом направлении.
+     *
+     * @param list список.
+     *
+     * @return Копия элементов переданного списка.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static List<Integer> elements(final MutableLinkedList<Integer> list) {
+        final var elements = new ArrayList<Integer>();
+        final var iterator = list.iterator();
+        while (iterator.hasNext()) elements.add(iterator.next().current());
+        return elements;
+    }
+
+}
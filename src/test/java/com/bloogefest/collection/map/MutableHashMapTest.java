@@ -0,0 +1,191 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.map;
+
+import com.bloogefest.collection.iteration.iterator.IteratorElementChangingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementPastingException;
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.locks.StampedLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Тесты {@linkplain MutableHashMap изменяемого отображения на основе хеш-таблицы}.
+ *
+ * @since 1.0.0-RC1
+ */
+class MutableHashMapTest {
+
+    /**
+     * Ключ с заданным хеш-кодом, позволяющий получить одинаковые управляющие байты и общую последовательность
+     * пробирования.
+     *
+     * @param hash хеш-код.
+     * @param id идентификатор.
+     *
+     * @since 1.0.0-RC1
+     */
+    private record Key(int hash, int id) {
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+    /**
+     * Проверяет связывание, получение и удаление на случайных операциях в сравнении с
+     * {@linkplain HashMap стандартным отображением}, в том числе с удалёнными ячейками и перестроением таблицы.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void putGetRemoveMatchReference() {
+        final var random = new Random(1);
+        final var map = new MutableHashMap<Integer, Integer>(2);
+        final var reference = new HashMap<Integer, Integer>();
+        for (var step = 0; step < 50_000; step++) {
+            final var key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                reference.remove(key);
+            } else {
+                map.put(key, step);
+                reference.put(key, step);
+            }
+        }
+        assertEquals(reference.size(), map.size());
+        for (var key = 0; key < 2_000; key++) assertEquals(reference.get(key), map.get(key));
+    }
+
+    /**
+     * Проверяет поиск ключей с одинаковыми управляющими байтами, занимающих несколько групп: совпадения байтов
+     * различаются сравнением ключей, а удалённые ячейки не прерывают пробирование.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void matchAndEraseAcrossGroupsOfEqualTags() {
+        final var map = new MutableHashMap<Key, Integer>(64);
+        for (var id = 0; id < 40; id++) map.put(new Key(42, id), id);
+        for (var id = 0; id < 40; id += 2) map.remove(new Key(42, id));
+        assertEquals(20, map.size());
+        for (var id = 0; id < 40; id++) assertEquals(id % 2 == 0 ? null : id, map.get(new Key(42, id)));
+        for (var id = 0; id < 40; id += 2) map.put(new Key(42, id), -id);
+        assertEquals(40, map.size());
+        for (var id = 0; id < 40; id++) assertEquals(id % 2 == 0 ? -id : id, map.get(new Key(42, id)));
+    }
+
+    /**
+     * Проверяет, что постоянное добавление новых и удаление старых ключей при малом размере освобождает удалённые
+     * ячейки перестроением таблицы и не теряет записи.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void rehashReclaimsDeletedSlots() {
+        final var map = new MutableHashMap<Integer, Integer>(16);
+        for (var key = 0; key < 100_000; key++) {
+            map.put(key, key);
+            if (key >= 10) map.remove(key - 10);
+        }
+        assertEquals(10, map.size());
+        for (var key = 0; key < 100_000; key++) assertEquals(key >= 99_990 ? key : null, map.get(key));
+    }
+
+    /**
+     * Проверяет перестроение таблицы с увеличением, сохраняющее все записи.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void rehashGrowsTable() {
+        final var map = new MutableHashMap<Integer, String>(1, 0.5f);
+        for (var key = 0; key < 10_000; key++) map.put(key, Integer.toString(key));
+        assertEquals(10_000, map.size());
+        for (var key = 0; key < 10_000; key++) assertEquals(Integer.toString(key), map.get(key));
+        assertNull(map.get(10_000));
+    }
+
+    /**
+     * Проверяет итерацию записей с удалением и заменой значений через итератор.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void iteratorDeletesAndChangesEntries() {
+        final var map = new MutableHashMap<Integer, Integer>();
+        for (var key = 0; key < 100; key++) map.put(key, key);
+        final var visited = new HashSet<Integer>();
+        final var iterator = map.iterator();
+        while (iterator.hasNext()) {
+            final var entry = iterator.next().current();
+            assertTrue(visited.add(entry.key()));
+            if (entry.key() % 2 == 0) iterator.delete();
+            else iterator.change(new Entry<>(entry.key(), -entry.value()));
+        }
+        assertEquals(100, visited.size());
+        assertEquals(50, map.size());
+        for (var key = 0; key < 100; key++) assertEquals(key % 2 == 0 ? null : -key, map.get(key));
+        assertTrue(map.contains(new Entry<>(1, -1)));
+        assertFalse(map.contains(new Entry<>(1, 1)));
+    }
+
+    /**
+     * Проверяет, что через итератор нельзя изменить ключ записи или вставить запись.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void changeOfKeyAndPasteFail() {
+        final var map = new MutableHashMap<Integer, Integer>().put(1, 1);
+        final var iterator = map.iterator().next();
+        assertThrows(IteratorElementChangingException.class, () -> iterator.change(new Entry<>(2, 1)));
+        assertThrows(IteratorElementPastingException.class, () -> iterator.paste(new Entry<>(2, 1)));
+        assertEquals(1, map.get(1));
+        assertFalse(map.containsKey(2));
+    }
+
+    /**
+     * Проверяет оптимистичное получение значений отображения на основе
+     * {@linkplain StampedLock штампованного инструмента для управления доступом}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void optimisticGet() {
+        final var map = new MutableHashMap<Integer, Integer>(4, 0.875f, new StampedLock());
+        for (var key = 0; key < 1_000; key++) map.put(key, key * 2);
+        for (var key = 0; key < 1_000; key += 3) map.remove(key);
+        for (var key = 0; key < 1_000; key++) assertEquals(key % 3 == 0 ? null : key * 2, map.get(key));
+    }
+
+    /**
+     * Проверяет отклонение нулевых ключей и значений.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void nullKeysAndValues() {
+        final var map = new MutableHashMap<Integer, Integer>();
+        assertThrows(NullException.class, () -> map.put(null, 1));
+        assertThrows(NullException.class, () -> map.put(1, null));
+        assertThrows(NullException.class, () -> map.get(null));
+        assertTrue(map.empty());
+    }
+
+}
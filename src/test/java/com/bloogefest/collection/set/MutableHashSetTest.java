@@ -0,0 +1,269 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.set;
+
+import com.bloogefest.collection.CollectionException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementChangingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementDeletingException;
+import com.bloogefest.collection.iteration.iterator.IteratorElementPastingException;
+import com.bloogefest.common.validation.NullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Тесты {@linkplain MutableHashSet изменяемого множества на основе хеш-таблицы}.
+ *
+ * @since 1.0.0-RC1
+ */
+class MutableHashSetTest {
+
+    /**
+     * Ключ с заданным хеш-кодом, позволяющий собрать все ключи в одну цепочку пробирования.
+     *
+     * @param hash хеш-код.
+     * @param id идентификатор.
+     *
+     * @since 1.0.0-RC1
+     */
+    private record Key(int hash, int id) {
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+    /**
+     * Проверяет добавление, удаление и проверку присутствия на случайных операциях в сравнении с
+     * {@linkplain HashSet стандартным множеством}, в том числе с увеличением таблицы.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void addRemoveContainsMatchReference() {
+        final var random = new Random(1);
+        final var set = new MutableHashSet<Integer>(2);
+        final var reference = new HashSet<Integer>();
+        for (var step = 0; step < 20_000; step++) {
+            final var element = random.nextInt(1_000) - 100;
+            if (random.nextInt(3) == 0) {
+                set.remove(element);
+                reference.remove(element);
+            } else {
+                set.add(element);
+                reference.add(element);
+            }
+        }
+        assertEquals(reference.size(), set.size());
+        for (var element = -100; element < 900; element++) {
+            assertEquals(reference.contains(element), set.contains(element));
+        }
+    }
+
+    /**
+     * Проверяет, что удаление через итератор со сдвигом назад не пропускает и не повторяет оставшиеся элементы.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void deleteDuringIterationVisitsEveryElementOnce() {
+        final var random = new Random(2);
+        for (var round = 0; round < 500; round++) {
+            final var set = new MutableHashSet<Integer>(4);
+            final var reference = new HashSet<Integer>();
+            final var count = random.nextInt(100);
+            for (var index = 0; index < count; index++) {
+                final var element = random.nextInt(256);
+                set.add(element);
+                reference.add(element);
+            }
+            final var visited = new HashSet<Integer>();
+            final var kept = new HashSet<Integer>();
+            final var iterator = set.iterator();
+            while (iterator.hasNext()) {
+                final var element = iterator.next().current();
+                assertTrue(visited.add(element), "Visited twice: " + element);
+                if (random.nextBoolean()) iterator.delete();
+                else kept.add(element);
+            }
+            assertEquals(reference, visited);
+            assertEquals(kept.size(), set.size());
+            for (final var element : reference) assertEquals(kept.contains(element), set.contains(element));
+        }
+    }
+
+    /**
+     * Проверяет удаление через итератор в цепочке одинаковых хешей, перенесённой через конец таблицы: сдвиг назад
+     * переносит непройденные элементы из начала таблицы в пройденные ячейки конца, и итератор получает их из очереди
+     * перенесённых элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void deleteDuringIterationFollowsElementsWrappedAroundTable() {
+        for (var hash = 0; hash < 64; hash++) {
+            final var set = new MutableHashSet<Key>(8);
+            final var reference = new HashSet<Key>();
+            for (var id = 0; id < 10; id++) {
+                final var key = new Key(hash, id);
+                set.add(key);
+                reference.add(key);
+            }
+            final var visited = new HashSet<Key>();
+            final var kept = new HashSet<Key>();
+            final var iterator = set.iterator();
+            while (iterator.hasNext()) {
+                final var key = iterator.next().current();
+                assertTrue(visited.add(key), "Visited twice: " + key);
+                if (visited.size() % 3 != 0) iterator.delete();
+                else kept.add(key);
+            }
+            assertEquals(reference, visited);
+            assertEquals(3, set.size());
+            for (final var key : reference) assertEquals(kept.contains(key), set.contains(key));
+        }
+    }
+
+    /**
+     * Проверяет, что удаление всех элементов через итератор опустошает множество, а повторное удаление текущего
+     * элемента недопустимо.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void deleteEverythingThroughIterator() {
+        final var set = new MutableHashSet<Key>(8);
+        for (var id = 0; id < 12; id++) set.add(new Key(7, id));
+        final var iterator = set.iterator();
+        var visited = 0;
+        while (iterator.hasNext()) {
+            iterator.next().delete();
+            assertThrows(IteratorElementDeletingException.class, iterator::delete);
+            visited++;
+        }
+        assertEquals(12, visited);
+        assertTrue(set.empty());
+    }
+
+    /**
+     * Проверяет, что элементы множества нельзя изменить или вставить через итератор.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void changeAndPasteFail() {
+        final var set = new MutableHashSet<Integer>().add(1);
+        final var iterator = set.iterator().next();
+        assertThrows(IteratorElementChangingException.class, () -> iterator.change(2));
+        assertThrows(IteratorElementPastingException.class, () -> iterator.paste(2));
+        assertTrue(set.contains(1));
+        assertFalse(set.contains(2));
+    }
+
+    /**
+     * Проверяет, что итерация множества на основе {@linkplain StampedLock штампованного инструмента для управления
+     * доступом} посещает каждый неизменный элемент ровно один раз, пока другой поток добавляет и удаляет элементы,
+     * вызывая перестроение таблицы.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void iterateVisitsStableElementsOnceUnderConcurrentChanges() throws InterruptedException {
+        final var set = new MutableHashSet<Integer>(16, 0.875f, new StampedLock(), false);
+        for (var element = 0; element < 1_000; element++) set.add(element);
+        final var running = new AtomicBoolean(true);
+        final var failure = new AtomicReference<Throwable>();
+        final var writer = new Thread(() -> {
+            try {
+                for (var element = -1; running.get(); element--) {
+                    set.add(element);
+                    if (element <= -100) set.remove(element + 99);
+                }
+            } catch (final Throwable throwable) {
+                failure.set(throwable);
+            }
+        });
+        writer.start();
+        try {
+            for (var round = 0; round < 200; round++) {
+                final var visited = new HashSet<Integer>();
+                set.iterate(element -> {
+                    if (element >= 0) assertTrue(visited.add(element));
+                });
+                assertEquals(1_000, visited.size());
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+        assertNull(failure.get());
+    }
+
+    /**
+     * Проверяет, что разделитель и поток обходят снимок элементов, не затронутый удалением и перестроением таблицы
+     * после их создания.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void spliteratorAndStreamTraverseSnapshot() {
+        final var set = new MutableHashSet<Integer>();
+        for (var element = 0; element < 1_000; element++) set.add(element);
+        final var spliterator = set.spliterator();
+        final var stream = set.parallelStream();
+        for (var element = 0; element < 1_000; element += 2) set.remove(element);
+        for (var element = 1_000; element < 5_000; element++) set.add(element);
+        assertEquals(1_000, spliterator.estimateSize());
+        final var visited = new HashSet<Integer>();
+        spliterator.forEachRemaining(element -> assertTrue(visited.add(element)));
+        assertEquals(1_000, visited.size());
+        assertEquals(1_000L * 999 / 2, stream.mapToLong(Integer::longValue).sum());
+    }
+
+    /**
+     * Проверяет поддержку нулевых элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void nullElements() {
+        assertThrows(NullException.class, () -> new MutableHashSet<Integer>().add(null));
+        final var set = new MutableHashSet<Integer>(new ReentrantLock(), true).add(null).add(0);
+        assertTrue(set.contains(null));
+        assertEquals(2, set.size());
+        set.remove(null);
+        assertFalse(set.contains(null));
+        assertTrue(set.contains(0));
+    }
+
+    /**
+     * Проверяет отклонение недопустимых ожидаемого количества элементов и коэффициента заполнения.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void illegalCapacityAndLoadFactor() {
+        assertThrows(CollectionException.class, () -> new MutableHashSet<Integer>(-1));
+        assertThrows(CollectionException.class, () -> new MutableHashSet<Integer>(16, 0f));
+        assertThrows(CollectionException.class, () -> new MutableHashSet<Integer>(16, 1f));
+        assertThrows(CollectionException.class, () -> new MutableHashSet<Integer>(16, Float.NaN));
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.bloogefest.collection.set;
+
+import com.bloogefest.collection.CollectionException;
+import com.bloogefest.collection.iteration.SequentialIterationDirection;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Тесты {@linkplain RoaringIntSet сжатого множества элементов типа {@code int}} и его контейнеров.
+ *
+ * @since 1.0.0-RC1
+ */
+class RoaringIntSetTest {
+
+    /**
+     * Проверяет переход контейнера массива в контейнер битовой карты при превышении
+     * {@linkplain RoaringContainer#MAX_ARRAY наибольшего размера массива} и обратный переход при удалении.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void arrayToBitmapAndBack() {
+        RoaringContainer container = new RoaringArrayContainer();
+        for (var low = 0; low < RoaringContainer.MAX_ARRAY; low++) container = container.add(2 * low);
+        assertInstanceOf(RoaringArrayContainer.class, container);
+        container = container.add(1);
+        assertInstanceOf(RoaringBitmapContainer.class, container);
+        assertEquals(RoaringContainer.MAX_ARRAY + 1, container.cardinality());
+        for (var low = 0; low < RoaringContainer.MAX_ARRAY; low++) assertTrue(container.contains(2 * low));
+        assertTrue(container.contains(1));
+        assertFalse(container.contains(3));
+        container = container.remove(0);
+        assertInstanceOf(RoaringArrayContainer.class, container);
+        assertEquals(RoaringContainer.MAX_ARRAY, container.cardinality());
+        assertTrue(container.contains(1));
+        assertFalse(container.contains(0));
+        assertTrue(container.contains(2 * RoaringContainer.MAX_ARRAY - 2));
+    }
+
+    /**
+     * Проверяет переход контейнера серий в обычное представление при превышении
+     * {@linkplain RoaringRunContainer#MAX_RUNS наибольшего количества серий} и выбор представления оптимизацией.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void runContainerTransitions() {
+        RoaringContainer container = new RoaringRunContainer(0, RoaringContainer.SPAN - 1);
+        assertEquals(RoaringContainer.SPAN, container.cardinality());
+        assertEquals(1, container.runs());
+        assertInstanceOf(RoaringRunContainer.class, container.optimize());
+        assertInstanceOf(RoaringBitmapContainer.class, container.copy().plain());
+        for (var low = 1; low < 2 * RoaringRunContainer.MAX_RUNS - 1; low += 2) {
+            container = container.remove(low);
+            assertInstanceOf(RoaringRunContainer.class, container);
+        }
+        assertEquals(RoaringRunContainer.MAX_RUNS, container.runs());
+        container = container.remove(2 * RoaringRunContainer.MAX_RUNS - 1);
+        assertInstanceOf(RoaringBitmapContainer.class, container);
+        assertEquals(RoaringRunContainer.MAX_RUNS + 1, container.runs());
+        assertEquals(RoaringContainer.SPAN - RoaringRunContainer.MAX_RUNS, container.cardinality());
+        container = new RoaringRunContainer(0, 0);
+        for (var low = 2; low <= 2 * RoaringRunContainer.MAX_RUNS; low += 2) container = container.add(low);
+        assertInstanceOf(RoaringArrayContainer.class, container);
+        assertEquals(RoaringRunContainer.MAX_RUNS + 1, container.cardinality());
+        for (var low = 0; low <= 2 * RoaringRunContainer.MAX_RUNS + 1; low++) {
+            assertEquals(low % 2 == 0, container.contains(low));
+        }
+        assertInstanceOf(RoaringArrayContainer.class, container.optimize());
+        container = new RoaringArrayContainer();
+        for (var low = 100; low < 200; low++) container = container.add(low);
+        assertInstanceOf(RoaringRunContainer.class, container.optimize());
+        assertEquals(100, container.optimize().cardinality());
+    }
+
+    /**
+     * Проверяет содержимое множества в сравнении с {@linkplain TreeSet стандартным множеством} на случайных
+     * операциях, переводящих контейнеры между представлениями.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void contentsMatchReferenceAcrossTransitions() {
+        final var random = new Random(1);
+        final var set = new RoaringIntSet();
+        final var reference = new TreeSet<Integer>();
+        for (var step = 0; step < 60_000; step++) {
+            final var element = random.nextInt(3 * RoaringContainer.SPAN) - RoaringContainer.SPAN;
+            switch (random.nextInt(8)) {
+                case 0 -> {
+                    set.remove(element);
+                    reference.remove(element);
+                }
+                case 1 -> {
+                    final var last = element + random.nextInt(300);
+                    set.addRange(element, last);
+                    for (var range = element; range <= last; range++) reference.add(range);
+                }
+                case 2 -> set.optimize();
+                default -> {
+                    set.add(element);
+                    reference.add(element);
+                }
+            }
+        }
+        assertMatches(reference, set);
+    }
+
+    /**
+     * Проверяет пересечение, объединение, разность и симметрическую разность разреженных, плотных и сплошных множеств
+     * в сравнении с {@linkplain TreeSet стандартным множеством}.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void setOperationsMatchReference() {
+        final var random = new Random(2);
+        final var references = new ArrayList<TreeSet<Integer>>();
+        final var sets = new ArrayList<RoaringIntSet>();
+        for (final var density : new int[]{64, 4, 1}) {
+            final var reference = new TreeSet<Integer>();
+            final var set = new RoaringIntSet();
+            for (var element = -RoaringContainer.SPAN; element < 2 * RoaringContainer.SPAN; element++) {
+                if (random.nextInt(density) != 0) continue;
+                reference.add(element);
+                set.add(element);
+            }
+            references.add(reference);
+            sets.add(set.optimize());
+        }
+        for (var left = 0; left < sets.size(); left++) {
+            for (var right = 0; right < sets.size(); right++) {
+                final var and = new TreeSet<>(references.get(left));
+                and.retainAll(references.get(right));
+                assertMatches(and, new RoaringIntSet(sets.get(left)).and(sets.get(right)));
+                final var or = new TreeSet<>(references.get(left));
+                or.addAll(references.get(right));
+                assertMatches(or, new RoaringIntSet(sets.get(left)).or(sets.get(right)));
+                final var andNot = new TreeSet<>(references.get(left));
+                andNot.removeAll(references.get(right));
+                assertMatches(andNot, new RoaringIntSet(sets.get(left)).andNot(sets.get(right)));
+                final var xor = new TreeSet<>(or);
+                xor.removeAll(and);
+                assertMatches(xor, new RoaringIntSet(sets.get(left)).xor(sets.get(right)));
+            }
+        }
+    }
+
+    /**
+     * Проверяет удаление через итератор в обоих направлениях, в том числе отрицательных элементов.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void deleteDuringIteration() {
+        for (final var direction : SequentialIterationDirection.values()) {
+            final var set = new RoaringIntSet().addRange(-5_000, 5_000);
+            final var reference = new TreeSet<Integer>();
+            final var iterator = set.iterator(direction);
+            var previous = 0;
+            var count = 0;
+            while (iterator.hasNext()) {
+                final var element = iterator.next().current();
+                if (count++ > 0) assertTrue(direction == SequentialIterationDirection.FORWARD
+                                            ? element > previous : element < previous);
+                previous = element;
+                if (element % 3 == 0) iterator.delete();
+                else reference.add(element);
+            }
+            assertEquals(10_001, count);
+            assertMatches(reference, set);
+        }
+    }
+
+    /**
+     * Проверяет отклонение диапазона с первым элементом больше последнего.
+     *
+     * @since 1.0.0-RC1
+     */
+    @Test
+    void illegalRange() {
+        assertThrows(CollectionException.class, () -> new RoaringIntSet().addRange(1, 0));
+    }
+
+    /**
+     * Проверяет, что множество содержит те же элементы в том же порядке, что и переданное стандартное множество, при
+     * итерации в обоих направлениях.
+     *
+     * @param reference стандартное множество.
+     * @param set множество.
+     *
+     * @since 1.0.0-RC1
+     */
+    private static void assertMatches(final TreeSet<Integer> reference, final RoaringIntSet set) {
+        assertEquals(reference.size(), set.cardinality());
+        final var forward = set.iterator(SequentialIterationDirection.FORWARD);
+        for (final var element : reference) assertEquals(element, forward.next().current());
+        assertFalse(forward.hasNext());
+        final var backward = set.iterator(SequentialIterationDirection.BACKWARD);
+        for (final var element : reference.descendingSet()) assertEquals(element, backward.next().current());
+        assertFalse(backward.hasNext());
+        for (final var element : reference) assertTrue(set.contains(element));
+    }
+
+}